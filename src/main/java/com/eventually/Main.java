@@ -1,7 +1,7 @@
 package com.eventually;
 import com.eventually.service.*;
 import javafx.application.Application;
-import javafx.scene.image.Image;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -37,15 +37,23 @@ public class Main extends Application {
     public void start(Stage primaryStage) {
         try {
             this.primaryStage = primaryStage;
+            RecursosCompartilhados.getInstancia();
             this.usuarioCadastroService = UsuarioCadastroService.getInstancia();
             usuarioCadastroService.criarLista();
+            try {
+                PersistenciaService.getInstancia().iniciar();
+            } catch (IllegalStateException e) {
+                sistemaDeLogger.error("Encerrando: os dados salvos não puderam ser carregados.");
+                Platform.exit();
+                return;
+            }
             usuarioCadastroService.inicializarDadosDeTeste(); // preciso apagar depois
             this.eventoCriacaoService = EventoCriacaoService.getInstancia();
             eventoCriacaoService.criarLista();
             this.navegacaoService = new NavegacaoService(primaryStage);
             navegacaoService.navegarParaLogin();
 
-            primaryStage.getIcons().add(new Image(getClass().getResource("/images/app-icon.png").toExternalForm()));
+            primaryStage.getIcons().add(RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.ICONE_APP));
             primaryStage.setResizable(true);
             primaryStage.centerOnScreen();
             primaryStage.setMaximized(true);
@@ -56,6 +64,14 @@ public class Main extends Application {
         }
     }
 
+    /**
+     * Chamado pelo JavaFX no encerramento da aplicação; grava os registros pendentes do log de persistência.
+     */
+    @Override
+    public void stop() {
+        PersistenciaService.getInstancia().encerrar();
+    }
+
     /**
      * O método principal que serve como ponto de entrada para a aplicação Java.
      * Ele chama o método {@code launch()} da classe {@code Application},
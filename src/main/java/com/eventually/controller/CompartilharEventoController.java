@@ -3,6 +3,7 @@ package com.eventually.controller;
 import com.eventually.model.EventoModel;
 import com.eventually.model.UsuarioModel;
 import com.eventually.service.AlertaService;
+import com.eventually.service.ArmazemImagens;
 import com.eventually.service.EventoLeituraService;
 import com.eventually.view.HomeView;
 import com.eventually.view.modal.CompartilharEventoModal;
@@ -75,7 +76,7 @@ public class CompartilharEventoController {
     }
 
     public void compartilharNoTwitter() {
-        Image imagemDoEvento = evento.imagem();
+        Image imagemDoEvento = ArmazemImagens.getInstancia().fotoDoEvento(evento.hashFoto());
         String nomeEvento = evento.titulo();
 
         String fraseAleatoria = FRASES_COMPARTILHAMENTO.get(random.nextInt(FRASES_COMPARTILHAMENTO.size()));
@@ -33,8 +33,6 @@ public class CriaEventoController {
     private File arquivoFinal;
     private Image imageFinal;
 
-    private Runnable onSucessoCallback;
-
     private AlertaService alerta =new AlertaService();
 
     private static final Logger sistemaDeLogger = LoggerFactory.getLogger(CriaEventoController.class);
@@ -54,13 +52,6 @@ public class CriaEventoController {
         configManipuladoresEventoCriaEvento();
     }
 
-    /**
-     * Define uma ação (callback) a ser executada quando o evento é criado com sucesso.
-     * @param callback A ação a ser executada.
-     */
-    public void setOnSucesso(Runnable callback) {
-        this.onSucessoCallback = callback;
-    }
     /**
      * Configura os manipuladores de evento para os componentes do modal criação de evento.
      * Este método associa as ações dos botões e do modal e, em caso de falha na configuração
@@ -138,9 +129,6 @@ public class CriaEventoController {
 
             if (criacaoFoiOk) {
                 sistemaDeLogger.info("EventoH criado com sucesso.");
-                if (onSucessoCallback != null) {
-                    onSucessoCallback.run();
-                }
                 processarFecharModal();
             }
         } catch (Exception ex) {
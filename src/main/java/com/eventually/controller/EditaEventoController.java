@@ -4,6 +4,7 @@ import com.eventually.dto.EventoEdicaoDto;
 import com.eventually.model.Comunidade;
 import com.eventually.model.FormatoSelecionado;
 import com.eventually.service.AlertaService;
+import com.eventually.service.ArmazemImagens;
 import com.eventually.service.EventoEdicaoService;
 import com.eventually.view.HomeView;
 import com.eventually.view.modal.EditaEventoModal;
@@ -31,17 +32,14 @@ public class EditaEventoController {
     private final HomeView.EventoH eventoParaEditar;
     private final EventoEdicaoService eventoEdicaoService;
     private AlertaService alertaService = new AlertaService();
-    private Runnable aoFecharCallback;
 
     /**
      * Construtor que estabelece as conexões entre a View, o Model e o Service.
      *
      * @param view             A instância do modal de edição.
      * @param eventoParaEditar O objeto de evento a ser modificado.
-     * @param aoSalvarCallback
      */
-    public EditaEventoController(EditaEventoModal view, HomeView.EventoH eventoParaEditar, Runnable aoSalvarCallback) {
-        this.aoFecharCallback = aoSalvarCallback;
+    public EditaEventoController(EditaEventoModal view, HomeView.EventoH eventoParaEditar) {
         this.view = view;
         this.eventoParaEditar = eventoParaEditar;
         this.eventoEdicaoService = EventoEdicaoService.getInstance();
@@ -73,9 +71,7 @@ public class EditaEventoController {
         view.getFldHoraInicio().setPromptText("Atual: " + eventoParaEditar.horaI());
         view.getFldHoraFinal().setPromptText("Atual: " + eventoParaEditar.horaF());
 
-        if (eventoParaEditar.imagem() != null) {
-            view.setPreviewImage(eventoParaEditar.imagem());
-        }
+        view.setPreviewImage(ArmazemImagens.getInstancia().fotoDoEvento(eventoParaEditar.hashFoto()));
 
         switch (eventoParaEditar.formato()) {
             case "presencial":
@@ -146,9 +142,6 @@ public class EditaEventoController {
 
         alertaService.alertarInfo("Evento atualizado com sucesso!");
 
-        if (aoFecharCallback != null) {
-            aoFecharCallback.run();
-        }
         view.close();
     }
 
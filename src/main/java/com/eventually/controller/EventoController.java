@@ -1,5 +1,6 @@
 package com.eventually.controller;
 
+import com.eventually.dto.ResultadoSorteioDto;
 import com.eventually.model.EventoModel;
 import com.eventually.model.UsuarioModel;
 import com.eventually.service.*;
@@ -28,14 +29,12 @@ public class EventoController {
 
     private UsuarioModel usuarioLogado;
 
-    private UsuarioAtualizacaoService usuarioAtualizacaoService;
     private UsuarioSessaoService usuarioSessaoService;
     private EventoExclusaoService eventoExclusaoService;
     private EventoLeituraService eventoLeituraService;
+    private ServicosAssincronos servicosAssincronos;
 
-    private Runnable aoFecharCallback;
-
-    private EventoEdicaoService eventoEdicaoService;
+    private ReservaVagasService reservaVagasService;
     private NavegacaoService navegacaoService;
 
     private AlertaService alertaService =new AlertaService();
@@ -43,55 +42,46 @@ public class EventoController {
     private String email;
 
     private boolean usuarioEstaInscrito;
+    private boolean eventoLotado;
+    private int posicaoNaListaDeEspera;
+    private boolean janelaAberta;
+    private boolean candidatoNoSorteio;
 
     /**
      * Construtor que associa a View (o modal) com este Controller.
      * @param view a instância de EventoModal que este controller gerenciará.
      * @param eventoH o evento a ser exibido
      */
-    public EventoController(String email, EventoModal view, HomeView.EventoH eventoH, Stage primaryStage, Runnable aoFecharCallback) {
+    public EventoController(String email, EventoModal view, HomeView.EventoH eventoH, Stage primaryStage) {
         this.view = view;
         this.eventoH = eventoH;
 
         this.usuarioSessaoService = UsuarioSessaoService.getInstancia();
-        this.usuarioAtualizacaoService = UsuarioAtualizacaoService.getInstancia();
-        this.eventoEdicaoService = EventoEdicaoService.getInstance();
+        this.reservaVagasService = ReservaVagasService.getInstancia();
         this.eventoExclusaoService=EventoExclusaoService.getInstancia();
         this.eventoLeituraService=EventoLeituraService.getInstancia();
+        this.servicosAssincronos=ServicosAssincronos.getInstancia();
         this.navegacaoService = new NavegacaoService(primaryStage);
 
         this.email=email;
-        this.aoFecharCallback = aoFecharCallback;
 
         initialize();
     }
 
     /**
-     * Inicializa os listeners e as ações dos componentes da view.
+     * Inicializa os listeners e as ações dos componentes da view. Os dados do evento já recebidos são exibidos de
+     * imediato; a capa é carregada em segundo plano pelo ID do evento, e o usuário e a contagem de vagas atualizada
+     * por {@link #recarregarEstado()}, que monta os botões de ação quando eles chegam.
      */
     private void initialize() {
-        this.usuarioLogado = usuarioSessaoService.procurarUsuario(email);
-
-        if (this.usuarioLogado == null) {
-            System.err.println("Erro crítico: usuário não encontrado no EventoController.");
-            view.close();
-            return;
-        }
-
-        this.usuarioEstaInscrito = this.usuarioLogado.getEventosInscrito().stream()
-                .anyMatch(eventoModel -> eventoModel.getId() == eventoH.id());
-
         view.getLblTituloEvento().setText(eventoH.titulo());
         view.getLblDataHoraInicio().setText(eventoH.dataHoraInicio());
         view.getLblDataHoraFim().setText(eventoH.dataHoraFim());
         view.getLblDescricao().setText(eventoH.descricao());
         view.getLblParticipantesInscritos().setText(eventoH.inscritos()+ " participantes inscritos");
 
-        eventoLeituraService.procurarEventoPorId(eventoH.id()).ifPresent(eventoReal -> {
-            atualizarContagemDeVagas(eventoReal);
-        });
-
-        view.getImgTopoEvento().setImage(eventoH.imagem());
+        ServicosAssincronos.naThreadFx(servicosAssincronos.procurarFotoEvento(eventoH.id()),
+                view.getImgTopoEvento()::setImage);
         view.getLblLocalizacao().setText(eventoH.local());
         view.getLblFormato().setText(eventoH.formato());
         Set<String> tags = eventoH.preferencias();
@@ -100,15 +90,10 @@ public class EventoController {
             tagLabel.getStyleClass().add("tag-label");
             view.getFlowPaneTags().getChildren().add(tagLabel);
         }
-        
-        atualizarVisualizacao();
 
-        view.getBtnSair().setOnAction(e -> {
-            if (aoFecharCallback != null) {
-                aoFecharCallback.run();
-            }
-            view.close();
-        });
+        recarregarEstado();
+
+        view.getBtnSair().setOnAction(e -> view.close());
 
         view.getBtnVerParticipantes().setOnAction(e -> {processarVerParticipantes(eventoH);});
         int id = eventoH.id();
@@ -116,6 +101,28 @@ public class EventoController {
         view.getBtnCompartilhar().setOnAction(e -> {navegacaoService.abrirModalDeCompartilhamento(eventoH);});
     }
 
+    /**
+     * Busca em paralelo, fora da thread do JavaFX, o usuário logado e o estado atual do evento, e então atualiza a
+     * contagem de vagas, o estado de inscrição e os botões de ação. Se o usuário não for encontrado, o modal é fechado.
+     */
+    private void recarregarEstado() {
+        ServicosAssincronos.naThreadFx(servicosAssincronos.procurarEventoPorId(eventoH.id()),
+                eventoReal -> eventoReal.ifPresent(this::atualizarContagemDeVagas));
+        ServicosAssincronos.naThreadFx(servicosAssincronos.procurarUsuario(email), usuario -> {
+            if (usuario == null) {
+                System.err.println("Erro crítico: usuário não encontrado no EventoController.");
+                view.close();
+                return;
+            }
+            this.usuarioLogado = usuario;
+            this.usuarioEstaInscrito = usuario.isInscritoEm(eventoH.id());
+            this.posicaoNaListaDeEspera = reservaVagasService.posicaoNaListaDeEspera(eventoH.id(), usuario.getId());
+            this.janelaAberta = reservaVagasService.isJanelaAberta(eventoH.id());
+            this.candidatoNoSorteio = reservaVagasService.isCandidato(eventoH.id(), usuario.getId());
+            atualizarVisualizacao();
+        });
+    }
+
 
     /**
      * MÉTODO CENTRALIZADO: Atualiza a visualização do modal (botões e localização)
@@ -125,8 +132,7 @@ public class EventoController {
         VBox containerDeBotoes = view.getVbBotoesAcao();
         containerDeBotoes.getChildren().clear();
 
-        boolean ehCriador = this.usuarioLogado.getEventosOrganizados().stream()
-                .anyMatch(eventoModel -> eventoModel.getId() == eventoH.id());
+        boolean ehCriador = this.usuarioLogado.isOrganizadorDe(eventoH.id());
 
         if (ehCriador) {
             Button btnEditar = view.getBtnEditar();
@@ -135,13 +141,37 @@ public class EventoController {
             btnExcluir.setOnAction(e -> processarExcluir());
             HBox hboxOrganizerButtons = new HBox(10, btnEditar, btnExcluir);
             hboxOrganizerButtons.setAlignment(Pos.CENTER);
-            containerDeBotoes.getChildren().add(hboxOrganizerButtons);
+            Button btnSorteio = view.getBtnSorteio();
+            if (janelaAberta) {
+                btnSorteio.setText("Encerrar inscrições e sortear ("
+                        + reservaVagasService.candidatosNaJanela(eventoH.id()) + " candidatos)");
+                btnSorteio.setOnAction(e -> processarSorteio());
+            } else {
+                btnSorteio.setText("Abrir inscrições por sorteio");
+                btnSorteio.setOnAction(e -> processarAbrirJanela());
+            }
+            containerDeBotoes.getChildren().addAll(hboxOrganizerButtons, btnSorteio);
         } else if (this.usuarioEstaInscrito) {
             Button btnCancelar = view.getBtnCancelarInscricao();
             btnCancelar.setOnAction(e -> processarCancelarInscricao());
             containerDeBotoes.getChildren().add(btnCancelar);
+        } else if (this.posicaoNaListaDeEspera > 0) {
+            Button btnListaEspera = view.getBtnListaEspera();
+            btnListaEspera.setText("Sair da lista de espera (posição " + posicaoNaListaDeEspera + ")");
+            btnListaEspera.setOnAction(e -> processarSairDaListaDeEspera());
+            containerDeBotoes.getChildren().add(btnListaEspera);
+        } else if (this.candidatoNoSorteio) {
+            Label lblSorteio = new Label("Você está concorrendo no sorteio das vagas.");
+            lblSorteio.getStyleClass().add("label-modal");
+            containerDeBotoes.getChildren().add(lblSorteio);
+        } else if (this.eventoLotado && !this.janelaAberta) {
+            Button btnListaEspera = view.getBtnListaEspera();
+            btnListaEspera.setText("Entrar na lista de espera");
+            btnListaEspera.setOnAction(e -> processarEntrarNaListaDeEspera());
+            containerDeBotoes.getChildren().add(btnListaEspera);
         } else {
             Button btnInscrever = view.getBtnInscrever();
+            btnInscrever.setText(janelaAberta ? "Participar do sorteio" : "Inscreva-se");
             btnInscrever.setOnAction(e -> processarInscricao());
             HBox hboxInscrever = new HBox(btnInscrever);
             hboxInscrever.setAlignment(Pos.CENTER);
@@ -160,7 +190,7 @@ public class EventoController {
     }
 
     private void processarEditar() {
-       navegacaoService.abrirModalEdicao(eventoH,aoFecharCallback);
+       navegacaoService.abrirModalEdicao(eventoH);
        view.close();
     }
 
@@ -173,10 +203,6 @@ public class EventoController {
 
             alertaService.alertarInfo("Evento excluído com sucesso!");
 
-            if (aoFecharCallback != null) {
-                aoFecharCallback.run();
-            }
-
             view.close();
         }
     }
@@ -194,57 +220,94 @@ public class EventoController {
     }
 
     private void processarInscricao() {
-        usuarioAtualizacaoService.atualizarEventoParticipado(email, eventoH);
-
-        eventoEdicaoService.adicionarParticipante(eventoH,email);
+        ReservaVagasService.Resultado resultado = reservaVagasService.reservar(eventoH.id(), email);
 
-        alertaService.alertarInfo("Você está inscrito com sucesso!");
-
-        this.usuarioLogado = usuarioSessaoService.procurarUsuario(email);
-        this.usuarioEstaInscrito = this.usuarioLogado.getEventosInscrito().stream()
-                .anyMatch(eventoModel -> eventoModel.getId() == eventoH.id());
+        switch (resultado) {
+            case CONFIRMADA -> {
+                alertaService.alertarInfo("Você está inscrito com sucesso!");
+                atualizarEstadoBotoes(true);
+            }
+            case ESGOTADA -> alertaService.alertarWarn("Evento lotado",
+                    "Não há mais vagas disponíveis neste evento. Você pode entrar na lista de espera.");
+            case NO_SORTEIO -> alertaService.alertarInfo(
+                    "Sua inscrição foi recebida! As vagas serão sorteadas quando as inscrições forem encerradas.");
+            case JA_INSCRITO, NA_LISTA_DE_ESPERA -> {}
+            case NAO_ENCONTRADO -> alertaService.alertarErro("Não foi possível concluir a inscrição.");
+        }
+        recarregarEstado();
+    }
 
-        eventoLeituraService.procurarEventoPorId(eventoH.id()).ifPresent(this::atualizarContagemDeVagas);
+    private void processarEntrarNaListaDeEspera() {
+        switch (reservaVagasService.entrarNaListaDeEspera(eventoH.id(), email)) {
+            case NA_LISTA_DE_ESPERA -> alertaService.alertarInfo(
+                    "Você entrou na lista de espera e será inscrito automaticamente quando uma vaga for liberada.");
+            case CONFIRMADA -> alertaService.alertarInfo("Uma vaga estava disponível: você está inscrito com sucesso!");
+            case NAO_ENCONTRADO -> alertaService.alertarErro("Não foi possível entrar na lista de espera.");
+            default -> {}
+        }
+        recarregarEstado();
+    }
 
+    private void processarAbrirJanela() {
+        if (reservaVagasService.abrirJanelaDeInscricao(eventoH.id())) {
+            alertaService.alertarInfo("Inscrições por sorteio abertas por "
+                    + ReservaVagasService.DURACAO_PADRAO_JANELA.toHours() + " horas. As vagas serão sorteadas ao fim "
+                    + "do prazo, ou antes, se você encerrar as inscrições.");
+        }
+        recarregarEstado();
+    }
 
-        atualizarEstadoBotoes(true);
-        atualizarVisualizacao();
+    private void processarSorteio() {
+        ResultadoSorteioDto resultado = reservaVagasService.sortear(eventoH.id());
+        if (resultado != null) {
+            alertaService.alertarInfo("Sorteio realizado: " + resultado.contemplados().size() + " contemplados e "
+                    + resultado.listaDeEspera().size() + " na lista de espera.");
+        }
+        recarregarEstado();
+    }
 
+    private void processarSairDaListaDeEspera() {
+        if (reservaVagasService.sairDaListaDeEspera(eventoH.id(), email)) {
+            alertaService.alertarInfo("Você saiu da lista de espera.");
+        }
+        recarregarEstado();
     }
 
     private void processarCancelarInscricao() {
         boolean usuarioConfirmou = navegacaoService.abrirModalCancInscricao();
 
         if (usuarioConfirmou) {
-            usuarioAtualizacaoService.removerInscricao(email, eventoH);
-            eventoEdicaoService.removerParticipante(eventoH, email);
+            reservaVagasService.cancelar(eventoH.id(), email);
             alertaService.alertarInfo("Sua inscrição foi cancelada.");
 
-            this.usuarioLogado = usuarioSessaoService.procurarUsuario(email);
-            this.usuarioEstaInscrito = this.usuarioLogado.getEventosInscrito().stream()
-                    .anyMatch(eventoModel -> eventoModel.getId() == eventoH.id());
-
-            eventoLeituraService.procurarEventoPorId(eventoH.id()).ifPresent(this::atualizarContagemDeVagas);
-
-            atualizarVisualizacao();
+            recarregarEstado();
         }
     }
 
     /**
-     * Atualiza os labels da UI com os dados mais recentes de um EventoModel.
+     * Atualiza os labels da UI com os dados mais recentes de um EventoModel e registra se o evento está lotado,
+     * reconstruindo os botões de ação se o usuário já tiver sido carregado.
      * @param eventoAtualizado O objeto EventoModel com os dados frescos do serviço.
      */
     private void atualizarContagemDeVagas(EventoModel eventoAtualizado) {
         int capacidade = eventoAtualizado.getnParticipantes();
-        int inscritosAtuais = eventoAtualizado.getParticipantes().size();
+        int inscritosAtuais = eventoAtualizado.getQuantidadeParticipantes();
         int vagasRestantes = capacidade - inscritosAtuais;
 
         if (vagasRestantes < 0) {
             vagasRestantes = 0;
         }
 
+        int naListaDeEspera = reservaVagasService.tamanhoDaListaDeEspera(eventoAtualizado.getId());
+        this.eventoLotado = vagasRestantes == 0 || naListaDeEspera > 0;
+
         view.getLblParticipantesInscritos().setText(inscritosAtuais + " participantes inscritos");
-        view.getLblVagasDisponiveis().setText(vagasRestantes + " de " + capacidade + " vagas disponíveis");
+        view.getLblVagasDisponiveis().setText(naListaDeEspera > 0
+                ? "Lotado, " + naListaDeEspera + " na lista de espera"
+                : vagasRestantes + " de " + capacidade + " vagas disponíveis");
+        if (usuarioLogado != null) {
+            atualizarVisualizacao();
+        }
     }
 
 }
\ No newline at end of file
@@ -1,9 +1,10 @@
 package com.eventually.controller;
 
+import com.eventually.dto.CursorEventosDto;
 import com.eventually.dto.FiltroDto;
+import com.eventually.dto.PaginaEventosDto;
 import com.eventually.model.EventoModel;
 import com.eventually.model.UsuarioModel;
-import com.eventually.model.FormatoSelecionado;
 import com.eventually.model.Comunidade;
 import com.eventually.service.*;
 import com.eventually.view.*;
@@ -13,9 +14,11 @@ import javafx.stage.Stage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 /**
@@ -34,14 +37,39 @@ public class HomeController {
 
     private NavegacaoService navegacaoService;
     private UsuarioSessaoService usuarioSessaoService;
+    private ServicosAssincronos servicosAssincronos;
     private EventoCriacaoService eventoCriacaoService;
 
-    private FiltroDto filtroAtual;
+    private volatile FiltroDto filtroAtual;
+    private final ConsultaAdiada<List<EventoModel>> buscaAdiada;
+
+    private final List<HomeView.EventoH> eventosListados = new ArrayList<>();
+    private Predicate<EventoModel> filtroDaListagem;
+    private CursorEventosDto cursorDaListagem;
+    private boolean listagemCompleta;
+    private boolean carregandoPagina;
+    private boolean atualizacaoPendente;
+    private long geracaoDaListagem;
+    private Set<Integer> idsDaBusca = Set.of();
 
     private String emailRecebido;
 
+    private static final Duration ATRASO_BUSCA = Duration.ofMillis(250);
+    private static final int LIMITE_RESULTADOS_BUSCA = 60;
+    private static final int TAMANHO_PAGINA = 8 * 3;
+
     private static final Logger sistemaDeLogger = LoggerFactory.getLogger(HomeController.class);
 
+    /**
+     * Página da listagem já convertida para a view, montada fora da thread do JavaFX.
+     */
+    private record PaginaConvertida(List<HomeView.EventoH> eventos, CursorEventosDto proximo, boolean temMais) {}
+
+    /**
+     * Filtro inicial, montado a partir das preferências do usuário, e a primeira página da listagem com esse filtro.
+     */
+    private record ListagemInicial(FiltroDto filtro, Predicate<EventoModel> filtroDaListagem, PaginaConvertida pagina) {}
+
     /**
      * Construtor do {@code HomeController} que obtém a instância única de
      * UsuarioSessaoService para acessar a lista de usuários e inicializa a view de início.
@@ -52,6 +80,7 @@ public class HomeController {
     public HomeController(String email, HomeView homeView, Stage primaryStage) {
         this.usuarioSessaoService = UsuarioSessaoService.getInstancia();
         this.eventoCriacaoService = EventoCriacaoService.getInstancia();
+        this.servicosAssincronos = ServicosAssincronos.getInstancia();
 
         sistemaDeLogger.info("Inicializado e conectado ao UsuarioSessaoService e EventoCriacaoService.");
 
@@ -63,16 +92,15 @@ public class HomeController {
         this.primaryStage = primaryStage;
         this.navegacaoService = new NavegacaoService(primaryStage);
 
-        Set<Comunidade> preferenciasIniciais = usuarioSessaoService.procurarPreferencias(emailRecebido);
-
-        this.filtroAtual = new FiltroDto(preferenciasIniciais, Optional.empty());
+        this.filtroAtual = new FiltroDto(Set.of(), Optional.empty());
+        this.buscaAdiada = new ConsultaAdiada<>(ATRASO_BUSCA, this::buscarEventos, this::exibirResultadosBusca);
 
         configManipuladoresEventoInicio();
     }
 
     /**
      * Este método configura os manipuladores de eventos para os botões da tela inicial e, em caso de falha, exibe uma
-     * mensagem no console.
+     * mensagem no console. Os dados da tela são carregados por {@link #hidratarTela()}.
      */
     private void configManipuladoresEventoInicio() {
         sistemaDeLogger.info("Método configManipuladoresEventoInicio() chamado.");
@@ -85,37 +113,72 @@ public class HomeController {
 
             homeView.getBarraBuilder().getBtnSair().setOnAction(e -> navegacaoService.abrirModalEncerrarSessao());
 
-            homeView.getBtnCriarEvento().setOnAction(e -> navegacaoService.abrirModalCriarEvento(emailRecebido, this::processarCarregamentoEventos));
-
-            Set<Comunidade> comunidadeUsuario = usuarioSessaoService.procurarPreferencias(emailRecebido);
-
-            Set<String> tags = comunidadeUsuario.stream()
-                    .map(Comunidade::name)
-                    .collect(Collectors.toSet());
-
-            for (String nomeTag : tags) {
-                Label tagLabel = new Label(nomeTag);
-                tagLabel.getStyleClass().add("tag-label");
-                homeView.getFlowPaneTags().getChildren().add(tagLabel);
-            }
+            homeView.getBtnCriarEvento().setOnAction(e -> navegacaoService.abrirModalCriarEvento(emailRecebido));
 
             homeView.getLbEmailUsuario().setText(emailRecebido);
-            homeView.getLbNomeUsuario().setText(definirNome(emailRecebido));
-            homeView.setAvatarImagem(definirImagem(emailRecebido));
-
-            atualizarVisualizacaoPreferencias();
-            homeView.getBtnFiltros().setOnAction(e -> {abrirModalParaEdicao();});
 
             homeView.getBtnFiltros().setOnAction(e -> abrirModalDeFiltro());
-
-            processarCarregamentoEventos();
-            atualizarTagsDeFiltro();
+            homeView.setAoAproximarDoFim(this::carregarProximaPagina);
+            homeView.getCbOrdenacao().valueProperty().addListener((obs, anterior, nova) -> processarCarregamentoEventos());
+            homeView.getCampoBusca().textProperty().addListener((obs, textoAntigo, textoNovo) -> {
+                if (textoNovo == null || textoNovo.isBlank()) {
+                    buscaAdiada.cancelar();
+                    processarCarregamentoEventos();
+                } else {
+                    buscaAdiada.submeter(textoNovo);
+                }
+            });
+
+            BarramentoEventos.getInstancia().assinarPorPulso(this::processarMudancas,
+                    EventoDominio.EventoCriado.class, EventoDominio.EventoEditado.class,
+                    EventoDominio.EstadoEventoAlterado.class, EventoDominio.ParticipanteAdicionado.class,
+                    EventoDominio.ParticipanteRemovido.class, EventoDominio.ParticipantePromovido.class,
+                    EventoDominio.UsuarioAtualizado.class)
+                    .encerrarCom(homeView);
+
+            hidratarTela();
         } catch (Exception e) {
             sistemaDeLogger.error("Erro ao configurar manipuladores da tela de início: "+e.getMessage());
             e.printStackTrace();
         }
     }
 
+    /**
+     * Carrega em paralelo o nome, a foto e as preferências do usuário e, assim que as preferências chegam, a primeira
+     * página da listagem filtrada por elas; a tela é preenchida de uma vez quando todas as etapas terminam.
+     */
+    private void hidratarTela() {
+        OrdenacaoEventosService.Ordenacao ordenacao = ordenacaoAtual();
+        CarregamentoTela carregamento = new CarregamentoTela("Início");
+
+        CompletableFuture<String> nome = carregamento.etapa("nome", () -> definirNome(emailRecebido));
+        CompletableFuture<Image> imagem = carregamento.etapa("foto", () -> definirImagem(emailRecebido));
+        CompletableFuture<Set<Comunidade>> preferencias = carregamento.etapa("preferências",
+                () -> usuarioSessaoService.procurarPreferencias(emailRecebido));
+        CompletableFuture<ListagemInicial> listagem = carregamento.etapa("eventos", preferencias, comunidades -> {
+            FiltroDto filtro = new FiltroDto(comunidades == null ? Set.of() : comunidades, Optional.empty());
+            Predicate<EventoModel> filtroDaPrimeiraPagina = criarFiltroDaListagem(filtro);
+            return new ListagemInicial(filtro, filtroDaPrimeiraPagina, lerPagina(ordenacao, null, filtroDaPrimeiraPagina));
+        });
+
+        carregamento.concluir(() -> {
+            homeView.getLbNomeUsuario().setText(nome.join());
+            homeView.setAvatarImagem(imagem.join());
+
+            ListagemInicial inicial = listagem.join();
+            if (inicial != null) {
+                filtroAtual = inicial.filtro();
+            }
+            atualizarTagsDeFiltro();
+            if (inicial == null || buscaAtiva() || ordenacao != ordenacaoAtual()) {
+                processarCarregamentoEventos();
+                return;
+            }
+            iniciarListagem(inicial.filtroDaListagem());
+            aplicarPagina(inicial.pagina());
+        });
+    }
+
     /**
      * Atualiza as tags visuais na tela Home com base no filtro atualmente ativo.
      */
@@ -143,35 +206,6 @@ public class HomeController {
         }
     }
 
-    private void abrirModalParaEdicao() {
-        navegacaoService.abrirModalEditarFiltros(emailRecebido);
-
-        sistemaDeLogger.info("Modal de edição de comunidades fechado. Atualizando a tela de configurações.");
-        atualizarVisualizacaoPreferencias();
-    }
-
-    /**
-     * Carrega as preferências de comuidades mais recentes do serviço
-     * e atualiza o estado das checkboxes na tela de configurações.
-     */
-    public void atualizarVisualizacaoPreferencias() {
-        sistemaDeLogger.info("Atualizando visualização das tags de preferência na Home.");
-
-        homeView.getFlowPaneTags().getChildren().clear();
-
-        Set<Comunidade> comunidadesAtuais = usuarioSessaoService.procurarPreferencias(emailRecebido);
-
-        Set<String> novasTags = comunidadesAtuais.stream()
-                .map(this::formatarNomeComunidade)
-                .collect(Collectors.toSet());
-
-        for (String nomeTag : novasTags) {
-            Label tagLabel = new Label(nomeTag);
-            tagLabel.getStyleClass().add("tag-label");
-            homeView.getFlowPaneTags().getChildren().add(tagLabel);
-        }
-    }
-
     private String formatarNomeComunidade(Comunidade comunidade) {
         String nomeEnum = comunidade.name();
         if (nomeEnum == null || nomeEnum.isEmpty()) return "";
@@ -186,7 +220,7 @@ public class HomeController {
     private Image definirImagem(String email) {
         sistemaDeLogger.info("Método definirImagem() chamado.");
         try {
-            Image imagemUsuario = usuarioSessaoService.procurarImagem(email);
+            Image imagemUsuario = usuarioSessaoService.procurarImagem(email, ArmazemImagens.TAMANHO_AVATAR);
             return imagemUsuario;
         } catch (Exception e) {
             sistemaDeLogger.error("Erro ao obter imagem do usuário."+e.getMessage());
@@ -213,108 +247,305 @@ public class HomeController {
     }
 
     /**
-     * Este método carrega os eventos da página inicial através do service e em caso de falha, é exibida uma mensagem no
-     * console.
+     * Este método recarrega a listagem da página inicial a partir da primeira página, com o filtro e a ordenação
+     * atuais, e, em caso de falha, é exibida uma mensagem no console. As páginas seguintes são carregadas por
+     * {@link #carregarProximaPagina()} conforme o usuário rola a grade.
      */
     public void processarCarregamentoEventos() {
+        String textoBusca = homeView.getCampoBusca().getText();
+        if (textoBusca != null && !textoBusca.isBlank()) {
+            buscaAdiada.submeter(textoBusca);
+            return;
+        }
         sistemaDeLogger.info("Carregando eventos com filtro: {}", filtroAtual);
         try {
-            Set<EventoModel> todosOsEventosModel = eventoCriacaoService.getAllEventos();
+            iniciarListagem(criarFiltroDaListagem(filtroAtual));
+            carregarProximaPagina();
+        } catch (Exception ex) {
+            sistemaDeLogger.error("Erro ao carregar eventos: " + ex.getMessage());
+            ex.printStackTrace();
+            homeView.setEventos(new ArrayList<>());
+        }
+    }
 
-            List<HomeView.EventoH> eventosParaView = todosOsEventosModel.stream()
-                    .filter(EventoModel::isEstado)
-                    .filter(evento -> evento.getDataFinal().isAfter(LocalDate.now().minusDays(1)))
+    /**
+     * @return o teste da listagem da tela inicial: eventos que atendem ao filtro e ainda não terminaram.
+     */
+    private static Predicate<EventoModel> criarFiltroDaListagem(FiltroDto filtro) {
+        Predicate<EventoModel> atendeFiltro = FiltroEventosService.getInstancia().predicado(filtro);
+        LocalDate ontem = LocalDate.now().minusDays(1);
+        return evento -> evento.getDataFinal().isAfter(ontem) && atendeFiltro.test(evento);
+    }
 
-                    .filter(evento -> {
-                        Set<Comunidade> filtroComunidades = filtroAtual.comunidades();
+    /**
+     * Esvazia a listagem e a reinicia com o filtro informado, descartando páginas ainda em carregamento.
+     */
+    private void iniciarListagem(Predicate<EventoModel> filtro) {
+        filtroDaListagem = filtro;
+        cursorDaListagem = null;
+        listagemCompleta = false;
+        carregandoPagina = false;
+        atualizacaoPendente = false;
+        geracaoDaListagem++;
+        eventosListados.clear();
+    }
 
-                        if (filtroComunidades.isEmpty()) {
-                            return true;
-                        }
+    /**
+     * Pede a próxima página da listagem, a partir do cursor da página anterior, e a acrescenta à grade quando ela
+     * chega. A página é lida e convertida fora da thread do JavaFX; uma página que chega depois de a listagem ter sido
+     * recarregada, ou enquanto a grade exibe uma busca, é descartada. Não faz nada se a listagem já terminou, se uma
+     * página já está sendo carregada ou se a grade está exibindo resultados de uma busca.
+     */
+    private void carregarProximaPagina() {
+        if (listagemCompleta || carregandoPagina || filtroDaListagem == null || buscaAtiva()) {
+            return;
+        }
+        carregandoPagina = true;
+        long geracao = geracaoDaListagem;
+        OrdenacaoEventosService.Ordenacao ordenacao = ordenacaoAtual();
+        CursorEventosDto cursor = cursorDaListagem;
+        Predicate<EventoModel> filtro = filtroDaListagem;
+        CompletableFuture<PaginaConvertida> pagina = servicosAssincronos.executar(() -> lerPagina(ordenacao, cursor, filtro));
+        pagina.whenCompleteAsync((convertida, erro) -> {
+            if (geracao != geracaoDaListagem) {
+                return;
+            }
+            carregandoPagina = false;
+            if (erro != null) {
+                sistemaDeLogger.error("Erro ao carregar página de eventos: " + erro.getMessage());
+                erro.printStackTrace();
+            } else if (!buscaAtiva()) {
+                aplicarPagina(convertida);
+            }
+            if (atualizacaoPendente) {
+                atualizarListagem();
+            }
+        }, ServicosAssincronos.THREAD_FX);
+    }
 
-                        return !Collections.disjoint(evento.getComunidades(), filtroComunidades);
-                    })
+    /**
+     * Relê os eventos já carregados, da primeira linha até o cursor da listagem, e os coloca no lugar dos exibidos; a
+     * {@link HomeView} troca apenas as linhas que mudaram, então as páginas carregadas e a posição da rolagem são
+     * mantidas. O filtro da listagem é refeito a cada releitura, já que o predicado do {@link FiltroEventosService}
+     * guarda os eventos que atendiam ao filtro quando foi criado: assim eventos criados, excluídos ou editados para
+     * dentro ou para fora do filtro entram ou saem da grade. A releitura ocupa o lugar de uma página em carregamento:
+     * se uma página estiver a caminho, ela é feita quando a página chegar. Com uma busca em andamento, a busca é
+     * refeita.
+     */
+    private void atualizarListagem() {
+        if (buscaAtiva()) {
+            buscaAdiada.submeter(homeView.getCampoBusca().getText());
+            return;
+        }
+        if (filtroDaListagem == null) {
+            return;
+        }
+        if (carregandoPagina) {
+            atualizacaoPendente = true;
+            return;
+        }
+        atualizacaoPendente = false;
+        if (!listagemCompleta && cursorDaListagem == null) {
+            // nenhuma página chegou ainda: não há o que reler
+            carregarProximaPagina();
+            return;
+        }
+        carregandoPagina = true;
+        long geracao = geracaoDaListagem;
+        OrdenacaoEventosService.Ordenacao ordenacao = ordenacaoAtual();
+        CursorEventosDto limite = listagemCompleta ? null : cursorDaListagem;
+        Predicate<EventoModel> filtro = criarFiltroDaListagem(filtroAtual);
+        filtroDaListagem = filtro;
+        CompletableFuture<List<HomeView.EventoH>> relidos = servicosAssincronos.executar(() -> {
+            List<EventoModel> eventos = EventoLeituraService.getInstancia().listarEventosAte(ordenacao, limite, filtro);
+            return eventos == null ? null : eventos.stream().map(this::converterParaView).collect(Collectors.toList());
+        });
+        relidos.whenCompleteAsync((eventos, erro) -> {
+            if (geracao != geracaoDaListagem) {
+                return;
+            }
+            carregandoPagina = false;
+            if (erro != null) {
+                sistemaDeLogger.error("Erro ao atualizar a listagem de eventos: " + erro.getMessage());
+                erro.printStackTrace();
+            } else if (eventos != null && !buscaAtiva()) {
+                eventosListados.clear();
+                eventosListados.addAll(eventos);
+                sistemaDeLogger.info("Listagem atualizada ({} exibidos).", eventosListados.size());
+                homeView.setEventos(eventosListados);
+            }
+            if (atualizacaoPendente) {
+                atualizarListagem();
+            }
+        }, ServicosAssincronos.THREAD_FX);
+    }
 
-                    .filter(evento ->
-                            filtroAtual.formato().isEmpty() || evento.getFormato() == filtroAtual.formato().get()
-                    )
+    /**
+     * Lê uma página da listagem e a converte para a view; pode ser chamado fora da thread do JavaFX.
+     */
+    private PaginaConvertida lerPagina(OrdenacaoEventosService.Ordenacao ordenacao, CursorEventosDto cursor,
+                                       Predicate<EventoModel> filtro) {
+        PaginaEventosDto lida = EventoLeituraService.getInstancia().listarEventos(ordenacao, cursor, TAMANHO_PAGINA, filtro);
+        return new PaginaConvertida(lida.eventos().stream().map(this::converterParaView).collect(Collectors.toList()),
+                lida.proximo(), lida.temMais());
+    }
 
-                    .map(this::converterParaView)
-                    .collect(Collectors.toList());
+    /**
+     * Acrescenta a página à grade e avança o cursor da listagem.
+     */
+    private void aplicarPagina(PaginaConvertida convertida) {
+        eventosListados.addAll(convertida.eventos());
+        cursorDaListagem = convertida.proximo();
+        listagemCompleta = !convertida.temMais();
+        sistemaDeLogger.info("Página com {} eventos carregada ({} exibidos).", convertida.eventos().size(), eventosListados.size());
+        homeView.setEventos(eventosListados);
+    }
 
-            homeView.setEventos(eventosParaView);
+    private boolean buscaAtiva() {
+        String textoBusca = homeView.getCampoBusca().getText();
+        return textoBusca != null && !textoBusca.isBlank();
+    }
+
+    private OrdenacaoEventosService.Ordenacao ordenacaoAtual() {
+        OrdenacaoEventosService.Ordenacao ordenacao = homeView.getCbOrdenacao().getValue();
+        return ordenacao == null ? OrdenacaoEventosService.Ordenacao.DATA_INICIO : ordenacao;
+    }
 
+    /**
+     * Executa a busca textual fora da thread do JavaFX e aplica ao resultado o filtro atual e o corte de data da tela
+     * inicial.
+     * @param texto o texto digitado no campo de busca.
+     * @return os eventos encontrados, do mais para o menos relevante.
+     */
+    private List<EventoModel> buscarEventos(String texto) {
+        FiltroDto filtro = filtroAtual;
+        LocalDate ontem = LocalDate.now().minusDays(1);
+        return BuscaEventosService.getInstancia().buscarEventos(texto, LIMITE_RESULTADOS_BUSCA).stream()
+                .filter(evento -> FiltroEventosService.aceita(filtro, evento))
+                .filter(evento -> evento.getDataFinal().isAfter(ontem))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Exibe na grade os eventos encontrados pela busca; chamado na thread do JavaFX.
+     */
+    private void exibirResultadosBusca(List<EventoModel> eventos) {
+        sistemaDeLogger.info("Busca retornou {} eventos.", eventos.size());
+        try {
+            idsDaBusca = eventos.stream().map(EventoModel::getId).collect(Collectors.toUnmodifiableSet());
+            homeView.setEventos(eventos.stream().map(this::converterParaView).collect(Collectors.toList()));
         } catch (Exception ex) {
-            sistemaDeLogger.error("Erro ao carregar eventos: " + ex.getMessage());
+            sistemaDeLogger.error("Erro ao exibir resultados da busca: " + ex.getMessage());
             ex.printStackTrace();
-            homeView.setEventos(new ArrayList<>());
         }
     }
 
     /**
-     * Converte um EventoModel em um registro HomeView.EventoH para popular a UI.
+     * Converte um EventoModel em um registro HomeView.EventoH para popular a UI, reutilizando a projeção guardada
+     * pelo {@link ProjecaoEventosService} quando o evento não mudou.
      * @param model O modelo de dados do evento.
      * @return Um registro pronto para a view.
      */
     private HomeView.EventoH converterParaView(EventoModel model) {
-        String titulo = model.getNome();
-        String local = model.getFormato() == FormatoSelecionado.ONLINE ? "Evento Online" : model.getLocalizacao();
-        Image imagem = model.getFoto();
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("EEE dd, MMM uuuu", new Locale("pt", "BR"));
-        String dataHora1 = String.format("%s - %s", model.getDataInicial().format(formatter).toUpperCase(), model.getHoraInicial());
-        String dataHora2 = String.format("%s - %s", model.getDataFinal().format(formatter).toUpperCase(), model.getHoraFinal());
-        String descricao = model.getDescricao();
-
-        int inscritos = model.getParticipantes().size();
-        int capacidade = model.getnParticipantes();
-
-        System.out.println(
-                String.format("[DIAGNÓSTICO] Convertendo Evento ID %d: '%s' -> Capacidade no Modelo: %d",
-                        model.getId(),
-                        model.getNome(),
-                        capacidade)
-        );
-
-        String formatoStr = model.getFormato().toString();
-        formatoStr = formatoStr.substring(0, 1).toUpperCase() + formatoStr.substring(1).toLowerCase();
-
-        List<UsuarioModel> participantes = model.getParticipantes();
-
-        Set<String> preferencias = model.getComunidades().stream()
-                .map(Enum::toString)
-                .collect(Collectors.toSet());
-        String categoria = preferencias.stream().findFirst().orElse("Geral");
-
-        String linkAcesso = model.getLinkAcesso();
-        LocalDate dataI = model.getDataInicial();
-        LocalDate dataF = model.getDataFinal();
-        String horaI = String.valueOf(model.getHoraInicial());
-        String horaF = String.valueOf(model.getHoraFinal());
-
-        return new HomeView.EventoH(
-                model.getId(),
-                titulo,
-                local,
-                dataHora1,
-                dataHora2,
-                categoria,
-                imagem,
-                descricao,
-                inscritos,
-                capacidade,
-                formatoStr,
-                preferencias,
-                participantes,
-                linkAcesso,
-                dataI,
-                dataF,
-                horaI,
-                horaF
-        );
+        return ProjecaoEventosService.getInstancia().projetar(model);
     }
 
     public void abrir(HomeView.EventoH eventoH) {
-        navegacaoService.abrirModalVerEvento(emailRecebido, eventoH, this::processarCarregamentoEventos);
+        navegacaoService.abrirModalVerEvento(emailRecebido, eventoH);
+    }
+
+    /**
+     * Atualiza a tela com as mudanças publicadas desde o último pulso.
+     * Um evento criado, editado, excluído ou reativado pode entrar ou sair do filtro e mudar de posição, exibido ou não,
+     * então as páginas carregadas são relidas de uma vez por {@link #atualizarListagem()}. Inscrições e cancelamentos
+     * só mudam a contagem de inscritos: os cartões exibidos afetados são trocados no lugar e os demais eventos são
+     * ignorados, exceto na ordenação por vagas, em que um cancelamento pode trazer um evento para as páginas
+     * carregadas e uma inscrição pode tirar um evento exibido delas. Com uma busca em andamento, a busca é refeita se
+     * algo mudou. Uma alteração no perfil do usuário recarrega o nome e a foto.
+     * @param mudancas as mudanças acumuladas pelo {@link BarramentoEventos}.
+     */
+    private void processarMudancas(Set<EventoDominio> mudancas) {
+        Optional<Integer> idUsuario = usuarioSessaoService.buscarUsuarioPorEmail(emailRecebido).map(UsuarioModel::getId);
+        boolean busca = buscaAtiva();
+        Set<Integer> exibidos = busca ? idsDaBusca : idsListados();
+        boolean ordenadoPorVagas = ordenacaoAtual() == OrdenacaoEventosService.Ordenacao.VAGAS_RESTANTES;
+        boolean perfilAlterado = false;
+        boolean releitura = false;
+        Set<Integer> contagensAlteradas = new HashSet<>();
+        for (EventoDominio mudanca : mudancas) {
+            switch (mudanca) {
+                case EventoDominio.UsuarioAtualizado usuario ->
+                        perfilAlterado |= idUsuario.isPresent() && idUsuario.get() == usuario.idUsuario();
+                case EventoDominio.ParticipantePromovido promovido -> {
+                    if (idUsuario.isPresent() && idUsuario.get() == promovido.idUsuario()) {
+                        AlertaService.alertarInfo("Uma vaga foi liberada e você foi inscrito no evento \""
+                                + EventoLeituraService.getInstancia().procurarNomeEvento(promovido.idEvento()) + "\".");
+                    }
+                }
+                case EventoDominio.EventoCriado criado -> releitura = true;
+                case EventoDominio.EventoEditado editado -> releitura = true;
+                case EventoDominio.EstadoEventoAlterado estado -> releitura = true;
+                case EventoDominio.ParticipanteAdicionado adicionado -> {
+                    if (exibidos.contains(adicionado.idEvento())) {
+                        releitura |= ordenadoPorVagas;
+                        contagensAlteradas.add(adicionado.idEvento());
+                    }
+                }
+                case EventoDominio.ParticipanteRemovido removido -> {
+                    releitura |= ordenadoPorVagas && !busca;
+                    if (exibidos.contains(removido.idEvento())) {
+                        contagensAlteradas.add(removido.idEvento());
+                    }
+                }
+                default -> {}
+            }
+        }
+        if (busca) {
+            if (releitura || !contagensAlteradas.isEmpty()) {
+                buscaAdiada.submeter(homeView.getCampoBusca().getText());
+            }
+        } else if (releitura) {
+            atualizarListagem();
+        } else if (!contagensAlteradas.isEmpty()) {
+            atualizarCartoes(contagensAlteradas);
+        }
+        if (perfilAlterado) {
+            ServicosAssincronos.naThreadFx(servicosAssincronos.executar(() -> definirNome(emailRecebido)),
+                    nome -> homeView.getLbNomeUsuario().setText(nome));
+            ServicosAssincronos.naThreadFx(servicosAssincronos.executar(() -> definirImagem(emailRecebido)),
+                    homeView::setAvatarImagem);
+        }
+    }
+
+    private Set<Integer> idsListados() {
+        Set<Integer> ids = new HashSet<>(eventosListados.size() * 2);
+        for (HomeView.EventoH eventoH : eventosListados) {
+            ids.add(eventoH.id());
+        }
+        return ids;
+    }
+
+    /**
+     * Projeta de novo, fora da thread do JavaFX, os eventos informados e troca os cartões correspondentes na lista
+     * carregada, sem reler a listagem nem mudar a posição dos demais.
+     */
+    private void atualizarCartoes(Set<Integer> ids) {
+        long geracao = geracaoDaListagem;
+        CompletableFuture<Map<Integer, HomeView.EventoH>> projetados = servicosAssincronos.executar(() -> {
+            Map<Integer, HomeView.EventoH> porId = new HashMap<>();
+            for (int id : ids) {
+                EventoLeituraService.getInstancia().procurarEventoPorId(id)
+                        .ifPresent(evento -> porId.put(id, converterParaView(evento)));
+            }
+            return porId;
+        });
+        ServicosAssincronos.naThreadFx(projetados, porId -> {
+            if (geracao != geracaoDaListagem || buscaAtiva() || porId.isEmpty()) {
+                return;
+            }
+            eventosListados.replaceAll(eventoH -> porId.getOrDefault(eventoH.id(), eventoH));
+            homeView.setEventos(eventosListados);
+        });
     }
 
     private void abrirModalDeFiltro() {
@@ -1,10 +1,18 @@
 package com.eventually.controller;
 
+import com.eventually.dto.CursorEventosDto;
+import com.eventually.dto.PaginaEventosDto;
 import com.eventually.model.EventoModel;
-import com.eventually.model.FormatoSelecionado;
 import com.eventually.model.UsuarioModel;
 import com.eventually.service.AlertaService;
+import com.eventually.service.ArmazemImagens;
+import com.eventually.service.BarramentoEventos;
+import com.eventually.service.EventoDominio;
+import com.eventually.service.EventoLeituraService;
 import com.eventually.service.NavegacaoService;
+import com.eventually.service.OrdenacaoEventosService;
+import com.eventually.service.ProjecaoEventosService;
+import com.eventually.service.ServicosAssincronos;
 import com.eventually.service.UsuarioSessaoService;
 import com.eventually.view.*;
 import javafx.scene.control.Button;
@@ -21,6 +29,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -37,11 +46,21 @@ public class MyEventsController {
     private final Stage primaryStage;
     private final NavegacaoService navegacaoService;
     private final UsuarioSessaoService usuarioSessaoService;
+    private final ServicosAssincronos servicosAssincronos;
     private final String emailRecebido;
+
+    private static final int TAMANHO_PAGINA = 10;
+    private List<EventoModel> eventosDaListagem;
+    private CursorEventosDto cursorDaListagem;
+    private boolean listagemCompleta;
+    private long geracaoDaListagem;
+    private Runnable recarregarListagem;
+
     private static final Logger sistemaDeLogger = LoggerFactory.getLogger(MyEventsController.class);
 
     public MyEventsController(String email, MyEventsView myEventsView, Stage primaryStage) {
         this.usuarioSessaoService = UsuarioSessaoService.getInstancia();
+        this.servicosAssincronos = ServicosAssincronos.getInstancia();
         this.emailRecebido = email;
         this.myEventsView = myEventsView;
         this.myEventsView.setMyEventsViewController(this);
@@ -49,7 +68,14 @@ public class MyEventsController {
         this.navegacaoService = new NavegacaoService(primaryStage);
 
         configManipuladoresDeEventoMeusEventos();
+        RolagemIncremental.instalar(myEventsView.getScrollEventos(), this::carregarMaisEventos);
         configurarSeletorEventos();
+
+        BarramentoEventos.getInstancia().assinarPorPulso(mudancas -> recarregarListagem.run(),
+                EventoDominio.EventoCriado.class, EventoDominio.EventoEditado.class,
+                EventoDominio.EstadoEventoAlterado.class, EventoDominio.ParticipanteAdicionado.class,
+                EventoDominio.ParticipanteRemovido.class)
+                .encerrarCom(myEventsView);
     }
 
     private void configManipuladoresDeEventoMeusEventos() {
@@ -59,9 +85,10 @@ public class MyEventsController {
         myEventsView.getBarraBuilder().getBtnProgramacao().setOnAction(e -> navegacaoService.navegarParaProgramacao(emailRecebido));
         myEventsView.getBarraBuilder().getBtnSair().setOnAction(e -> navegacaoService.abrirModalEncerrarSessao());
 
-        myEventsView.setNomeUsuario(usuarioSessaoService.procurarNome(emailRecebido));
         myEventsView.setEmailUsuario(emailRecebido);
-        myEventsView.setAvatar(usuarioSessaoService.procurarImagem(emailRecebido));
+        ServicosAssincronos.naThreadFx(servicosAssincronos.procurarNome(emailRecebido), myEventsView::setNomeUsuario);
+        ServicosAssincronos.naThreadFx(servicosAssincronos.procurarImagem(emailRecebido, ArmazemImagens.TAMANHO_AVATAR),
+                myEventsView::setAvatar);
     }
 
     private void configurarSeletorEventos() {
@@ -85,79 +112,110 @@ public class MyEventsController {
 
     private void carregarEventosParaOrganizador() {
         sistemaDeLogger.info("Carregando eventos criados pelo organizador...");
-        List<EventoModel> eventosCriados = usuarioSessaoService.procurarEventosCriados(emailRecebido);
-        List<EventoModel> eventosFuturos = eventosCriados.stream()
-                .filter(EventoModel::isEstado)
-                .filter(e -> e.getDataFinal().isAfter(LocalDate.now().minusDays(1)))
-                .collect(Collectors.toList());
-        exibirListaDeEventos(eventosFuturos, this::carregarEventosParaOrganizador);
+        CompletableFuture<List<EventoModel>> eventosFuturos = servicosAssincronos.procurarEventosCriados(emailRecebido)
+                .thenApply(eventosCriados -> eventosCriados.stream()
+                        .filter(EventoModel::isEstado)
+                        .filter(e -> e.getDataFinal().isAfter(LocalDate.now().minusDays(1)))
+                        .collect(Collectors.toList()));
+        exibirQuandoCarregada(eventosFuturos, this::carregarEventosParaOrganizador);
     }
 
     private void carregarEventosParaInscrito() {
         sistemaDeLogger.info("Carregando eventos em que o usuário está inscrito...");
-        List<EventoModel> eventosInscritos = usuarioSessaoService.procurarEventosInscritos(emailRecebido);
-        List<EventoModel> eventosFuturos = eventosInscritos.stream()
-                .filter(EventoModel::isEstado)
-                .filter(e -> e.getDataFinal().isAfter(LocalDate.now().minusDays(1)))
-                .collect(Collectors.toList());
-        exibirListaDeEventos(eventosFuturos, this::carregarEventosParaInscrito);
+        CompletableFuture<List<EventoModel>> eventosFuturos = servicosAssincronos.procurarEventosInscritos(emailRecebido)
+                .thenApply(eventosInscritos -> eventosInscritos.stream()
+                        .filter(EventoModel::isEstado)
+                        .filter(e -> e.getDataFinal().isAfter(LocalDate.now().minusDays(1)))
+                        .collect(Collectors.toList()));
+        exibirQuandoCarregada(eventosFuturos, this::carregarEventosParaInscrito);
     }
 
     private void carregarEventosFinalizados() {
         sistemaDeLogger.info("Carregando eventos finalizados...");
-        List<EventoModel> todosOsEventos = new ArrayList<>();
-        todosOsEventos.addAll(usuarioSessaoService.procurarEventosCriados(emailRecebido));
-        todosOsEventos.addAll(usuarioSessaoService.procurarEventosInscritos(emailRecebido));
-
-        List<EventoModel> eventosPassados = todosOsEventos.stream()
-                .distinct()
-                .filter(EventoModel::isEstado)
-                .filter(e -> e.getDataFinal().isBefore(LocalDate.now()))
-                .collect(Collectors.toList());
-        exibirListaDeEventos(eventosPassados, this::carregarEventosFinalizados);
+        CompletableFuture<List<EventoModel>> eventosPassados = servicosAssincronos.procurarEventosCriados(emailRecebido)
+                .thenCombine(servicosAssincronos.procurarEventosInscritos(emailRecebido), (criados, inscritos) -> {
+                    List<EventoModel> todosOsEventos = new ArrayList<>(criados);
+                    todosOsEventos.addAll(inscritos);
+                    return todosOsEventos.stream()
+                            .distinct()
+                            .filter(EventoModel::isEstado)
+                            .filter(e -> e.getDataFinal().isBefore(LocalDate.now()))
+                            .collect(Collectors.toList());
+                });
+        exibirQuandoCarregada(eventosPassados, this::carregarEventosFinalizados);
+    }
+
+    /**
+     * Exibe a lista quando ela terminar de carregar em segundo plano. Se outra categoria for selecionada antes disso, o
+     * resultado é descartado.
+     */
+    private void exibirQuandoCarregada(CompletableFuture<List<EventoModel>> listaDeEventos, Runnable refreshCallback) {
+        long geracao = ++geracaoDaListagem;
+        recarregarListagem = refreshCallback;
+        ServicosAssincronos.naThreadFx(listaDeEventos, eventos -> {
+            if (geracao == geracaoDaListagem) {
+                exibirListaDeEventos(eventos, refreshCallback);
+            }
+        });
     }
 
     /**
      * MÉTODO CENTRALIZADO: Responsável por renderizar qualquer lista de eventos na tela.
+     * Os eventos são exibidos em ordem de início, uma página por vez: a primeira é exibida imediatamente e as seguintes
+     * são acrescentadas por {@link #carregarMaisEventos()} quando a rolagem se aproxima do fim.
      * @param listaDeEventos A lista de EventoModel a ser exibida.
-     * @param refreshCallback A ação a ser executada para recarregar a lista atual.
+     * @param refreshCallback A ação que recarrega a lista atual, executada quando o {@link BarramentoEventos} publica
+     *                        mudanças em eventos.
      */
     private void exibirListaDeEventos(List<EventoModel> listaDeEventos, Runnable refreshCallback) {
         myEventsView.getListaEventos().getChildren().clear();
+        myEventsView.getScrollEventos().setVvalue(0);
+        eventosDaListagem = listaDeEventos;
+        cursorDaListagem = null;
+        listagemCompleta = false;
 
         if (listaDeEventos == null || listaDeEventos.isEmpty()) {
+            listagemCompleta = true;
             Label placeholder = new Label("Nenhum evento encontrado para esta categoria.");
             placeholder.getStyleClass().add("placeholder-label");
             myEventsView.getListaEventos().getChildren().add(placeholder);
             return;
         }
+        carregarMaisEventos();
+    }
 
-        for (EventoModel evento : listaDeEventos) {
-            EventoMECartao cartao = new EventoMECartao();
-
-            cartao.setLblTitulo(evento.getNome());
-            cartao.setLblLocal(evento.getLocalizacao());
-            String textoCapacidade = evento.getParticipantes().size() + "/" + evento.getnParticipantes();
-            cartao.setLblCapacidadeValor(textoCapacidade);
-            configurarDataDoCartao(cartao, evento);
-
-            Button botaoVer = cartao.getBtnVer();
-            Runnable callbackDeAtualizacao = () -> {
-                myEventsView.getListaEventos().getChildren().remove(cartao);
-                if (myEventsView.getListaEventos().getChildren().isEmpty()) {
-                    Label placeholder = new Label("Nenhum evento agendado para este dia.");
-                    placeholder.getStyleClass().add("placeholder-label");
-                    myEventsView.getListaEventos().getChildren().add(placeholder);
-                }
-            };
-
-            botaoVer.setOnAction(e -> {
-                HomeView.EventoH eventoH = converterParaEventoH(evento);
-                navegacaoService.abrirModalVerEvento(this.emailRecebido, eventoH, callbackDeAtualizacao);
-            });
-
-            myEventsView.getListaEventos().getChildren().add(cartao);
+    /**
+     * Acrescenta a próxima página da listagem atual, a partir do cursor da página anterior.
+     */
+    private void carregarMaisEventos() {
+        if (listagemCompleta || eventosDaListagem == null) {
+            return;
+        }
+        PaginaEventosDto pagina = EventoLeituraService.getInstancia().paginar(eventosDaListagem,
+                OrdenacaoEventosService.Ordenacao.DATA_INICIO, cursorDaListagem, TAMANHO_PAGINA);
+        for (EventoModel evento : pagina.eventos()) {
+            adicionarCartao(evento);
         }
+        cursorDaListagem = pagina.proximo();
+        listagemCompleta = !pagina.temMais();
+    }
+
+    private void adicionarCartao(EventoModel evento) {
+        EventoMECartao cartao = new EventoMECartao();
+
+        cartao.setLblTitulo(evento.getNome());
+        cartao.setLblLocal(evento.getLocalizacao());
+        String textoCapacidade = evento.getQuantidadeParticipantes() + "/" + evento.getnParticipantes();
+        cartao.setLblCapacidadeValor(textoCapacidade);
+        configurarDataDoCartao(cartao, evento);
+
+        Button botaoVer = cartao.getBtnVer();
+        botaoVer.setOnAction(e -> {
+            HomeView.EventoH eventoH = converterParaEventoH(evento);
+            navegacaoService.abrirModalVerEvento(this.emailRecebido, eventoH);
+        });
+
+        myEventsView.getListaEventos().getChildren().add(cartao);
     }
 
     private void configurarDataDoCartao(EventoMECartao cartao, EventoModel evento) {
@@ -175,16 +233,11 @@ public class MyEventsController {
         }
     }
 
+    /**
+     * Converte um EventoModel para o record EventoH usado pelo modal de visualização, reutilizando a projeção guardada
+     * pelo {@link ProjecaoEventosService} quando o evento não mudou.
+     */
     private HomeView.EventoH converterParaEventoH(EventoModel model) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("EEE dd, MMM uuuu", new Locale("pt", "BR"));
-        String dataHora1 = String.format("%s - %s", model.getDataInicial().format(formatter).toUpperCase(), model.getHoraInicial());
-        String dataHora2 = String.format("%s - %s", model.getDataFinal().format(formatter).toUpperCase(), model.getHoraFinal());
-        String formatoStr = model.getFormato().toString().substring(0, 1).toUpperCase() + model.getFormato().toString().substring(1).toLowerCase();
-        Set<String> preferencias = model.getComunidades().stream().map(Enum::toString).collect(Collectors.toSet());
-        String categoria = preferencias.stream().findFirst().orElse("Geral");
-        String horaI = String.valueOf(model.getHoraInicial());
-        String horaF = String.valueOf(model.getHoraFinal());
-        String local = (model.getFormato() == FormatoSelecionado.ONLINE) ? "Evento Online" : model.getLocalizacao();
-        return new HomeView.EventoH(model.getId(), model.getNome(), local, dataHora1, dataHora2, categoria, model.getFoto(), model.getDescricao(), model.getParticipantes().size(), model.getnParticipantes(), formatoStr, preferencias, model.getParticipantes(), model.getLinkAcesso(), model.getDataInicial(), model.getDataFinal(), horaI, horaF);
+        return ProjecaoEventosService.getInstancia().projetar(model);
     }
 }
\ No newline at end of file
@@ -12,6 +12,7 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Classe controladora da tela de Configurações do usuário, é responsável pela comunicação da tela de de configurações
@@ -60,7 +61,7 @@ public class SettingsController {
 
     /**
      * Este método configura os manipuladores de eventos para os botões da tela de configurações e, em caso de falha,
-     * exibe uma mensagem no console.
+     * exibe uma mensagem no console. Os dados do usuário são carregados por {@link #hidratarTela()}.
      */
     private void configManiouladoresEventoConfig() {
         sistemaDeLogger.info("Método configManiouladoresEventoConfig() chamado.");
@@ -73,15 +74,8 @@ public class SettingsController {
             settingsView.getBarraBuilder().getBtnSair().setOnAction(e -> navegacaoService.abrirModalEncerrarSessao());
             settingsView.getBtnDeleteAccount().setOnAction(e -> processarDeletarConta());
 
-            definirCheckBox(emailRecebido);
-
-            settingsView.setAvatarImagem(definirImagem(emailRecebido));
-
-            settingsView.getLbNomeUsuario().setText(definirNome(emailRecebido));
             settingsView.getLbEmailUsuario().setText(emailRecebido);
-            settingsView.getLbSenhaUsuario().setText(definirSenha(emailRecebido));
-            settingsView.getLbCidadeUsuario().setText(definirCidade(emailRecebido));
-            settingsView.getLbDataNascUsuario().setText(definirDataNasc(emailRecebido));
+            hidratarTela();
 
             settingsView.getHlAlterarNome().setOnAction(e -> navegacaoService.abrirModalMudanca(settingsView, emailRecebido, "nome"));
             settingsView.getHlAlterarSenha().setOnAction(e -> navegacaoService.abrirModalMudanca(settingsView, emailRecebido, "senha"));
@@ -97,6 +91,31 @@ public class SettingsController {
         }
     }
 
+    /**
+     * Carrega em paralelo a foto, os dados do perfil e as preferências do usuário e preenche a tela de uma vez quando
+     * todas as etapas terminam.
+     */
+    private void hidratarTela() {
+        CarregamentoTela carregamento = new CarregamentoTela("Configurações");
+
+        CompletableFuture<Image> imagem = carregamento.etapa("foto", () -> definirImagem(emailRecebido));
+        CompletableFuture<String> nome = carregamento.etapa("nome", () -> definirNome(emailRecebido));
+        CompletableFuture<String> senha = carregamento.etapa("senha", () -> definirSenha(emailRecebido));
+        CompletableFuture<String> cidade = carregamento.etapa("cidade", () -> definirCidade(emailRecebido));
+        CompletableFuture<String> dataNasc = carregamento.etapa("data de nascimento", () -> definirDataNasc(emailRecebido));
+        CompletableFuture<Set<Comunidade>> preferencias = carregamento.etapa("preferências",
+                () -> usuarioSessaoService.procurarPreferencias(emailRecebido));
+
+        carregamento.concluir(() -> {
+            definirCheckBox(preferencias.join());
+            settingsView.setAvatarImagem(imagem.join());
+            settingsView.getLbNomeUsuario().setText(nome.join());
+            settingsView.getLbSenhaUsuario().setText(senha.join());
+            settingsView.getLbCidadeUsuario().setText(cidade.join());
+            settingsView.getLbDataNascUsuario().setText(dataNasc.join());
+        });
+    }
+
     private void abrirModalParaEdicao() {
         navegacaoService.abrirModalEditarFiltros(emailRecebido);
 
@@ -105,12 +124,10 @@ public class SettingsController {
     }
 
     /**
-     * Pega as preferências salvas do usuário e atualiza o estado
-     * dos checkboxes individuais na tela para refletir essas preferências.
-     * @param email o email do usuário para buscar as preferências.
+     * Atualiza o estado dos checkboxes individuais na tela para refletir as preferências salvas do usuário.
+     * @param comunidadesSalvas as preferências do usuário, ou {@code null} se ele não tiver nenhuma salva.
      */
-    private void definirCheckBox(String email) {
-        Set<Comunidade> comunidadesSalvas = usuarioSessaoService.procurarPreferencias(email);;
+    private void definirCheckBox(Set<Comunidade> comunidadesSalvas) {
 
         if (comunidadesSalvas == null) {
             sistemaDeLogger.info("Usuário não possui preferências de comunidades salvas. Desmarcando todos os checkboxes.");
@@ -141,7 +158,7 @@ public class SettingsController {
     private Image definirImagem(String email) {
         sistemaDeLogger.info("Método definirImagem() chamado.");
         try {
-            Image imagemUsuario = usuarioSessaoService.procurarImagem(email);
+            Image imagemUsuario = usuarioSessaoService.procurarImagem(email, ArmazemImagens.TAMANHO_AVATAR_PERFIL);
             return imagemUsuario;
         } catch (Exception e) {
             sistemaDeLogger.error("Erro ao obter imagem do usuário: "+e.getMessage());
@@ -1,7 +1,8 @@
 package com.eventually.controller;
 
+import com.eventually.dto.CursorEventosDto;
+import com.eventually.dto.PaginaEventosDto;
 import com.eventually.model.EventoModel;
-import com.eventually.model.FormatoSelecionado;
 import com.eventually.model.UsuarioModel;
 import com.eventually.service.*;
 import com.eventually.view.*;
@@ -16,10 +17,10 @@ import org.slf4j.LoggerFactory;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 /**
@@ -35,8 +36,17 @@ public class UserScheduleController {
 
     private NavegacaoService navegacaoService;
     private UsuarioSessaoService usuarioSessaoService;
+    private ServicosAssincronos servicosAssincronos;
+    private AgendaService agendaService;
     private String emailRecebido;
 
+    private static final int TAMANHO_PAGINA = 10;
+    private List<EventoModel> eventosDaListagem;
+    private CursorEventosDto cursorDaListagem;
+    private boolean listagemCompleta;
+    private LocalDate dataExibida;
+    private long geracaoDaListagem;
+
     private AlertaService alertaService =new AlertaService();
 
     private static final Logger sistemaDeLogger = LoggerFactory.getLogger(UserScheduleController.class);
@@ -48,6 +58,8 @@ public class UserScheduleController {
      */
     public UserScheduleController(String email, UserScheduleView userScheduleView, Stage primaryStage) {
         this.usuarioSessaoService = UsuarioSessaoService.getInstancia();
+        this.agendaService = AgendaService.getInstancia();
+        this.servicosAssincronos = ServicosAssincronos.getInstancia();
         sistemaDeLogger.info("Inicializado e conectado ao UsuarioSessaoService.");
 
         this.emailRecebido = email;
@@ -58,13 +70,22 @@ public class UserScheduleController {
         this.primaryStage = primaryStage;
         this.navegacaoService = new NavegacaoService(primaryStage);
 
+        RolagemIncremental.instalar(userScheduleView.getScrollEventos(), this::carregarMaisEventos);
         configManipuladoresEventoProg();
         configurarSeletorDeDatas();
+
+        BarramentoEventos.getInstancia().assinarPorPulso(mudancas -> {
+                    if (dataExibida != null) {
+                        carregarEventosParaData(dataExibida);
+                    }
+                }, EventoDominio.EventoEditado.class, EventoDominio.EstadoEventoAlterado.class,
+                EventoDominio.ParticipanteAdicionado.class, EventoDominio.ParticipanteRemovido.class)
+                .encerrarCom(userScheduleView);
     }
 
     /**
      * Este método configura os manipuladores de eventos para os botões da tela de programação e, em caso de falha, exibe uma
-     * mensagem no console.
+     * mensagem no console. Os dados da tela são carregados por {@link #hidratarTela()}.
      */
     private void configManipuladoresEventoProg() {
         sistemaDeLogger.info("Método configManipuladoresEventoProg() chamado.");
@@ -77,9 +98,6 @@ public class UserScheduleController {
             userScheduleView.getBarraBuilder().getBtnSair().setOnAction(e -> navegacaoService.abrirModalEncerrarSessao());
 
             userScheduleView.getLbEmailUsuario().setText(emailRecebido);
-            userScheduleView.getLbNomeUsuario().setText(definirNome(emailRecebido));
-            userScheduleView.setAvatarImagem(definirImagem(emailRecebido));
-
 
             if (userScheduleView.getGrupoDatas() != null) {
                 userScheduleView.getGrupoDatas().selectedToggleProperty().addListener((obs, oldToggle, newToggle) -> {
@@ -88,7 +106,7 @@ public class UserScheduleController {
                     }
                 });
             }
-            carregarEventosParaData(LocalDate.now());
+            hidratarTela();
 
         } catch (Exception e) {
             sistemaDeLogger.error("Erro ao configurar manipuladores da tela de programação: "+e.getMessage());
@@ -96,6 +114,28 @@ public class UserScheduleController {
         }
     }
 
+    /**
+     * Carrega em paralelo o nome e a foto do usuário e os eventos dele no dia de hoje, e preenche a tela de uma vez
+     * quando todas as etapas terminam.
+     */
+    private void hidratarTela() {
+        LocalDate hoje = LocalDate.now();
+        long geracao = ++geracaoDaListagem;
+        CarregamentoTela carregamento = new CarregamentoTela("Programação");
+
+        CompletableFuture<String> nome = carregamento.etapa("nome", () -> definirNome(emailRecebido));
+        CompletableFuture<Image> imagem = carregamento.etapa("foto", () -> definirImagem(emailRecebido));
+        CompletableFuture<List<EventoModel>> eventos = carregamento.etapa("eventos do dia", () -> eventosNoDia(hoje));
+
+        carregamento.concluir(() -> {
+            userScheduleView.getLbNomeUsuario().setText(nome.join());
+            userScheduleView.setAvatarImagem(imagem.join());
+            if (geracao == geracaoDaListagem) {
+                exibirEventosDoDia(hoje, eventos.join() == null ? List.of() : eventos.join());
+            }
+        });
+    }
+
     /**
      * Este método retorna a imagem de perfil do usuário, se foi recém cadastrado no sistema, terá a imagem padrão.
      * @param email informado no cadastro.
@@ -104,7 +144,7 @@ public class UserScheduleController {
     private Image definirImagem(String email) {
         sistemaDeLogger.info("Método definirImagem() chamado.");
         try {
-            Image imagemUsuario = usuarioSessaoService.procurarImagem(email);
+            Image imagemUsuario = usuarioSessaoService.procurarImagem(email, ArmazemImagens.TAMANHO_AVATAR);
             return imagemUsuario;
         } catch (Exception e) {
             sistemaDeLogger.error("Erro ao obter imagem do usuário."+e.getMessage());
@@ -172,89 +212,100 @@ public class UserScheduleController {
 
         userScheduleView.atualizarCabecalho(dataSelecionada);
 
-        carregarEventosParaData(dataSelecionada);
+        if (!dataSelecionada.equals(dataExibida)) {
+            carregarEventosParaData(dataSelecionada);
+        }
     }
 
+    /**
+     * Busca em segundo plano os eventos do usuário no dia e os exibe quando chegam, desde que outra data não tenha sido
+     * selecionada nesse meio tempo.
+     */
     private void carregarEventosParaData(LocalDate dataAlvo) {
-        userScheduleView.getListaEventos().getChildren().clear();
-
-        List<EventoModel> todosOsEventos = new ArrayList<>();
-        List<EventoModel> listaDeEventosCriados = usuarioSessaoService.procurarEventosCriados(emailRecebido);
-        List<EventoModel> listaDeEventosInscritos = usuarioSessaoService.procurarEventosInscritos(emailRecebido);
-
-        if (listaDeEventosCriados != null) todosOsEventos.addAll(listaDeEventosCriados);
-        if (listaDeEventosInscritos != null) todosOsEventos.addAll(listaDeEventosInscritos);
+        long geracao = ++geracaoDaListagem;
+        ServicosAssincronos.naThreadFx(servicosAssincronos.executar(() -> eventosNoDia(dataAlvo)), eventos -> {
+            if (geracao == geracaoDaListagem) {
+                exibirEventosDoDia(dataAlvo, eventos);
+            }
+        });
+    }
 
-        List<EventoModel> eventosFiltrados = todosOsEventos.stream()
+    /**
+     * @return os eventos ativos do usuário no dia; pode ser chamado fora da thread do JavaFX.
+     */
+    private List<EventoModel> eventosNoDia(LocalDate dataAlvo) {
+        UsuarioModel usuario = usuarioSessaoService.procurarUsuario(emailRecebido);
+        return agendaService.eventosNoDia(usuario, dataAlvo).stream()
                 .filter(EventoModel::isEstado)
-                .filter(evento -> {
-                    if (evento.getDataInicial() == null || evento.getDataFinal() == null) { return false; }
-                    boolean comecaNoDia = evento.getDataInicial().equals(dataAlvo);
-                    boolean terminaNoDia = evento.getDataFinal().equals(dataAlvo);
-                    boolean estaNoMeio = dataAlvo.isAfter(evento.getDataInicial()) && dataAlvo.isBefore(evento.getDataFinal());
-                    return comecaNoDia || terminaNoDia || estaNoMeio;
-                })
                 .collect(Collectors.toList());
+    }
+
+    /**
+     * Exibe os eventos do usuário no dia, em ordem de início, uma página por vez: a primeira é exibida imediatamente e
+     * as seguintes são acrescentadas por {@link #carregarMaisEventos()} quando a rolagem se aproxima do fim.
+     */
+    private void exibirEventosDoDia(LocalDate dataAlvo, List<EventoModel> eventosFiltrados) {
+        userScheduleView.getListaEventos().getChildren().clear();
+        userScheduleView.getScrollEventos().setVvalue(0);
+        dataExibida = dataAlvo;
 
         sistemaDeLogger.info("Encontrados {} eventos para a data {}.", eventosFiltrados.size(), dataAlvo);
 
+        eventosDaListagem = eventosFiltrados;
+        cursorDaListagem = null;
+        listagemCompleta = eventosFiltrados.isEmpty();
+
         if (eventosFiltrados.isEmpty()) {
             Label placeholder = new Label("Nenhum evento agendado para este dia.");
             placeholder.getStyleClass().add("placeholder-label");
             userScheduleView.getListaEventos().getChildren().add(placeholder);
             return;
         }
+        carregarMaisEventos();
+    }
 
-        for (EventoModel evento : eventosFiltrados) {
-            EventoMECartao cartao = new EventoMECartao();
+    /**
+     * Acrescenta a próxima página dos eventos do dia, a partir do cursor da página anterior.
+     */
+    private void carregarMaisEventos() {
+        if (listagemCompleta || eventosDaListagem == null) {
+            return;
+        }
+        PaginaEventosDto pagina = EventoLeituraService.getInstancia().paginar(eventosDaListagem,
+                OrdenacaoEventosService.Ordenacao.DATA_INICIO, cursorDaListagem, TAMANHO_PAGINA);
+        for (EventoModel evento : pagina.eventos()) {
+            adicionarCartao(evento);
+        }
+        cursorDaListagem = pagina.proximo();
+        listagemCompleta = !pagina.temMais();
+    }
 
-            cartao.setLblTitulo(evento.getNome());
-            cartao.setLblLocal(evento.getLocalizacao());
-            String textoCapacidade = evento.getParticipantes().size() + "/" + evento.getnParticipantes();
-            cartao.setLblCapacidadeValor(textoCapacidade);
-            configurarDataDoCartao(cartao, evento);
+    private void adicionarCartao(EventoModel evento) {
+        EventoMECartao cartao = new EventoMECartao();
 
-            Button botaoVer = cartao.getBtnVer();
+        cartao.setLblTitulo(evento.getNome());
+        cartao.setLblLocal(evento.getLocalizacao());
+        String textoCapacidade = evento.getQuantidadeParticipantes() + "/" + evento.getnParticipantes();
+        cartao.setLblCapacidadeValor(textoCapacidade);
+        configurarDataDoCartao(cartao, evento);
 
-            Runnable callbackDeAtualizacao = () -> {
-                userScheduleView.getListaEventos().getChildren().remove(cartao);
-                if (userScheduleView.getListaEventos().getChildren().isEmpty()) {
-                    Label placeholder = new Label("Nenhum evento agendado para este dia.");
-                    placeholder.getStyleClass().add("placeholder-label");
-                    userScheduleView.getListaEventos().getChildren().add(placeholder);
-                }
-            };
+        Button botaoVer = cartao.getBtnVer();
 
-            botaoVer.setOnAction(e -> {
-                HomeView.EventoH eventoH = converterParaEventoH(evento);
+        botaoVer.setOnAction(e -> {
+            HomeView.EventoH eventoH = converterParaEventoH(evento);
 
-                navegacaoService.abrirModalVerEvento(this.emailRecebido, eventoH, callbackDeAtualizacao);
-            });
+            navegacaoService.abrirModalVerEvento(this.emailRecebido, eventoH);
+        });
 
-            userScheduleView.getListaEventos().getChildren().add(cartao);
-        }
+        userScheduleView.getListaEventos().getChildren().add(cartao);
     }
 
     /**
-     * Converte um EventoModel para o record EventoH usado pelo modal de visualização.
+     * Converte um EventoModel para o record EventoH usado pelo modal de visualização, reutilizando a projeção guardada
+     * pelo {@link ProjecaoEventosService} quando o evento não mudou.
      */
     private HomeView.EventoH converterParaEventoH(EventoModel model) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("EEE dd, MMM uuuu", new Locale("pt", "BR"));
-        String dataHora1 = String.format("%s - %s", model.getDataInicial().format(formatter).toUpperCase(), model.getHoraInicial());
-        String dataHora2 = String.format("%s - %s", model.getDataFinal().format(formatter).toUpperCase(), model.getHoraFinal());
-        String formatoStr = model.getFormato().toString().substring(0, 1).toUpperCase() + model.getFormato().toString().substring(1).toLowerCase();
-        Set<String> preferencias = model.getComunidades().stream().map(Enum::toString).collect(Collectors.toSet());
-        String categoria = preferencias.stream().findFirst().orElse("Geral");
-        String horaI = String.valueOf(model.getHoraInicial());
-        String horaF = String.valueOf(model.getHoraFinal());
-        String local = (model.getFormato() == FormatoSelecionado.ONLINE) ? "Evento Online" : model.getLocalizacao();
-
-        return new HomeView.EventoH(
-                model.getId(), model.getNome(), local, dataHora1, dataHora2,
-                categoria, model.getFoto(), model.getDescricao(), model.getParticipantes().size(),
-                model.getnParticipantes(), formatoStr, preferencias, model.getParticipantes(),
-                model.getLinkAcesso(), model.getDataInicial(), model.getDataFinal(), horaI, horaF
-        );
+        return ProjecaoEventosService.getInstancia().projetar(model);
     }
 
     /**
@@ -0,0 +1,17 @@
+package com.eventually.dto;
+
+import com.eventually.service.OrdenacaoEventosService;
+
+/**
+ * DTO que marca onde uma listagem paginada de eventos parou: a ordenação usada e a chave {@code (chave, id)} do último
+ * evento entregue. A próxima página começa no primeiro evento com chave posterior a essa, então eventos inseridos ou
+ * removidos antes do cursor não deslocam nem repetem itens, ao contrário de uma paginação por deslocamento.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public record CursorEventosDto(
+        OrdenacaoEventosService.Ordenacao ordenacao,
+        long chave,
+        int id
+) {}
@@ -0,0 +1,19 @@
+package com.eventually.dto;
+
+import com.eventually.model.EventoModel;
+
+import java.util.List;
+
+/**
+ * DTO com uma página de uma listagem de eventos e o cursor para pedir a seguinte, que é {@code null} quando a
+ * listagem terminou.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public record PaginaEventosDto(
+        List<EventoModel> eventos,
+        CursorEventosDto proximo
+) {
+    public boolean temMais() {return proximo != null;}
+}
@@ -0,0 +1,18 @@
+package com.eventually.dto;
+
+import com.eventually.model.UsuarioModel;
+
+import java.util.List;
+
+/**
+ * DTO com o resultado do sorteio das vagas de um evento inscrito por janela: a semente usada, que permite refazer o
+ * mesmo sorteio, os usuários contemplados com vagas e os que foram para a lista de espera, na ordem sorteada.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public record ResultadoSorteioDto(
+        long semente,
+        List<UsuarioModel> contemplados,
+        List<UsuarioModel> listaDeEspera
+) {}
@@ -1,7 +1,7 @@
 package com.eventually.model;
 
-import javafx.scene.image.Image;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -14,7 +14,7 @@ public class ComentarioModel {
     private String texto;
     private UsuarioModel autor;
     private EventoModel evento;
-    private Image fotoAnexada;
+    private String hashFotoAnexada;
     private final LocalDateTime dataHora;
 
     private final Set<UsuarioModel> usuariosQueCurtiram;
@@ -23,21 +23,32 @@ public class ComentarioModel {
         this(texto, autor, evento, null);
     }
 
-    public ComentarioModel(String texto, UsuarioModel autor, EventoModel evento, Image fotoAnexada) {
+    public ComentarioModel(String texto, UsuarioModel autor, EventoModel evento, String hashFotoAnexada) {
+        this(texto, autor, evento, hashFotoAnexada, LocalDateTime.now());
+    }
+
+    /**
+     * Construtor usado na restauração dos dados salvos, preservando a data e hora original do comentário.
+     */
+    public ComentarioModel(String texto, UsuarioModel autor, EventoModel evento, String hashFotoAnexada, LocalDateTime dataHora) {
         this.texto = texto;
         this.autor = autor;
         this.evento = evento;
-        this.fotoAnexada = fotoAnexada;
-        this.dataHora = LocalDateTime.now();
+        this.hashFotoAnexada = hashFotoAnexada;
+        this.dataHora = dataHora;
         this.usuariosQueCurtiram = new HashSet<>();
     }
 
     public String getTexto() { return texto; }
     public UsuarioModel getAutor() { return autor; }
     public EventoModel getEvento() { return evento; }
-    public Image getFotoAnexada() { return fotoAnexada; }
+    public String getHashFotoAnexada() { return hashFotoAnexada; }
     public LocalDateTime getDataHora() { return dataHora; }
 
+    public Set<UsuarioModel> getUsuariosQueCurtiram() {
+        return Collections.unmodifiableSet(this.usuariosQueCurtiram);
+    }
+
     public int getCurtidas() {
         return this.usuariosQueCurtiram.size();
     }
@@ -1,5 +1,6 @@
 package com.eventually.model;
-import javafx.scene.image.Image;
+
+import com.eventually.model.util.BitmapCompacto;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -11,7 +12,7 @@ import java.util.*;
  * datas de início e término, quantidade de participantes, classificação etária, presença de
  * certificado e participantes do evento.
  * @author Gabriella Tavares Costa Corrêa
- * @version 1.07
+ * @version 1.08
  * @since 2025-04-04
  */
 public class EventoModel {
@@ -23,20 +24,20 @@ public class EventoModel {
     private FormatoSelecionado formato;
     private String linkAcesso;  
     private String localizacao;
-    private Image foto;
+    private String hashFoto;
     private int nParticipantes;
     private LocalTime horaInicial, horaFinal;
     private LocalDate dataInicial, dataFinal;
 
     private Set<Comunidade> comunidades = new HashSet<>();
-    private List<UsuarioModel> participantes = new ArrayList<>();
+    private final BitmapCompacto idsParticipantes = new BitmapCompacto();
     private List<ComentarioModel> comentarios = new ArrayList<>();
 
     private boolean estado =true;
     private boolean isFinalizado=false;
     public EventoModel(UsuarioModel organizador, String nomeEvento, String descricao, FormatoSelecionado formato, String linkAcesso,
-                       String localizacao, Image foto, int nParticipantes, LocalDate dataInicial, LocalTime horaInicial,
-                       LocalDate dataFinal, LocalTime horaFinal, Set<Comunidade> comunidades, List<UsuarioModel> participantes, boolean estado, boolean isFinalizado, List<ComentarioModel> comentarios) {
+                       String localizacao, String hashFoto, int nParticipantes, LocalDate dataInicial, LocalTime horaInicial,
+                       LocalDate dataFinal, LocalTime horaFinal, Set<Comunidade> comunidades, boolean estado, boolean isFinalizado, List<ComentarioModel> comentarios) {
         this.organizador = organizador;
         this.nome = nomeEvento;
         this.descricao = descricao;
@@ -49,20 +50,10 @@ public class EventoModel {
         this.dataFinal = dataFinal;
         this.horaFinal = horaFinal;
         this.comunidades = comunidades;
-        if (participantes != null) {
-            this.participantes = participantes;
-        } else {
-            this.participantes = new ArrayList<>();
-        }
         this.comentarios =comentarios;
         this.estado = true;//comeca ativo
         this.isFinalizado = false;//comeca não finalizado
-
-        if (foto != null) {
-            this.foto = foto;
-        } else {
-            this.foto = new Image(getClass().getResourceAsStream("/images/evento-padrao.jpg"));
-        }
+        this.hashFoto = hashFoto;
     }
 
     /**
@@ -89,9 +80,12 @@ public class EventoModel {
     public String getLocalizacao() {return localizacao;}
     public void setLocalizacao(String localizacao) {this.localizacao = localizacao;}
 
-    public Image getFoto() {return foto;}
-    public void setFoto(Image foto) {this.foto = foto;}
-
+    /**
+     * A foto fica no {@code ArmazemImagens}; o modelo guarda apenas o hash do conteúdo, ou {@code null} quando usa a
+     * imagem padrão.
+     */
+    public String getHashFoto() {return hashFoto;}
+    public void setHashFoto(String hashFoto) {this.hashFoto = hashFoto;}
     public int getnParticipantes() {return nParticipantes;}
     public void setnParticipantes(int nParticipantes) {this.nParticipantes = nParticipantes;}
 
@@ -116,13 +110,20 @@ public class EventoModel {
     public boolean isFinalizado() {return isFinalizado;}
     public void setFinalizado(boolean finalizado) {isFinalizado = finalizado;}
 
-    public List<UsuarioModel> getParticipantes() {return participantes;}
-    public void setParticipantes(List<UsuarioModel> participantes) {
-        if (participantes != null) {
-        this.participantes = participantes;
-    } else {
-        this.participantes = new ArrayList<>();
-    }}
+    /**
+     * Os participantes são guardados apenas pelos IDs, em um {@link BitmapCompacto}: testar se um usuário está inscrito
+     * não percorre a lista, e cada inscrito ocupa cerca de 2 bytes em vez de uma referência. Os objetos são resolvidos
+     * pelo {@code UsuarioCadastroService} quando a tela precisa deles.
+     */
+    public synchronized boolean temParticipante(int idUsuario) {return idsParticipantes.contem(idUsuario);}
+    public synchronized boolean adicionarParticipante(int idUsuario) {return idsParticipantes.adicionar(idUsuario);}
+    public synchronized boolean removerParticipante(int idUsuario) {return idsParticipantes.remover(idUsuario);}
+    public synchronized int getQuantidadeParticipantes() {return idsParticipantes.cardinalidade();}
+
+    /**
+     * @return os IDs dos participantes, em ordem crescente.
+     */
+    public synchronized int[] getIdsParticipantes() {return idsParticipantes.paraArray();}
 
 
     public List<ComentarioModel> getComentarios() {return comentarios;}
@@ -1,5 +1,6 @@
 package com.eventually.model;
-import javafx.scene.image.Image;
+
+import com.eventually.model.util.BitmapCompacto;
 
 import java.time.LocalDate;
 import java.util.*;
@@ -9,7 +10,7 @@ import java.util.*;
  * email, senha, localização, data de nascimento, foto de usuário, eventos que participa,
  * eventos organizados, comundidades preferidos.
  * @author Gabriella Tavares Costa Corrêa (Construção da documentação, da classe e revisão da parte lógica da estrutura)
- * @version 1.08
+ * @version 1.09
  * @since 2025-04-08
  */
 public class UsuarioModel {
@@ -19,28 +20,21 @@ public class UsuarioModel {
     private String senha;
     private String cidade;
     private LocalDate dataNascimento;
-    private Image foto;
-    private List<EventoModel> eventosInscrito = new ArrayList<>();
-    private List<EventoModel> eventosOrganizados = new ArrayList<>();
+    private String hashFoto;
+    private final BitmapCompacto idsEventosInscrito = new BitmapCompacto();
+    private final BitmapCompacto idsEventosOrganizados = new BitmapCompacto();
     private Set<Comunidade> comunidades = new HashSet<>();
     private boolean estado =true;
 
     public UsuarioModel(String nome, String email, String senha, String cidade,
-                        LocalDate dataNascimento, Image foto, List<EventoModel> eventosCriados, List<EventoModel> eventosInscritos,
-                        Set<Comunidade> comunidades, boolean estado)
+                        LocalDate dataNascimento, String hashFoto, Set<Comunidade> comunidades, boolean estado)
     {
         this.nome = nome;
         this.email = email;
         this.senha = senha;
         this.cidade = cidade;
         this.dataNascimento = dataNascimento;
-        if (foto != null) {
-            this.foto = foto;
-        } else {
-            this.foto = new Image(getClass().getResourceAsStream("/images/icone-padrao-usuario.png"));
-        }
-        this.eventosOrganizados = eventosCriados;
-        this.eventosInscrito = eventosInscritos;
+        this.hashFoto = hashFoto;
         this.comunidades = comunidades;
         this.estado = true; //comeca ativa
     }
@@ -66,14 +60,25 @@ public class UsuarioModel {
     public String getCidade() {return cidade;}
     public void setCidade(String cidade) {this.cidade = cidade;}
 
-    public Image getFoto() {return foto;}
-    public void setFoto(Image foto) {this.foto = foto;}
-
-    public List<EventoModel> getEventosOrganizados() {return eventosOrganizados;}
-    public void setEventosOrganizados(List<EventoModel> eventosOrganizados) {this.eventosOrganizados = eventosOrganizados;}
+    /**
+     * A foto fica no {@code ArmazemImagens}; o modelo guarda apenas o hash do conteúdo, ou {@code null} quando usa a
+     * imagem padrão.
+     */
+    public String getHashFoto() {return hashFoto;}
+    public void setHashFoto(String hashFoto) {this.hashFoto = hashFoto;}
 
-    public List<EventoModel> getEventosInscrito() {return eventosInscrito;}
-    public void setEventosInscrito(List<EventoModel> eventosInscrito) {this.eventosInscrito = eventosInscrito;}
+    /**
+     * Os eventos organizados e inscritos são guardados apenas pelos IDs, em {@link BitmapCompacto}s, e resolvidos pelo
+     * {@code EventoCriacaoService} quando a tela precisa deles. Os IDs são devolvidos em ordem crescente.
+     */
+    public synchronized boolean isOrganizadorDe(int idEvento) {return idsEventosOrganizados.contem(idEvento);}
+    public synchronized boolean adicionarEventoOrganizado(int idEvento) {return idsEventosOrganizados.adicionar(idEvento);}
+    public synchronized int[] getIdsEventosOrganizados() {return idsEventosOrganizados.paraArray();}
+
+    public synchronized boolean isInscritoEm(int idEvento) {return idsEventosInscrito.contem(idEvento);}
+    public synchronized boolean adicionarInscricao(int idEvento) {return idsEventosInscrito.adicionar(idEvento);}
+    public synchronized boolean removerInscricao(int idEvento) {return idsEventosInscrito.remover(idEvento);}
+    public synchronized int[] getIdsEventosInscrito() {return idsEventosInscrito.paraArray();}
 
     public Set<Comunidade> getComunidades() {return comunidades;}
     public void setComunidades(Set<Comunidade> comunidades) {this.comunidades = comunidades;}
@@ -0,0 +1,409 @@
+package com.eventually.model.util;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * Conjunto de inteiros não negativos comprimido no estilo "Roaring": os valores são agrupados pelos 16 bits altos e
+ * cada grupo é guardado em um contêiner próprio, que é um array ordenado dos 16 bits baixos enquanto tem até
+ * {@value #LIMITE_ARRAY} elementos e passa a ser um mapa de 65.536 bits quando fica mais denso.
+ * Grupos esparsos ocupam 2 bytes por elemento e grupos densos, no máximo 8 KB, e as operações de união, interseção e
+ * diferença trabalham contêiner a contêiner, palavra a palavra quando ambos são mapas de bits.
+ * Não é seguro para uso concorrente sem sincronização externa.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class BitmapCompacto {
+    private static final int LIMITE_ARRAY = 4096;
+    private static final int PALAVRAS = 1 << 10;
+
+    private char[] chaves = new char[0];
+    private Conteiner[] conteineres = new Conteiner[0];
+    private int quantidadeConteineres;
+
+    /**
+     * Contêiner dos 16 bits baixos de um grupo: {@code valores} ordenados enquanto esparso, {@code bits} quando denso.
+     */
+    private static final class Conteiner {
+        char[] valores;
+        long[] bits;
+        int cardinalidade;
+
+        static Conteiner vazio() {
+            Conteiner conteiner = new Conteiner();
+            conteiner.valores = new char[4];
+            return conteiner;
+        }
+
+        boolean contem(char valor) {
+            if (bits != null) {
+                return (bits[valor >>> 6] & (1L << valor)) != 0;
+            }
+            return Arrays.binarySearch(valores, 0, cardinalidade, valor) >= 0;
+        }
+
+        boolean adicionar(char valor) {
+            if (bits != null) {
+                long antes = bits[valor >>> 6];
+                bits[valor >>> 6] = antes | (1L << valor);
+                if (antes == bits[valor >>> 6]) {
+                    return false;
+                }
+                cardinalidade++;
+                return true;
+            }
+            int posicao = Arrays.binarySearch(valores, 0, cardinalidade, valor);
+            if (posicao >= 0) {
+                return false;
+            }
+            if (cardinalidade == LIMITE_ARRAY) {
+                converterParaBits();
+                return adicionar(valor);
+            }
+            posicao = -posicao - 1;
+            if (cardinalidade == valores.length) {
+                valores = Arrays.copyOf(valores, Math.min(LIMITE_ARRAY, valores.length * 2));
+            }
+            System.arraycopy(valores, posicao, valores, posicao + 1, cardinalidade - posicao);
+            valores[posicao] = valor;
+            cardinalidade++;
+            return true;
+        }
+
+        boolean remover(char valor) {
+            if (bits != null) {
+                long antes = bits[valor >>> 6];
+                bits[valor >>> 6] = antes & ~(1L << valor);
+                if (antes == bits[valor >>> 6]) {
+                    return false;
+                }
+                cardinalidade--;
+                if (cardinalidade <= LIMITE_ARRAY) {
+                    converterParaArray();
+                }
+                return true;
+            }
+            int posicao = Arrays.binarySearch(valores, 0, cardinalidade, valor);
+            if (posicao < 0) {
+                return false;
+            }
+            System.arraycopy(valores, posicao + 1, valores, posicao, cardinalidade - posicao - 1);
+            cardinalidade--;
+            return true;
+        }
+
+        long[] comoBits() {
+            if (bits != null) {
+                return bits;
+            }
+            long[] resultado = new long[PALAVRAS];
+            for (int i = 0; i < cardinalidade; i++) {
+                resultado[valores[i] >>> 6] |= 1L << valores[i];
+            }
+            return resultado;
+        }
+
+        private void converterParaBits() {
+            bits = comoBits();
+            valores = null;
+        }
+
+        private void converterParaArray() {
+            char[] novos = new char[cardinalidade];
+            int i = 0;
+            for (int palavra = 0; palavra < PALAVRAS; palavra++) {
+                long restante = bits[palavra];
+                while (restante != 0) {
+                    novos[i++] = (char) ((palavra << 6) + Long.numberOfTrailingZeros(restante));
+                    restante &= restante - 1;
+                }
+            }
+            valores = novos;
+            bits = null;
+        }
+
+        /**
+         * @return um contêiner com os bits informados, no formato mais compacto, ou {@code null} se estiver vazio.
+         */
+        static Conteiner deBits(long[] bits) {
+            int cardinalidade = 0;
+            for (long palavra : bits) {
+                cardinalidade += Long.bitCount(palavra);
+            }
+            if (cardinalidade == 0) {
+                return null;
+            }
+            Conteiner conteiner = new Conteiner();
+            conteiner.bits = bits;
+            conteiner.cardinalidade = cardinalidade;
+            if (cardinalidade <= LIMITE_ARRAY) {
+                conteiner.converterParaArray();
+            }
+            return conteiner;
+        }
+
+        static Conteiner deValores(char[] valores, int cardinalidade) {
+            if (cardinalidade == 0) {
+                return null;
+            }
+            Conteiner conteiner = new Conteiner();
+            conteiner.valores = valores;
+            conteiner.cardinalidade = cardinalidade;
+            if (cardinalidade > LIMITE_ARRAY) {
+                conteiner.converterParaBits();
+            }
+            return conteiner;
+        }
+
+        Conteiner copia() {
+            Conteiner copia = new Conteiner();
+            copia.cardinalidade = cardinalidade;
+            copia.bits = bits == null ? null : bits.clone();
+            copia.valores = valores == null ? null : Arrays.copyOf(valores, Math.max(4, cardinalidade));
+            return copia;
+        }
+
+        void paraCada(int alto, IntConsumer acao) {
+            if (bits == null) {
+                for (int i = 0; i < cardinalidade; i++) {
+                    acao.accept(alto | valores[i]);
+                }
+                return;
+            }
+            for (int palavra = 0; palavra < PALAVRAS; palavra++) {
+                long restante = bits[palavra];
+                while (restante != 0) {
+                    acao.accept(alto | (palavra << 6) + Long.numberOfTrailingZeros(restante));
+                    restante &= restante - 1;
+                }
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} se o valor não estava no conjunto.
+     */
+    public boolean adicionar(int valor) {
+        validar(valor);
+        char alto = (char) (valor >>> 16);
+        int posicao = posicaoDe(alto);
+        if (posicao < 0) {
+            posicao = -posicao - 1;
+            inserirConteiner(posicao, alto, Conteiner.vazio());
+        }
+        return conteineres[posicao].adicionar((char) valor);
+    }
+
+    /**
+     * @return {@code true} se o valor estava no conjunto.
+     */
+    public boolean remover(int valor) {
+        validar(valor);
+        int posicao = posicaoDe((char) (valor >>> 16));
+        if (posicao < 0 || !conteineres[posicao].remover((char) valor)) {
+            return false;
+        }
+        if (conteineres[posicao].cardinalidade == 0) {
+            System.arraycopy(chaves, posicao + 1, chaves, posicao, quantidadeConteineres - posicao - 1);
+            System.arraycopy(conteineres, posicao + 1, conteineres, posicao, quantidadeConteineres - posicao - 1);
+            conteineres[--quantidadeConteineres] = null;
+        }
+        return true;
+    }
+
+    public boolean contem(int valor) {
+        if (valor < 0) {
+            return false;
+        }
+        int posicao = posicaoDe((char) (valor >>> 16));
+        return posicao >= 0 && conteineres[posicao].contem((char) valor);
+    }
+
+    public int cardinalidade() {
+        int total = 0;
+        for (int i = 0; i < quantidadeConteineres; i++) {
+            total += conteineres[i].cardinalidade;
+        }
+        return total;
+    }
+
+    public boolean isVazio() {return quantidadeConteineres == 0;}
+
+    /**
+     * Percorre os valores do conjunto em ordem crescente.
+     */
+    public void paraCada(IntConsumer acao) {
+        for (int i = 0; i < quantidadeConteineres; i++) {
+            conteineres[i].paraCada(chaves[i] << 16, acao);
+        }
+    }
+
+    /**
+     * @return os valores do conjunto em ordem crescente.
+     */
+    public int[] paraArray() {
+        int[] valores = new int[cardinalidade()];
+        int[] posicao = {0};
+        paraCada(valor -> valores[posicao[0]++] = valor);
+        return valores;
+    }
+
+    public BitmapCompacto copia() {
+        BitmapCompacto copia = new BitmapCompacto();
+        copia.chaves = Arrays.copyOf(chaves, quantidadeConteineres);
+        copia.conteineres = new Conteiner[quantidadeConteineres];
+        for (int i = 0; i < quantidadeConteineres; i++) {
+            copia.conteineres[i] = conteineres[i].copia();
+        }
+        copia.quantidadeConteineres = quantidadeConteineres;
+        return copia;
+    }
+
+    /**
+     * @return um novo conjunto com os valores presentes em {@code a} ou em {@code b}.
+     */
+    public static BitmapCompacto uniao(BitmapCompacto a, BitmapCompacto b) {
+        BitmapCompacto resultado = new BitmapCompacto();
+        int i = 0;
+        int j = 0;
+        while (i < a.quantidadeConteineres || j < b.quantidadeConteineres) {
+            int chaveA = i < a.quantidadeConteineres ? a.chaves[i] : Integer.MAX_VALUE;
+            int chaveB = j < b.quantidadeConteineres ? b.chaves[j] : Integer.MAX_VALUE;
+            if (chaveA < chaveB) {
+                resultado.anexarConteiner((char) chaveA, a.conteineres[i++].copia());
+            } else if (chaveB < chaveA) {
+                resultado.anexarConteiner((char) chaveB, b.conteineres[j++].copia());
+            } else {
+                resultado.anexarConteiner((char) chaveA, unir(a.conteineres[i++], b.conteineres[j++]));
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * @return um novo conjunto com os valores presentes em {@code a} e em {@code b}.
+     */
+    public static BitmapCompacto intersecao(BitmapCompacto a, BitmapCompacto b) {
+        BitmapCompacto resultado = new BitmapCompacto();
+        int i = 0;
+        int j = 0;
+        while (i < a.quantidadeConteineres && j < b.quantidadeConteineres) {
+            if (a.chaves[i] < b.chaves[j]) {
+                i++;
+            } else if (b.chaves[j] < a.chaves[i]) {
+                j++;
+            } else {
+                resultado.anexarConteiner(a.chaves[i], intersectar(a.conteineres[i++], b.conteineres[j++]));
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * @return um novo conjunto com os valores presentes em {@code a} e ausentes em {@code b}.
+     */
+    public static BitmapCompacto diferenca(BitmapCompacto a, BitmapCompacto b) {
+        BitmapCompacto resultado = new BitmapCompacto();
+        int j = 0;
+        for (int i = 0; i < a.quantidadeConteineres; i++) {
+            while (j < b.quantidadeConteineres && b.chaves[j] < a.chaves[i]) {
+                j++;
+            }
+            if (j < b.quantidadeConteineres && b.chaves[j] == a.chaves[i]) {
+                long[] bits = a.conteineres[i].comoBits().clone();
+                long[] remover = b.conteineres[j].comoBits();
+                for (int palavra = 0; palavra < PALAVRAS; palavra++) {
+                    bits[palavra] &= ~remover[palavra];
+                }
+                resultado.anexarConteiner(a.chaves[i], Conteiner.deBits(bits));
+            } else {
+                resultado.anexarConteiner(a.chaves[i], a.conteineres[i].copia());
+            }
+        }
+        return resultado;
+    }
+
+    private static Conteiner unir(Conteiner a, Conteiner b) {
+        if (a.bits == null && b.bits == null) {
+            char[] valores = new char[a.cardinalidade + b.cardinalidade];
+            int i = 0, j = 0, k = 0;
+            while (i < a.cardinalidade && j < b.cardinalidade) {
+                char x = a.valores[i];
+                char y = b.valores[j];
+                if (x == y) {
+                    valores[k++] = x;
+                    i++;
+                    j++;
+                } else if (x < y) {
+                    valores[k++] = x;
+                    i++;
+                } else {
+                    valores[k++] = y;
+                    j++;
+                }
+            }
+            while (i < a.cardinalidade) valores[k++] = a.valores[i++];
+            while (j < b.cardinalidade) valores[k++] = b.valores[j++];
+            return Conteiner.deValores(valores, k);
+        }
+        long[] bits = a.comoBits().clone();
+        long[] outros = b.comoBits();
+        for (int palavra = 0; palavra < PALAVRAS; palavra++) {
+            bits[palavra] |= outros[palavra];
+        }
+        return Conteiner.deBits(bits);
+    }
+
+    private static Conteiner intersectar(Conteiner a, Conteiner b) {
+        if (a.bits == null || b.bits == null) {
+            Conteiner esparso = a.bits == null ? a : b;
+            Conteiner outro = esparso == a ? b : a;
+            char[] valores = new char[esparso.cardinalidade];
+            int k = 0;
+            for (int i = 0; i < esparso.cardinalidade; i++) {
+                if (outro.contem(esparso.valores[i])) {
+                    valores[k++] = esparso.valores[i];
+                }
+            }
+            return Conteiner.deValores(valores, k);
+        }
+        long[] bits = new long[PALAVRAS];
+        for (int palavra = 0; palavra < PALAVRAS; palavra++) {
+            bits[palavra] = a.bits[palavra] & b.bits[palavra];
+        }
+        return Conteiner.deBits(bits);
+    }
+
+    private int posicaoDe(char alto) {
+        return Arrays.binarySearch(chaves, 0, quantidadeConteineres, alto);
+    }
+
+    private void inserirConteiner(int posicao, char alto, Conteiner conteiner) {
+        if (quantidadeConteineres == chaves.length) {
+            int capacidade = Math.max(4, chaves.length * 2);
+            chaves = Arrays.copyOf(chaves, capacidade);
+            conteineres = Arrays.copyOf(conteineres, capacidade);
+        }
+        System.arraycopy(chaves, posicao, chaves, posicao + 1, quantidadeConteineres - posicao);
+        System.arraycopy(conteineres, posicao, conteineres, posicao + 1, quantidadeConteineres - posicao);
+        chaves[posicao] = alto;
+        conteineres[posicao] = conteiner;
+        quantidadeConteineres++;
+    }
+
+    /**
+     * Acrescenta um contêiner no final (as chaves chegam em ordem crescente nas operações de conjunto).
+     */
+    private void anexarConteiner(char alto, Conteiner conteiner) {
+        if (conteiner != null) {
+            inserirConteiner(quantidadeConteineres, alto, conteiner);
+        }
+    }
+
+    private static void validar(int valor) {
+        if (valor < 0) {
+            throw new IllegalArgumentException("Valor negativo: " + valor);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.eventually.service;
+
+import com.eventually.model.EventoModel;
+import com.eventually.model.UsuarioModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Esta classe é um Singleton, garantindo que apenas uma instância de {@code AgendaService} exista em toda a aplicação.
+ * Responde às consultas de agenda ("eventos ativos no dia D" e "eventos no período [D1, D2]") por meio de um
+ * {@link IndiceIntervalos} sobre as datas dos eventos, indexadas como dia epoch: um índice global, com todos os
+ * eventos, e um por usuário, com os eventos que ele organiza ou em que está inscrito.
+ * Os índices são construídos sob demanda e ficam válidos até a próxima chamada a {@link #invalidar()}, feita pelos
+ * serviços sempre que um evento é criado, tem as datas alteradas ou ganha/perde inscritos. Assim, alternar entre os dias
+ * da agenda não percorre mais as listas do usuário.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class AgendaService {
+    private static AgendaService instancia;
+
+    private long versao;
+    private IndiceIntervalos<EventoModel> indiceGlobal;
+    private long versaoIndiceGlobal = -1;
+    private final IndiceInt<IndiceDoUsuario> indicesPorUsuario = new IndiceInt<>();
+
+    private record IndiceDoUsuario(long versao, IndiceIntervalos<EventoModel> indice) {}
+
+    private static final Logger sistemaDeLogger = LoggerFactory.getLogger(AgendaService.class);
+
+    private AgendaService() {
+        sistemaDeLogger.info("Inicializado.");
+    }
+
+    /**
+     * Retorna a instância única de {@code AgendaService}, se ainda não existe, ela é criada e, em caso de falha, é
+     * exibida uma mensagem no console.
+     * @return a instância única de {@code AgendaService}.
+     */
+    public static synchronized AgendaService getInstancia() {
+        try {
+            if (instancia == null) {
+                instancia = new AgendaService();
+            }
+            return instancia;
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao retornar a instância."+e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Descarta os índices construídos; eles são refeitos na próxima consulta.
+     */
+    public synchronized void invalidar() {
+        versao++;
+    }
+
+    /**
+     * @return os eventos organizados pelo usuário ou em que ele está inscrito que acontecem no dia, em ordem de início.
+     */
+    public synchronized List<EventoModel> eventosNoDia(UsuarioModel usuario, LocalDate dia) {
+        return indiceDo(usuario).listarContendo(Math.toIntExact(dia.toEpochDay()));
+    }
+
+    /**
+     * @return os eventos organizados pelo usuário ou em que ele está inscrito que acontecem em algum dia do período,
+     * em ordem de início.
+     */
+    public synchronized List<EventoModel> eventosNoPeriodo(UsuarioModel usuario, LocalDate de, LocalDate ate) {
+        return indiceDo(usuario).listarSobrepostos(Math.toIntExact(de.toEpochDay()), Math.toIntExact(ate.toEpochDay()));
+    }
+
+    /**
+     * @return todos os eventos que acontecem no dia, em ordem de início.
+     */
+    public synchronized List<EventoModel> eventosNoDia(LocalDate dia) {
+        return indiceGlobal().listarContendo(Math.toIntExact(dia.toEpochDay()));
+    }
+
+    /**
+     * @return todos os eventos que acontecem em algum dia do período, em ordem de início.
+     */
+    public synchronized List<EventoModel> eventosNoPeriodo(LocalDate de, LocalDate ate) {
+        return indiceGlobal().listarSobrepostos(Math.toIntExact(de.toEpochDay()), Math.toIntExact(ate.toEpochDay()));
+    }
+
+    private IndiceIntervalos<EventoModel> indiceGlobal() {
+        if (versaoIndiceGlobal != versao) {
+            indiceGlobal = indexar(EventoCriacaoService.getInstancia().getAllEventos());
+            versaoIndiceGlobal = versao;
+        }
+        return indiceGlobal;
+    }
+
+    private IndiceIntervalos<EventoModel> indiceDo(UsuarioModel usuario) {
+        if (usuario == null) {
+            return indexar(List.of());
+        }
+        IndiceDoUsuario existente = indicesPorUsuario.get(usuario.getId());
+        if (existente != null && existente.versao() == versao) {
+            return existente.indice();
+        }
+        Set<EventoModel> eventos = Collections.newSetFromMap(new IdentityHashMap<>());
+        EventoCriacaoService eventoCriacaoService = EventoCriacaoService.getInstancia();
+        eventos.addAll(eventoCriacaoService.buscarEventosPorIds(usuario.getIdsEventosOrganizados()));
+        eventos.addAll(eventoCriacaoService.buscarEventosPorIds(usuario.getIdsEventosInscrito()));
+        IndiceIntervalos<EventoModel> indice = indexar(eventos);
+        indicesPorUsuario.put(usuario.getId(), new IndiceDoUsuario(versao, indice));
+        sistemaDeLogger.info("Agenda do usuário {} indexada com {} eventos.", usuario.getId(), indice.tamanho());
+        return indice;
+    }
+
+    private static IndiceIntervalos<EventoModel> indexar(Collection<EventoModel> eventos) {
+        List<EventoModel> datados = new ArrayList<>(eventos.size());
+        for (EventoModel evento : eventos) {
+            if (evento.getDataInicial() != null && evento.getDataFinal() != null) {
+                datados.add(evento);
+            }
+        }
+        return IndiceIntervalos.construir(datados,
+                evento -> Math.toIntExact(evento.getDataInicial().toEpochDay()),
+                evento -> Math.toIntExact(evento.getDataFinal().toEpochDay()));
+    }
+}
@@ -1,6 +1,7 @@
 package com.eventually.service;
 
 import com.eventually.controller.LoginController;
+import javafx.application.Platform;
 import javafx.scene.control.Alert;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -11,6 +12,8 @@ import org.slf4j.LoggerFactory;
 /**
  * Serviço responsável por exibir mensagens de alerta ao usuário,
  * utilizando os tipos padrão da interface JavaFX.
+ * Os alertas podem ser pedidos de qualquer thread: fora da thread do JavaFX, a exibição é agendada com
+ * {@link Platform#runLater(Runnable)} e o método retorna sem esperar o usuário fechar o alerta.
  * @author Gabriella Tavares Costa Corrêa
  * @version 1.04
  * @since 2025-05-15
@@ -39,12 +42,16 @@ public class AlertaService {
      * @param mensagem a mensagem a ser exibida no corpo do alerta.
      */
     public static void alertarWarn(String titulo, String mensagem) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> alertarWarn(titulo, mensagem));
+            return;
+        }
         Alert alert = new Alert(Alert.AlertType.WARNING);
         alert.setTitle(titulo);
         alert.setHeaderText(null);
         alert.setContentText(mensagem);
         try {
-            Image icon = new Image(AlertaService.class.getResourceAsStream("/images/aviso-icone.png"));
+            Image icon = RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.ICONE_AVISO);
 
             ImageView imageView = new ImageView(icon);
             imageView.setFitWidth(48);
@@ -66,12 +73,16 @@ public class AlertaService {
      * @param mensagem a mensagem a ser exibida no corpo do alerta (ex: "Operação concluída com êxito.").
      */
     public static void alertarSucesso(String titulo, String mensagem) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> alertarSucesso(titulo, mensagem));
+            return;
+        }
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle(titulo);
         alert.setHeaderText(null);
         alert.setContentText(mensagem);
         try {
-            Image icon = new Image(AlertaService.class.getResourceAsStream("/images/sucesso-icone.png"));
+            Image icon = RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.ICONE_SUCESSO);
 
             ImageView imageView = new ImageView(icon);
             imageView.setFitWidth(48);
@@ -94,12 +105,16 @@ public class AlertaService {
      * @param mensagem a mensagem de erro a ser exibida.
      */
     public static void alertarErro(String mensagem) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> alertarErro(mensagem));
+            return;
+        }
         Alert alert = new Alert(Alert.AlertType.ERROR);
         alert.setTitle("Erro");
         alert.setHeaderText(null);
         alert.setContentText(mensagem);
         try {
-            Image icon = new Image(AlertaService.class.getResourceAsStream("/images/alerta-icone.png"));
+            Image icon = RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.ICONE_ERRO);
 
             ImageView imageView = new ImageView(icon);
             imageView.setFitWidth(48);
@@ -122,12 +137,16 @@ public class AlertaService {
      * @param mensagem a mensagem a ser exibida ao usuário.
      */
     public static void alertarInfo(String mensagem) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> alertarInfo(mensagem));
+            return;
+        }
         Alert alert = new Alert(Alert.AlertType.INFORMATION);
         alert.setTitle("Informação");
         alert.setHeaderText(null);
         alert.setContentText(mensagem);
         try {
-            Image icon = new Image(AlertaService.class.getResourceAsStream("/images/info-icon.png"));
+            Image icon = RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.ICONE_INFO);
 
             ImageView imageView = new ImageView(icon);
             imageView.setFitWidth(48);
@@ -0,0 +1,123 @@
+package com.eventually.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Analisador de textos em português usado pela busca de eventos: separa o texto em palavras, converte para minúsculas,
+ * remove acentos e cedilha ("Educação" e "educacao" viram o mesmo termo), descarta palavras muito comuns e reduz cada
+ * palavra a um radical com um removedor de sufixos simples, para que plurais, femininos e derivações próximas
+ * ("palestra", "palestras", "palestrante") caiam no mesmo termo.
+ * O mesmo analisador é aplicado aos textos indexados e às consultas, então o radical só precisa ser consistente, não
+ * linguisticamente exato.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class AnalisadorTexto {
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final int TAMANHO_MINIMO_RADICAL = 3;
+
+    private static final Set<String> PALAVRAS_VAZIAS = Set.of(
+            "a", "o", "as", "os", "um", "uma", "uns", "umas", "de", "da", "do", "das", "dos", "e", "em", "no", "na",
+            "nos", "nas", "ao", "aos", "para", "pra", "por", "pelo", "pela", "com", "sem", "que", "se", "ou", "mas",
+            "como", "sobre", "entre", "ate", "seu", "sua", "seus", "suas", "este", "esta", "esse", "essa", "isso");
+
+    /**
+     * Sufixos derivacionais removidos do radical, dos mais longos para os mais curtos.
+     */
+    private static final String[] SUFIXOS = {
+            "amentos", "imentos", "amento", "imento", "mente", "idades", "idade", "acoes", "icoes", "acao", "icao",
+            "adores", "adoras", "ador", "adora", "antes", "ante", "istas", "ista", "ismos", "ismo", "ivas", "ivos",
+            "iva", "ivo", "ezas", "eza", "osas", "osos", "osa", "oso", "ais", "al"
+    };
+
+    private AnalisadorTexto() {}
+
+    /**
+     * @param texto o texto a analisar; pode ser {@code null}.
+     * @return os radicais das palavras do texto, na ordem em que aparecem, sem palavras vazias.
+     */
+    public static List<String> analisar(String texto) {
+        List<String> termos = new ArrayList<>();
+        for (String palavra : palavras(texto)) {
+            if (!PALAVRAS_VAZIAS.contains(palavra)) {
+                termos.add(radical(palavra));
+            }
+        }
+        return termos;
+    }
+
+    /**
+     * @param texto o texto a separar; pode ser {@code null}.
+     * @return as palavras do texto normalizadas (minúsculas e sem acentos), sem aplicar radicais.
+     */
+    public static List<String> palavras(String texto) {
+        List<String> palavras = new ArrayList<>();
+        if (texto == null || texto.isBlank()) {
+            return palavras;
+        }
+        for (String palavra : SEPARADORES.split(normalizar(texto))) {
+            if (palavra.length() > 1 || (!palavra.isEmpty() && Character.isDigit(palavra.charAt(0)))) {
+                palavras.add(palavra);
+            }
+        }
+        return palavras;
+    }
+
+    /**
+     * @param palavra a palavra já normalizada.
+     * @return {@code true} se a palavra é comum demais para ser indexada ("de", "para", "com"...).
+     */
+    public static boolean ehPalavraVazia(String palavra) {return PALAVRAS_VAZIAS.contains(palavra);}
+
+    /**
+     * @return o texto em minúsculas e sem acentos.
+     */
+    public static String normalizar(String texto) {
+        String decomposto = Normalizer.normalize(texto.toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+        return MARCAS_DIACRITICAS.matcher(decomposto).replaceAll("");
+    }
+
+    /**
+     * Reduz uma palavra já normalizada ao seu radical: trata os plurais irregulares ("-ões", "-ães", "-ais", "-éis",
+     * "-ns"), remove o plural regular, um sufixo derivacional e, por fim, a vogal temática.
+     * @param palavra a palavra em minúsculas e sem acentos.
+     * @return o radical da palavra.
+     */
+    public static String radical(String palavra) {
+        if (palavra.length() <= TAMANHO_MINIMO_RADICAL || !Character.isLetter(palavra.charAt(0))) {
+            return palavra;
+        }
+        String radical = palavra;
+        if (radical.endsWith("oes") || radical.endsWith("aes")) {
+            radical = radical.substring(0, radical.length() - 3) + "ao";
+        } else if (radical.endsWith("eis")) {
+            radical = radical.substring(0, radical.length() - 3) + "el";
+        } else if (radical.endsWith("ns")) {
+            radical = radical.substring(0, radical.length() - 2) + "m";
+        } else if (radical.endsWith("res") || radical.endsWith("zes")) {
+            radical = radical.substring(0, radical.length() - 2);
+        } else if (radical.endsWith("s") && !radical.endsWith("ss") && !radical.endsWith("ais")) {
+            radical = radical.substring(0, radical.length() - 1);
+        }
+
+        for (String sufixo : SUFIXOS) {
+            if (radical.endsWith(sufixo) && radical.length() - sufixo.length() >= TAMANHO_MINIMO_RADICAL) {
+                radical = radical.substring(0, radical.length() - sufixo.length());
+                break;
+            }
+        }
+
+        char ultima = radical.charAt(radical.length() - 1);
+        if ((ultima == 'a' || ultima == 'e' || ultima == 'o') && radical.length() > TAMANHO_MINIMO_RADICAL + 1) {
+            radical = radical.substring(0, radical.length() - 1);
+        }
+        return radical;
+    }
+}
@@ -0,0 +1,183 @@
+package com.eventually.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+
+/**
+ * Armazém concorrente das entidades de um serviço (eventos ou usuários), indexadas pelo ID.
+ * As entidades ficam repartidas em listras, cada uma com o seu {@link IndiceInt} e o seu {@link StampedLock}: a listra
+ * é escolhida pelo ID, de modo que escritas em listras diferentes não disputam o mesmo bloqueio. A consulta pelo ID é
+ * feita com leitura otimista, sem bloquear, e só recorre ao bloqueio de leitura se uma escrita na mesma listra
+ * acontecer ao mesmo tempo.
+ * Os IDs são alocados por um contador atômico, sem repetição mesmo com várias threads cadastrando ao mesmo tempo
+ * (carregamentos em segundo plano, importações ou várias sessões).
+ * @param <V> o tipo da entidade armazenada.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ArmazemEntidades<V> {
+    private static final int LISTRAS = 16;
+
+    private final Listra<V>[] listras;
+    private final AtomicInteger proximoId = new AtomicInteger(1);
+
+    private static final class Listra<V> {
+        final StampedLock trava = new StampedLock();
+        final IndiceInt<V> indice = new IndiceInt<>();
+    }
+
+    public ArmazemEntidades() {
+        listras = novasListras(LISTRAS);
+        for (int i = 0; i < LISTRAS; i++) {
+            listras[i] = new Listra<>();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V> Listra<V>[] novasListras(int quantidade) {
+        return (Listra<V>[]) new Listra<?>[quantidade];
+    }
+
+    private Listra<V> listraDe(int id) {
+        int h = id * 0x9E3779B9;
+        return listras[(h >>> 28) & (LISTRAS - 1)];
+    }
+
+    /**
+     * @return um ID ainda não usado por nenhuma entidade deste armazém.
+     */
+    public int alocarId() {
+        return proximoId.getAndIncrement();
+    }
+
+    /**
+     * Garante que os próximos IDs alocados sejam maiores que o informado; usado ao restaurar entidades já salvas.
+     * @param id o ID de uma entidade restaurada.
+     */
+    public void reservarAte(int id) {
+        proximoId.accumulateAndGet(id + 1, Math::max);
+    }
+
+    /**
+     * Busca a entidade pelo ID sem bloquear, exceto se houver uma escrita simultânea na mesma listra.
+     * @param id o ID procurado.
+     * @return a entidade, ou {@code null} se não existir.
+     */
+    public V get(int id) {
+        Listra<V> listra = listraDe(id);
+        long carimbo = listra.trava.tryOptimisticRead();
+        if (carimbo != 0) {
+            try {
+                V valor = listra.indice.get(id);
+                if (listra.trava.validate(carimbo)) {
+                    return valor;
+                }
+            } catch (RuntimeException e) {
+                // A tabela foi lida no meio de uma escrita; a leitura é refeita com bloqueio.
+            }
+        }
+        carimbo = listra.trava.readLock();
+        try {
+            return listra.indice.get(id);
+        } finally {
+            listra.trava.unlockRead(carimbo);
+        }
+    }
+
+    /**
+     * Adiciona a entidade, caso ainda não exista outra com o mesmo ID.
+     * @param id o ID da entidade.
+     * @param valor a entidade.
+     * @return {@code true} se a entidade foi adicionada, {@code false} se o ID já estava em uso.
+     */
+    public boolean adicionar(int id, V valor) {
+        Listra<V> listra = listraDe(id);
+        long carimbo = listra.trava.writeLock();
+        try {
+            if (listra.indice.contem(id)) {
+                return false;
+            }
+            listra.indice.put(id, valor);
+            return true;
+        } finally {
+            listra.trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Adiciona ou substitui a entidade com o ID informado.
+     * @param id o ID da entidade.
+     * @param valor a entidade.
+     */
+    public void colocar(int id, V valor) {
+        Listra<V> listra = listraDe(id);
+        long carimbo = listra.trava.writeLock();
+        try {
+            listra.indice.put(id, valor);
+        } finally {
+            listra.trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Remove a entidade com o ID informado.
+     * @param id o ID da entidade.
+     * @return a entidade removida, ou {@code null} se não existia.
+     */
+    public V remover(int id) {
+        Listra<V> listra = listraDe(id);
+        long carimbo = listra.trava.writeLock();
+        try {
+            return listra.indice.remover(id);
+        } finally {
+            listra.trava.unlockWrite(carimbo);
+        }
+    }
+
+    /**
+     * Copia as entidades de cada listra, uma listra por vez; entidades adicionadas durante a cópia podem ou não
+     * aparecer nela.
+     * @return uma lista com as entidades, sem ordem definida.
+     */
+    public List<V> listar() {
+        List<V> copia = new ArrayList<>(tamanho());
+        paraCada(copia::add);
+        return copia;
+    }
+
+    /**
+     * Percorre as entidades, sem ordem definida, com o bloqueio de leitura de uma listra por vez.
+     * @param acao a ação aplicada a cada entidade; não deve alterar este armazém.
+     */
+    public void paraCada(Consumer<? super V> acao) {
+        for (Listra<V> listra : listras) {
+            long carimbo = listra.trava.readLock();
+            try {
+                listra.indice.paraCada(acao);
+            } finally {
+                listra.trava.unlockRead(carimbo);
+            }
+        }
+    }
+
+    public int tamanho() {
+        int total = 0;
+        for (Listra<V> listra : listras) {
+            long carimbo = listra.trava.readLock();
+            try {
+                total += listra.indice.tamanho();
+            } finally {
+                listra.trava.unlockRead(carimbo);
+            }
+        }
+        return total;
+    }
+
+    public boolean isVazio() {
+        return tamanho() == 0;
+    }
+}
@@ -0,0 +1,219 @@
+package com.eventually.service;
+
+import com.eventually.model.ComentarioModel;
+import com.eventually.model.EventoModel;
+import com.eventually.model.UsuarioModel;
+import javafx.scene.image.Image;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Pattern;
+
+/**
+ * Esta classe é um Singleton, garantindo que apenas uma instância de {@code ArmazemImagens} exista em toda a aplicação.
+ * Armazém de imagens endereçado por conteúdo: cada foto enviada é gravada em disco, com os bytes originais
+ * (comprimidos), em um arquivo cujo nome é o SHA-256 do conteúdo, de modo que envios idênticos ocupam um único arquivo.
+ * Os modelos guardam apenas esse hash; a imagem é decodificada sob demanda, já no tamanho em que será exibida, e
+ * mantida no {@link CacheImagens}, para que a memória usada acompanhe o que está na tela e não a quantidade de eventos.
+ * Os arquivos ficam em {@code <diretório de dados>/imagens/<2 primeiros caracteres do hash>/<hash>}.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ArmazemImagens {
+    private static ArmazemImagens instancia;
+
+    private static final long ORCAMENTO_CACHE_BYTES = 48L * 1024 * 1024;
+
+    /**
+     * Maior largura em que a capa de um evento é exibida (cartão 400x200, detalhes 450x180, compartilhamento 320x200).
+     * A capa é decodificada nessa largura mantendo a proporção original, e cada tela a ajusta à sua área como antes.
+     */
+    public static final double LARGURA_CAPA = 450;
+    /** Avatar do cabeçalho, dos comentários e da lista de participantes. */
+    public static final double TAMANHO_AVATAR = 40;
+    /** Foto na tela de configurações do perfil. */
+    public static final double TAMANHO_AVATAR_PERFIL = 100;
+    /** Largura da foto anexada a um comentário. */
+    public static final double LARGURA_ANEXO = 380;
+    private static final Pattern FORMATO_HASH = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path diretorio;
+    private final CacheImagens cache = new CacheImagens(ORCAMENTO_CACHE_BYTES);
+
+    private static final Logger sistemaDeLogger = LoggerFactory.getLogger(ArmazemImagens.class);
+
+    private ArmazemImagens() {
+        this.diretorio = PersistenciaService.diretorioDeDados().resolve("imagens");
+        sistemaDeLogger.info("Inicializado com diretório de imagens: " + diretorio);
+    }
+
+    /**
+     * Retorna a instância única de {@code ArmazemImagens}, se ainda não existe, ela é criada e, em caso de falha, é
+     * exibida uma mensagem no console.
+     * @return a instância única de {@code ArmazemImagens}.
+     */
+    public static synchronized ArmazemImagens getInstancia() {
+        try {
+            if (instancia == null) {
+                instancia = new ArmazemImagens();
+            }
+            return instancia;
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao retornar a instância."+e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Grava os bytes de uma imagem no armazém, caso ainda não existam.
+     * @param bytes o conteúdo do arquivo de imagem.
+     * @return o hash SHA-256 (hexadecimal) que identifica a imagem.
+     * @throws IOException se o arquivo não puder ser gravado.
+     */
+    public String guardar(byte[] bytes) throws IOException {
+        String hash = calcularHash(bytes);
+        Path destino = caminhoDe(hash);
+        if (Files.exists(destino)) {
+            sistemaDeLogger.info("Imagem {} já está no armazém.", hash);
+            return hash;
+        }
+        Files.createDirectories(destino.getParent());
+        Path temporario = Files.createTempFile(destino.getParent(), hash, ".tmp");
+        try {
+            Files.write(temporario, bytes);
+            Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(temporario);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporario);
+            throw e;
+        }
+        return hash;
+    }
+
+    /**
+     * Copia para o armazém a imagem de origem (arquivo escolhido pelo usuário ou outra URL).
+     * @param url a URL de origem.
+     * @return o hash da imagem, ou {@code null} se a URL for nula ou não puder ser lida.
+     */
+    public String importar(String url) {
+        if (url == null) {
+            return null;
+        }
+        try (InputStream entrada = URI.create(url).toURL().openStream()) {
+            return guardar(entrada.readAllBytes());
+        } catch (IOException | IllegalArgumentException e) {
+            sistemaDeLogger.error("Erro ao importar a imagem '{}': {}", url, e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Copia para o armazém a imagem carregada na interface (a prévia escolhida em um seletor de arquivos).
+     * @param imagem a imagem exibida na interface.
+     * @return o hash da imagem, ou {@code null} se a imagem não tiver uma URL de origem.
+     */
+    public String importar(Image imagem) {
+        return imagem == null ? null : importar(imagem.getUrl());
+    }
+
+    /**
+     * Entrega a imagem correspondente ao hash, decodificada no tamanho de exibição.
+     * @param hash o hash da imagem.
+     * @param largura a largura de exibição, ou 0 para usar a proporção da altura.
+     * @param altura a altura de exibição, ou 0 para usar a proporção da largura.
+     * @param preservarProporcao se a imagem deve caber no tamanho pedido mantendo a proporção original.
+     * @return a imagem, ou {@code null} se o hash for nulo ou o arquivo não existir.
+     */
+    public Image carregar(String hash, double largura, double altura, boolean preservarProporcao) {
+        if (hash == null || !ehHash(hash)) {
+            return null;
+        }
+        Path arquivo = caminhoDe(hash);
+        if (!Files.exists(arquivo)) {
+            sistemaDeLogger.warn("Imagem {} não encontrada no armazém.", hash);
+            return null;
+        }
+        return cache.obter(arquivo.toUri().toString(), largura, altura, preservarProporcao);
+    }
+
+    /**
+     * Versão de {@link #fotoDoEvento(String)} para a rolagem da lista de eventos: se a capa ainda não estiver no
+     * cache, a leitura e a decodificação são feitas em segundo plano e a imagem é devolvida ainda carregando, sem
+     * acessar o disco na thread do JavaFX. Quem a exibe mostra a capa padrão até {@link Image#getProgress()} chegar a 1.
+     * @param hashFoto o hash da capa.
+     * @return a capa, possivelmente ainda carregando, ou {@code null} se o evento não tiver capa.
+     */
+    public Image capaEmSegundoPlano(String hashFoto) {
+        if (hashFoto == null || !ehHash(hashFoto)) {
+            return null;
+        }
+        return cache.obterEmSegundoPlano(caminhoDe(hashFoto).toUri().toString(), LARGURA_CAPA, 0, true);
+    }
+
+    /**
+     * @return a capa do evento, no tamanho usado pelos cartões e pelos modais, ou a capa padrão compartilhada.
+     */
+    public Image fotoDoEvento(EventoModel evento) {
+        return fotoDoEvento(evento == null ? null : evento.getHashFoto());
+    }
+
+    /**
+     * @param hashFoto o hash da capa, como guardado no {@link com.eventually.view.HomeView.EventoH}.
+     * @return a capa no tamanho usado pelos cartões e pelos modais, ou a capa padrão compartilhada.
+     */
+    public Image fotoDoEvento(String hashFoto) {
+        Image foto = carregar(hashFoto, LARGURA_CAPA, 0, true);
+        return foto != null ? foto : RecursosCompartilhados.getInstancia().getFotoPadraoEvento();
+    }
+
+    /**
+     * @param tamanho o lado, em pixels, do quadrado em que o avatar é exibido.
+     * @return a foto do usuário ou, se não houver, o avatar padrão compartilhado.
+     */
+    public Image fotoDoUsuario(UsuarioModel usuario, double tamanho) {
+        Image foto = usuario == null ? null : carregar(usuario.getHashFoto(), tamanho, tamanho, true);
+        return foto != null ? foto : RecursosCompartilhados.getInstancia().getAvatarPadrao(tamanho);
+    }
+
+    /**
+     * @return a foto anexada ao comentário, ou {@code null} se não houver.
+     */
+    public Image fotoAnexadaDo(ComentarioModel comentario) {
+        return comentario == null ? null : carregar(comentario.getHashFotoAnexada(), LARGURA_ANEXO, 0, true);
+    }
+
+    /**
+     * @return o cache de imagens decodificadas, com os contadores de acertos, falhas e remoções.
+     */
+    public CacheImagens getCache() {return cache;}
+
+    /**
+     * @return {@code true} se o texto tem o formato de um hash gerado pelo armazém.
+     */
+    static boolean ehHash(String texto) {
+        return texto != null && FORMATO_HASH.matcher(texto).matches();
+    }
+
+    private Path caminhoDe(String hash) {
+        return diretorio.resolve(hash.substring(0, 2)).resolve(hash);
+    }
+
+    private static String calcularHash(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível.", e);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.eventually.service;
+
+import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Esta classe é um Singleton, garantindo que apenas uma instância de {@code BarramentoEventos} exista em toda a
+ * aplicação.
+ * Barramento de publicação e assinatura das mudanças de domínio ({@link EventoDominio}) dentro do processo: os serviços
+ * publicam uma mudança depois de aplicá-la, e as telas assinam os tipos que afetam o que exibem, em vez de receberem
+ * {@code Runnable}s de atualização de cada modal que abrem.
+ * Os ouvintes de cada tipo ficam em um vetor trocado por cópia a cada assinatura, de modo que percorrer os ouvintes
+ * ao publicar não aloca nem bloqueia; o custo de cada publicação é o dos próprios ouvintes. Há dois tipos de
+ * assinatura:
+ * <ul>
+ *     <li>{@link #assinar(Class, Consumer)}: o ouvinte é chamado na hora, na thread que publicou;</li>
+ *     <li>{@link #assinarPorPulso(Consumer, Class[])}: as mudanças são acumuladas, sem repetições, e entregues de uma vez
+ *     na thread do JavaFX, de modo que várias mudanças publicadas antes do próximo pulso causam uma única atualização da
+ *     tela. Acumular toma, por um instante, o monitor do lote da assinatura, guarda a mudança em um conjunto e, na
+ *     primeira mudança desde o último pulso, agenda a entrega com {@link Platform#runLater(Runnable)}.</li>
+ * </ul>
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class BarramentoEventos {
+    private static BarramentoEventos instancia;
+
+    private static final Ouvinte[] NENHUM = new Ouvinte[0];
+
+    private final ConcurrentHashMap<Class<? extends EventoDominio>, Ouvinte[]> ouvintesPorTipo = new ConcurrentHashMap<>();
+
+    private static final Logger sistemaDeLogger = LoggerFactory.getLogger(BarramentoEventos.class);
+
+    /**
+     * Assinatura devolvida ao assinar o barramento; deve ser cancelada quando quem assinou deixar de existir.
+     */
+    public interface Assinatura {
+        void cancelar();
+
+        /**
+         * Cancela a assinatura quando a tela deixar de ser exibida, seja porque a janela foi fechada, seja porque a
+         * cena da janela foi trocada pela de outra tela.
+         * @param tela a raiz da tela que assinou.
+         * @return esta assinatura.
+         */
+        default Assinatura encerrarCom(Node tela) {
+            VinculoTela vinculo = new VinculoTela(tela, this);
+            tela.sceneProperty().addListener(vinculo);
+            vinculo.invalidated(null);
+            return this;
+        }
+    }
+
+    private static final class Ouvinte {
+        final Consumer<EventoDominio> acao;
+        volatile boolean ativo = true;
+
+        Ouvinte(Consumer<EventoDominio> acao) {this.acao = acao;}
+    }
+
+    private BarramentoEventos() {
+        sistemaDeLogger.info("Inicializado.");
+    }
+
+    /**
+     * Retorna a instância única de {@code BarramentoEventos}, se ainda não existe, ela é criada e, em caso de falha, é
+     * exibida uma mensagem no console.
+     * @return a instância única de {@code BarramentoEventos}.
+     */
+    public static synchronized BarramentoEventos getInstancia() {
+        try {
+            if (instancia == null) {
+                instancia = new BarramentoEventos();
+            }
+            return instancia;
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao retornar a instância."+e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Entrega a mudança aos ouvintes do tipo dela. Uma falha em um ouvinte é registrada no log e não impede a entrega
+     * aos demais.
+     * @param evento a mudança já aplicada pelo serviço.
+     */
+    public void publicar(EventoDominio evento) {
+        for (Ouvinte ouvinte : ouvintesPorTipo.getOrDefault(evento.getClass(), NENHUM)) {
+            if (!ouvinte.ativo) {
+                continue;
+            }
+            try {
+                ouvinte.acao.accept(evento);
+            } catch (Exception e) {
+                sistemaDeLogger.error("Erro ao entregar " + evento + ": " + e.getMessage());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Assina um tipo de mudança; o ouvinte é chamado na thread que publicou.
+     * @param tipo o tipo de mudança.
+     * @param ouvinte o ouvinte.
+     * @return a assinatura, para cancelamento.
+     */
+    public <E extends EventoDominio> Assinatura assinar(Class<E> tipo, Consumer<? super E> ouvinte) {
+        Ouvinte registrado = new Ouvinte(evento -> ouvinte.accept(tipo.cast(evento)));
+        adicionar(tipo, registrado);
+        return () -> {
+            registrado.ativo = false;
+            remover(tipo, registrado);
+        };
+    }
+
+    /**
+     * Assina um ou mais tipos de mudança com entrega agrupada: as mudanças publicadas entre dois pulsos da interface são
+     * acumuladas, sem repetições e na ordem de publicação, e entregues em uma única chamada na thread do JavaFX.
+     * @param aoAtualizar o consumidor do lote de mudanças, executado na thread do JavaFX.
+     * @param tipos os tipos de mudança assinados.
+     * @return a assinatura, para cancelamento; mudanças ainda não entregues são descartadas.
+     */
+    @SafeVarargs
+    public final Assinatura assinarPorPulso(Consumer<? super Set<EventoDominio>> aoAtualizar,
+                                            Class<? extends EventoDominio>... tipos) {
+        Lote lote = new Lote(aoAtualizar);
+        Ouvinte registrado = new Ouvinte(lote);
+        for (Class<? extends EventoDominio> tipo : tipos) {
+            adicionar(tipo, registrado);
+        }
+        return () -> {
+            registrado.ativo = false;
+            lote.cancelado = true;
+            for (Class<? extends EventoDominio> tipo : tipos) {
+                remover(tipo, registrado);
+            }
+        };
+    }
+
+    private void adicionar(Class<? extends EventoDominio> tipo, Ouvinte ouvinte) {
+        ouvintesPorTipo.merge(tipo, new Ouvinte[]{ouvinte}, (atuais, novo) -> {
+            Ouvinte[] ampliado = Arrays.copyOf(atuais, atuais.length + 1);
+            ampliado[atuais.length] = novo[0];
+            return ampliado;
+        });
+    }
+
+    private void remover(Class<? extends EventoDominio> tipo, Ouvinte ouvinte) {
+        ouvintesPorTipo.computeIfPresent(tipo, (chave, atuais) -> {
+            Ouvinte[] restantes = Arrays.stream(atuais).filter(atual -> atual != ouvinte).toArray(Ouvinte[]::new);
+            return restantes.length == 0 ? null : restantes;
+        });
+    }
+
+    /**
+     * Acumula as mudanças até o próximo pulso e as entrega de uma vez na thread do JavaFX.
+     */
+    private static final class Lote implements Consumer<EventoDominio> {
+        private final Consumer<? super Set<EventoDominio>> aoAtualizar;
+        private Set<EventoDominio> pendentes = new LinkedHashSet<>();
+        private boolean agendado;
+        private volatile boolean cancelado;
+
+        Lote(Consumer<? super Set<EventoDominio>> aoAtualizar) {this.aoAtualizar = aoAtualizar;}
+
+        @Override
+        public void accept(EventoDominio evento) {
+            synchronized (this) {
+                pendentes.add(evento);
+                if (agendado) {
+                    return;
+                }
+                agendado = true;
+            }
+            Platform.runLater(this::entregar);
+        }
+
+        private void entregar() {
+            Set<EventoDominio> entregues;
+            synchronized (this) {
+                entregues = pendentes;
+                pendentes = new LinkedHashSet<>();
+                agendado = false;
+            }
+            if (!cancelado) {
+                aoAtualizar.accept(Collections.unmodifiableSet(entregues));
+            }
+        }
+    }
+
+    /**
+     * Acompanha a cena e a janela de uma tela e cancela a assinatura quando a tela, depois de exibida, deixa de estar
+     * em uma janela visível.
+     */
+    private static final class VinculoTela implements InvalidationListener {
+        private final Node tela;
+        private final Assinatura assinatura;
+        private Scene cena;
+        private Window janela;
+        private boolean exibida;
+
+        VinculoTela(Node tela, Assinatura assinatura) {
+            this.tela = tela;
+            this.assinatura = assinatura;
+        }
+
+        @Override
+        public void invalidated(Observable observado) {
+            Scene novaCena = tela.getScene();
+            if (novaCena != cena) {
+                if (cena != null) cena.windowProperty().removeListener(this);
+                if (novaCena != null) novaCena.windowProperty().addListener(this);
+                cena = novaCena;
+            }
+            Window novaJanela = novaCena == null ? null : novaCena.getWindow();
+            if (novaJanela != janela) {
+                if (janela != null) janela.showingProperty().removeListener(this);
+                if (novaJanela != null) novaJanela.showingProperty().addListener(this);
+                janela = novaJanela;
+            }
+
+            if (novaJanela != null && novaJanela.isShowing()) {
+                exibida = true;
+            } else if (exibida) {
+                assinatura.cancelar();
+                tela.sceneProperty().removeListener(this);
+                if (cena != null) cena.windowProperty().removeListener(this);
+                if (janela != null) janela.showingProperty().removeListener(this);
+            }
+        }
+    }
+}
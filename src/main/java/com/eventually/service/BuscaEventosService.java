@@ -0,0 +1,326 @@
+package com.eventually.service;
+
+import com.eventually.model.EventoModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+
+/**
+ * Esta classe é um Singleton, garantindo que apenas uma instância de {@code BuscaEventosService} exista em toda a
+ * aplicação.
+ * Índice invertido, em memória, do nome, da descrição e da localização dos eventos, com os termos produzidos pelo
+ * {@link AnalisadorTexto} (sem acentos e reduzidos ao radical). Cada termo guarda suas postagens (ordinal do evento e
+ * frequência ponderada pelo campo, em que o nome vale mais que a localização e esta mais que a descrição) em arrays
+ * ordenados por ordinal, e os termos ficam em um {@link TreeMap} para que a última palavra da consulta também funcione
+ * como prefixo enquanto o usuário digita.
+ * Os resultados são ordenados por BM25 e apenas os {@code limite} melhores são selecionados, com um heap, sem ordenar
+ * todos os eventos encontrados. Os serviços chamam {@link #indexar(EventoModel)} quando um evento é criado, restaurado
+ * ou editado; eventos inativos continuam indexados, mas não aparecem nos resultados.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class BuscaEventosService {
+    private static BuscaEventosService instancia;
+
+    private static final int PESO_NOME = 3;
+    private static final int PESO_LOCALIZACAO = 2;
+    private static final int PESO_DESCRICAO = 1;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int MAXIMO_EXPANSOES_PREFIXO = 32;
+    private static final int TAMANHO_MINIMO_PREFIXO = 3;
+
+    private final NavigableMap<String, Postagens> termos = new TreeMap<>();
+    private final Map<EventoModel, Integer> ordinais = new IdentityHashMap<>();
+    private final List<EventoModel> eventosPorOrdinal = new ArrayList<>();
+    private final List<String[]> termosPorOrdinal = new ArrayList<>();
+    private int[] comprimentos = new int[16];
+    private long comprimentoTotal;
+
+    private float[] pontuacoes = new float[16];
+    private float[] pontuacoesDoTermo = new float[16];
+
+    private static final Logger sistemaDeLogger = LoggerFactory.getLogger(BuscaEventosService.class);
+
+    /**
+     * Lista de postagens de um termo, ordenada por ordinal.
+     */
+    private static final class Postagens {
+        int[] ordinais = new int[2];
+        int[] frequencias = new int[2];
+        int tamanho;
+
+        void colocar(int ordinal, int frequencia) {
+            int posicao = Arrays.binarySearch(ordinais, 0, tamanho, ordinal);
+            if (posicao >= 0) {
+                frequencias[posicao] = frequencia;
+                return;
+            }
+            posicao = -posicao - 1;
+            if (tamanho == ordinais.length) {
+                ordinais = Arrays.copyOf(ordinais, tamanho * 2);
+                frequencias = Arrays.copyOf(frequencias, tamanho * 2);
+            }
+            System.arraycopy(ordinais, posicao, ordinais, posicao + 1, tamanho - posicao);
+            System.arraycopy(frequencias, posicao, frequencias, posicao + 1, tamanho - posicao);
+            ordinais[posicao] = ordinal;
+            frequencias[posicao] = frequencia;
+            tamanho++;
+        }
+
+        void remover(int ordinal) {
+            int posicao = Arrays.binarySearch(ordinais, 0, tamanho, ordinal);
+            if (posicao >= 0) {
+                System.arraycopy(ordinais, posicao + 1, ordinais, posicao, tamanho - posicao - 1);
+                System.arraycopy(frequencias, posicao + 1, frequencias, posicao, tamanho - posicao - 1);
+                tamanho--;
+            }
+        }
+    }
+
+    private BuscaEventosService() {
+        sistemaDeLogger.info("Inicializado.");
+    }
+
+    /**
+     * Retorna a instância única de {@code BuscaEventosService}, se ainda não existe, ela é criada e, em caso de falha,
+     * é exibida uma mensagem no console.
+     * @return a instância única de {@code BuscaEventosService}.
+     */
+    public static synchronized BuscaEventosService getInstancia() {
+        try {
+            if (instancia == null) {
+                instancia = new BuscaEventosService();
+            }
+            return instancia;
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao retornar a instância."+e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Indexa o evento ou, se ele já estiver indexado, substitui os termos antigos pelos do nome, da descrição e da
+     * localização atuais.
+     * @param evento o evento criado, restaurado ou editado.
+     */
+    public synchronized void indexar(EventoModel evento) {
+        if (evento == null) {
+            return;
+        }
+        Map<String, Integer> frequencias = new HashMap<>();
+        int comprimento = contarTermos(evento.getNome(), PESO_NOME, frequencias)
+                + contarTermos(evento.getLocalizacao(), PESO_LOCALIZACAO, frequencias)
+                + contarTermos(evento.getDescricao(), PESO_DESCRICAO, frequencias);
+
+        Integer existente = ordinais.get(evento);
+        int ordinal;
+        if (existente == null) {
+            ordinal = eventosPorOrdinal.size();
+            ordinais.put(evento, ordinal);
+            eventosPorOrdinal.add(evento);
+            termosPorOrdinal.add(new String[0]);
+            if (ordinal == comprimentos.length) {
+                comprimentos = Arrays.copyOf(comprimentos, ordinal * 2);
+                pontuacoes = new float[ordinal * 2];
+                pontuacoesDoTermo = new float[ordinal * 2];
+            }
+        } else {
+            ordinal = existente;
+            for (String termo : termosPorOrdinal.get(ordinal)) {
+                Postagens postagens = termos.get(termo);
+                postagens.remover(ordinal);
+                if (postagens.tamanho == 0) {
+                    termos.remove(termo);
+                }
+            }
+            comprimentoTotal -= comprimentos[ordinal];
+        }
+
+        for (Map.Entry<String, Integer> frequencia : frequencias.entrySet()) {
+            termos.computeIfAbsent(frequencia.getKey(), termo -> new Postagens()).colocar(ordinal, frequencia.getValue());
+        }
+        termosPorOrdinal.set(ordinal, frequencias.keySet().toArray(new String[0]));
+        comprimentos[ordinal] = comprimento;
+        comprimentoTotal += comprimento;
+    }
+
+    /**
+     * Busca os eventos ativos mais relevantes para a consulta. Todas as palavras contribuem para a pontuação (basta uma
+     * delas aparecer no evento), e a última também é tratada como prefixo, para atender à busca enquanto se digita.
+     * @param consulta o texto digitado pelo usuário.
+     * @param limite a quantidade máxima de resultados.
+     * @return os IDs dos eventos encontrados, do mais para o menos relevante.
+     */
+    public synchronized List<Integer> buscar(String consulta, int limite) {
+        int[] melhores = buscarOrdinais(consulta, limite);
+        List<Integer> ids = new ArrayList<>(melhores.length);
+        for (int ordinal : melhores) {
+            ids.add(eventosPorOrdinal.get(ordinal).getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Igual a {@link #buscar(String, int)}, mas devolve os próprios eventos, para quem consulta fora da thread do
+     * JavaFX e não deve acessar as listas dos outros serviços.
+     * @return os eventos encontrados, do mais para o menos relevante.
+     */
+    public synchronized List<EventoModel> buscarEventos(String consulta, int limite) {
+        int[] melhores = buscarOrdinais(consulta, limite);
+        List<EventoModel> eventos = new ArrayList<>(melhores.length);
+        for (int ordinal : melhores) {
+            eventos.add(eventosPorOrdinal.get(ordinal));
+        }
+        return eventos;
+    }
+
+    private int[] buscarOrdinais(String consulta, int limite) {
+        List<String> palavras = AnalisadorTexto.palavras(consulta);
+        int total = eventosPorOrdinal.size();
+        if (palavras.isEmpty() || limite <= 0 || total == 0) {
+            return new int[0];
+        }
+        double comprimentoMedio = Math.max(1.0, (double) comprimentoTotal / total);
+
+        int[] tocados = new int[16];
+        int quantidadeTocados = 0;
+        for (int i = 0; i < palavras.size(); i++) {
+            String palavra = palavras.get(i);
+            boolean ultima = i == palavras.size() - 1;
+            if (!ultima && AnalisadorTexto.ehPalavraVazia(palavra)) {
+                continue;
+            }
+            String radical = AnalisadorTexto.radical(palavra);
+            Set<String> expandidos = new LinkedHashSet<>();
+            expandidos.add(radical);
+            if (ultima && palavra.length() >= TAMANHO_MINIMO_PREFIXO) {
+                for (String termo : termos.subMap(palavra, true, palavra + Character.MAX_VALUE, false).keySet()) {
+                    if (expandidos.size() > MAXIMO_EXPANSOES_PREFIXO) {
+                        break;
+                    }
+                    expandidos.add(termo);
+                }
+            }
+
+            // cada palavra da consulta pontua uma única vez por evento, pelo melhor termo que ela alcançou
+            int[] tocadosDoTermo = new int[16];
+            int quantidadeDoTermo = 0;
+            for (String termo : expandidos) {
+                Postagens postagens = termos.get(termo);
+                if (postagens == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (total - postagens.tamanho + 0.5) / (postagens.tamanho + 0.5));
+                for (int p = 0; p < postagens.tamanho; p++) {
+                    int ordinal = postagens.ordinais[p];
+                    int frequencia = postagens.frequencias[p];
+                    double normalizacao = K1 * (1 - B + B * comprimentos[ordinal] / comprimentoMedio);
+                    float pontuacao = (float) (idf * frequencia * (K1 + 1) / (frequencia + normalizacao));
+                    if (pontuacoesDoTermo[ordinal] == 0) {
+                        if (quantidadeDoTermo == tocadosDoTermo.length) {
+                            tocadosDoTermo = Arrays.copyOf(tocadosDoTermo, quantidadeDoTermo * 2);
+                        }
+                        tocadosDoTermo[quantidadeDoTermo++] = ordinal;
+                    }
+                    pontuacoesDoTermo[ordinal] = Math.max(pontuacoesDoTermo[ordinal], pontuacao);
+                }
+            }
+            for (int t = 0; t < quantidadeDoTermo; t++) {
+                int ordinal = tocadosDoTermo[t];
+                if (pontuacoes[ordinal] == 0) {
+                    if (quantidadeTocados == tocados.length) {
+                        tocados = Arrays.copyOf(tocados, quantidadeTocados * 2);
+                    }
+                    tocados[quantidadeTocados++] = ordinal;
+                }
+                pontuacoes[ordinal] += pontuacoesDoTermo[ordinal];
+                pontuacoesDoTermo[ordinal] = 0;
+            }
+        }
+
+        int[] melhores = selecionarMelhores(tocados, quantidadeTocados, limite);
+        for (int t = 0; t < quantidadeTocados; t++) {
+            pontuacoes[tocados[t]] = 0;
+        }
+        return melhores;
+    }
+
+    /**
+     * Seleciona os {@code limite} eventos ativos de maior pontuação com um heap mínimo em array: um evento só entra se
+     * superar o pior dos selecionados até então, o que descarta a maioria dos candidatos com uma comparação.
+     * @return os ordinais selecionados, do maior para o menor pontuação.
+     */
+    private int[] selecionarMelhores(int[] candidatos, int quantidade, int limite) {
+        int[] heap = new int[Math.min(limite, quantidade)];
+        int tamanhoHeap = 0;
+        for (int c = 0; c < quantidade; c++) {
+            int ordinal = candidatos[c];
+            if (tamanhoHeap == heap.length && !superior(ordinal, heap[0])) {
+                continue;
+            }
+            if (!eventosPorOrdinal.get(ordinal).isEstado()) {
+                continue;
+            }
+            if (tamanhoHeap < heap.length) {
+                int i = tamanhoHeap++;
+                while (i > 0 && superior(heap[(i - 1) / 2], ordinal)) {
+                    heap[i] = heap[(i - 1) / 2];
+                    i = (i - 1) / 2;
+                }
+                heap[i] = ordinal;
+            } else {
+                descer(heap, tamanhoHeap, ordinal);
+            }
+        }
+        int[] ordenados = new int[tamanhoHeap];
+        for (int i = tamanhoHeap - 1; i >= 0; i--) {
+            ordenados[i] = heap[0];
+            descer(heap, i, heap[i]);
+        }
+        return ordenados;
+    }
+
+    /**
+     * Coloca {@code ordinal} na raiz do heap de {@code tamanho} elementos e o desce até a posição correta.
+     */
+    private void descer(int[] heap, int tamanho, int ordinal) {
+        int i = 0;
+        while (2 * i + 1 < tamanho) {
+            int filho = 2 * i + 1;
+            if (filho + 1 < tamanho && superior(heap[filho], heap[filho + 1])) {
+                filho++;
+            }
+            if (!superior(ordinal, heap[filho])) {
+                break;
+            }
+            heap[i] = heap[filho];
+            i = filho;
+        }
+        heap[i] = ordinal;
+    }
+
+    /**
+     * @return {@code true} se o evento {@code a} fica à frente de {@code b} (maior pontuação ou, no empate, menor
+     * ordinal).
+     */
+    private boolean superior(int a, int b) {
+        return pontuacoes[a] > pontuacoes[b] || (pontuacoes[a] == pontuacoes[b] && a < b);
+    }
+
+    /**
+     * @return a quantidade de eventos indexados, ativos ou não.
+     */
+    public synchronized int tamanho() {return eventosPorOrdinal.size();}
+
+    private static int contarTermos(String texto, int peso, Map<String, Integer> frequencias) {
+        List<String> termos = AnalisadorTexto.analisar(texto);
+        for (String termo : termos) {
+            frequencias.merge(termo, peso, Integer::sum);
+        }
+        return termos.size() * peso;
+    }
+}
@@ -0,0 +1,199 @@
+package com.eventually.service;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.scene.image.Image;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache LRU de imagens decodificadas, usado pelo {@link ArmazemImagens}.
+ * Cada entrada é identificada pela origem da imagem e pelo tamanho em que ela será exibida: a decodificação usa
+ * {@code requestedWidth/requestedHeight}, de modo que um avatar de 40px ou a capa de um cartão ocupam apenas os pixels
+ * que aparecem na tela, e não a resolução original do arquivo.
+ * O limite do cache é dado em bytes decodificados (largura x altura x 4); ao ultrapassá-lo, as imagens usadas há mais
+ * tempo são descartadas. Os contadores de acertos, falhas e remoções permitem acompanhar a eficácia do cache.
+ * Para a rolagem das listas há também a carga em segundo plano ({@link #obterEmSegundoPlano}), que não lê nem
+ * decodifica o arquivo na thread do JavaFX.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class CacheImagens {
+    private static final long BYTES_POR_PIXEL = 4;
+
+    private final long orcamentoBytes;
+    private final Map<Chave, Entrada> entradas = new LinkedHashMap<>(64, 0.75f, true);
+    private long bytesEmUso;
+    private long acertos;
+    private long falhas;
+    private long remocoes;
+
+    private static final Logger sistemaDeLogger = LoggerFactory.getLogger(CacheImagens.class);
+
+    private record Chave(String origem, int largura, int altura, boolean preservarProporcao) {}
+
+    private record Entrada(Image imagem, long bytes) {}
+
+    /**
+     * @param orcamentoBytes o total de bytes decodificados que o cache pode manter.
+     */
+    CacheImagens(long orcamentoBytes) {
+        this.orcamentoBytes = orcamentoBytes;
+    }
+
+    /**
+     * Entrega a imagem da origem decodificada no tamanho pedido, decodificando-a apenas se ainda não estiver no cache.
+     * A decodificação acontece fora do bloqueio, para que uma imagem grande não atrase as demais consultas. Se a mesma
+     * imagem estiver sendo carregada em segundo plano, é devolvida a que está carregando.
+     * @param origem a URL da imagem.
+     * @param largura a largura de exibição, ou 0 para usar a proporção da altura.
+     * @param altura a altura de exibição, ou 0 para usar a proporção da largura.
+     * @param preservarProporcao se a imagem deve caber no tamanho pedido mantendo a proporção original.
+     * @return a imagem decodificada, ou {@code null} se a origem não puder ser lida.
+     */
+    public Image obter(String origem, double largura, double altura, boolean preservarProporcao) {
+        Chave chave = new Chave(origem, (int) Math.ceil(largura), (int) Math.ceil(altura), preservarProporcao);
+        Image guardada = consultar(chave);
+        if (guardada != null) {
+            return guardada;
+        }
+
+        Image imagem = new Image(origem, chave.largura(), chave.altura(), preservarProporcao, true);
+        if (imagem.isError()) {
+            sistemaDeLogger.warn("Não foi possível decodificar a imagem '{}'.", origem);
+            return null;
+        }
+        return guardar(chave, imagem, bytesDe(imagem));
+    }
+
+    /**
+     * Como {@link #obter(String, double, double, boolean)}, mas sem bloquear quem chama: se a imagem não estiver no
+     * cache, ela é devolvida ainda carregando, e a leitura e a decodificação acontecem em segundo plano. Quem a exibe
+     * deve acompanhar {@link Image#progressProperty()} e mostrar uma imagem provisória até a carga terminar. Até lá, a
+     * entrada conta no orçamento pelo tamanho pedido; uma imagem que falhar é retirada do cache.
+     * @return a imagem, possivelmente ainda carregando.
+     */
+    public Image obterEmSegundoPlano(String origem, double largura, double altura, boolean preservarProporcao) {
+        Chave chave = new Chave(origem, (int) Math.ceil(largura), (int) Math.ceil(altura), preservarProporcao);
+        Image guardada = consultar(chave);
+        if (guardada != null) {
+            return guardada;
+        }
+
+        Image imagem = new Image(origem, chave.largura(), chave.altura(), preservarProporcao, true, true);
+        int lado = Math.max(chave.largura(), chave.altura());
+        long estimativa = (long) (chave.largura() > 0 ? chave.largura() : lado)
+                * (chave.altura() > 0 ? chave.altura() : lado) * BYTES_POR_PIXEL;
+        Image exibida = guardar(chave, imagem, estimativa);
+        if (exibida == imagem) {
+            acompanharCarga(chave, imagem);
+        }
+        return exibida;
+    }
+
+    private synchronized Image consultar(Chave chave) {
+        Entrada entrada = entradas.get(chave);
+        if (entrada != null) {
+            acertos++;
+            return entrada.imagem();
+        }
+        falhas++;
+        return null;
+    }
+
+    private static long bytesDe(Image imagem) {
+        return (long) imagem.getWidth() * (long) imagem.getHeight() * BYTES_POR_PIXEL;
+    }
+
+    /**
+     * Quando a carga em segundo plano termina, troca a estimativa pelo tamanho real ou, em caso de erro, retira a
+     * imagem do cache. Os ouvintes são chamados na thread do JavaFX.
+     */
+    private void acompanharCarga(Chave chave, Image imagem) {
+        InvalidationListener aoConcluir = new InvalidationListener() {
+            @Override
+            public void invalidated(Observable observado) {
+                if (!imagem.isError() && imagem.getProgress() < 1) {
+                    return;
+                }
+                imagem.progressProperty().removeListener(this);
+                imagem.errorProperty().removeListener(this);
+                cargaConcluida(chave, imagem);
+            }
+        };
+        imagem.progressProperty().addListener(aoConcluir);
+        imagem.errorProperty().addListener(aoConcluir);
+        aoConcluir.invalidated(null);
+    }
+
+    private synchronized void cargaConcluida(Chave chave, Image imagem) {
+        Entrada entrada = entradas.get(chave);
+        if (entrada == null || entrada.imagem() != imagem) {
+            return;
+        }
+        if (imagem.isError()) {
+            sistemaDeLogger.warn("Não foi possível decodificar a imagem '{}'.", chave.origem());
+            entradas.remove(chave);
+            bytesEmUso -= entrada.bytes();
+            return;
+        }
+        long bytes = bytesDe(imagem);
+        entradas.put(chave, new Entrada(imagem, bytes));
+        bytesEmUso += bytes - entrada.bytes();
+        liberarEspaco(chave);
+    }
+
+    private synchronized Image guardar(Chave chave, Image imagem, long bytes) {
+        Entrada existente = entradas.get(chave);
+        if (existente != null) {
+            return existente.imagem();
+        }
+        entradas.put(chave, new Entrada(imagem, bytes));
+        bytesEmUso += bytes;
+        liberarEspaco(chave);
+        return imagem;
+    }
+
+    /**
+     * Descarta as entradas usadas há mais tempo até o cache voltar ao orçamento. A entrada recém-inserida é mantida
+     * mesmo que sozinha ultrapasse o limite, pois é a que está sendo exibida.
+     */
+    private void liberarEspaco(Chave recemInserida) {
+        Iterator<Map.Entry<Chave, Entrada>> iterador = entradas.entrySet().iterator();
+        while (bytesEmUso > orcamentoBytes && iterador.hasNext()) {
+            Map.Entry<Chave, Entrada> maisAntiga = iterador.next();
+            if (maisAntiga.getKey().equals(recemInserida)) {
+                continue;
+            }
+            bytesEmUso -= maisAntiga.getValue().bytes();
+            iterador.remove();
+            remocoes++;
+        }
+    }
+
+    /**
+     * Descarta todas as imagens decodificadas; os contadores são mantidos.
+     */
+    public synchronized void limpar() {
+        entradas.clear();
+        bytesEmUso = 0;
+    }
+
+    public synchronized long getAcertos() {return acertos;}
+    public synchronized long getFalhas() {return falhas;}
+    public synchronized long getRemocoes() {return remocoes;}
+    public synchronized long getBytesEmUso() {return bytesEmUso;}
+    public synchronized int getTamanho() {return entradas.size();}
+    public long getOrcamentoBytes() {return orcamentoBytes;}
+
+    @Override
+    public synchronized String toString() {
+        return String.format("CacheImagens[%d imagens, %d/%d bytes, acertos=%d, falhas=%d, remoções=%d]",
+                entradas.size(), bytesEmUso, orcamentoBytes, acertos, falhas, remocoes);
+    }
+}
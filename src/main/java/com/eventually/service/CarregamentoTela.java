@@ -0,0 +1,135 @@
+package com.eventually.service;
+
+import javafx.application.Platform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Carregamento de uma tela: as consultas de que a tela precisa (perfil, preferências, eventos...) são
+ * registradas como etapas, executadas em paralelo pelos {@link ServicosAssincronos}, e reunidas antes de a tela ser
+ * preenchida.
+ * {@link #concluir(Runnable)} nunca bloqueia a thread do JavaFX: se as etapas já terminaram quando ele é chamado, a
+ * tela é preenchida na hora, antes da primeira exibição; caso contrário, ela é exibida sem os dados e preenchida de uma
+ * vez, na thread do JavaFX, quando a última etapa terminar. O tempo de cada etapa, da espera e do preenchimento é
+ * registrado no log, para acompanhar onde a navegação gasta tempo.
+ * Uma etapa que falha é registrada no log e entrega {@code null}, sem impedir o preenchimento das demais.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class CarregamentoTela {
+    private final String tela;
+    private final long inicio = System.nanoTime();
+    private final List<String> nomesDasEtapas = new ArrayList<>();
+    private final List<CompletableFuture<?>> etapas = new ArrayList<>();
+    private final Map<String, Long> temposEmNanos = new ConcurrentHashMap<>();
+    private final ServicosAssincronos servicosAssincronos = ServicosAssincronos.getInstancia();
+
+    private static final Logger sistemaDeLogger = LoggerFactory.getLogger(CarregamentoTela.class);
+
+    /**
+     * @param tela o nome da tela, usado no log.
+     */
+    public CarregamentoTela(String tela) {
+        this.tela = tela;
+    }
+
+    /**
+     * Registra e inicia uma etapa independente.
+     * @param nome o nome da etapa, usado no log.
+     * @param consulta a consulta, executada em uma thread virtual.
+     * @return o futuro com o resultado da etapa, ou {@code null} se ela falhar.
+     */
+    public <T> CompletableFuture<T> etapa(String nome, Supplier<T> consulta) {
+        return registrar(nome, servicosAssincronos.executar(() -> cronometrar(nome, consulta)));
+    }
+
+    /**
+     * Registra uma etapa que depende do resultado de outra e a inicia assim que a dependência termina. O tempo
+     * registrado é apenas o da própria etapa, sem a espera pela dependência.
+     * @param nome o nome da etapa, usado no log.
+     * @param dependencia o futuro de uma etapa já registrada.
+     * @param consulta a consulta sobre o resultado da dependência, executada em uma thread virtual.
+     * @return o futuro com o resultado da etapa, ou {@code null} se ela falhar.
+     */
+    public <A, T> CompletableFuture<T> etapa(String nome, CompletableFuture<A> dependencia, Function<? super A, T> consulta) {
+        return registrar(nome, dependencia.thenCompose(resultado ->
+                servicosAssincronos.executar(() -> cronometrar(nome, () -> consulta.apply(resultado)))));
+    }
+
+    /**
+     * Preenche a tela quando todas as etapas terminarem, sem bloquear a thread que chama. Se as etapas já terminaram e
+     * a chamada está na thread do JavaFX, o preenchimento é feito na hora; caso contrário, é agendado na thread do
+     * JavaFX.
+     * @param preencher a ação que aplica os resultados à tela, sempre executada na thread do JavaFX.
+     */
+    public void concluir(Runnable preencher) {
+        CompletableFuture<Void> todas = CompletableFuture.allOf(etapas.toArray(CompletableFuture[]::new));
+        long inicioEspera = System.nanoTime();
+        if (todas.isDone() && Platform.isFxApplicationThread()) {
+            temposEmNanos.put("espera", 0L);
+            preencher(preencher);
+            return;
+        }
+        todas.thenAcceptAsync(ignorado -> {
+            temposEmNanos.put("espera", System.nanoTime() - inicioEspera);
+            preencher(preencher);
+        }, Platform::runLater);
+    }
+
+    private <T> CompletableFuture<T> registrar(String nome, CompletableFuture<T> etapa) {
+        CompletableFuture<T> protegida = etapa.exceptionally(erro -> {
+            Throwable causa = erro.getCause() != null ? erro.getCause() : erro;
+            sistemaDeLogger.error("Tela " + tela + ": erro na etapa '" + nome + "': " + causa.getMessage());
+            causa.printStackTrace();
+            return null;
+        });
+        nomesDasEtapas.add(nome);
+        etapas.add(protegida);
+        return protegida;
+    }
+
+    private <T> T cronometrar(String nome, Supplier<T> consulta) {
+        long inicioEtapa = System.nanoTime();
+        try {
+            return consulta.get();
+        } finally {
+            temposEmNanos.put(nome, System.nanoTime() - inicioEtapa);
+        }
+    }
+
+    private void preencher(Runnable preencher) {
+        long inicioPreenchimento = System.nanoTime();
+        try {
+            preencher.run();
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao preencher a tela " + tela + ": " + e.getMessage());
+            e.printStackTrace();
+        }
+        temposEmNanos.put("preenchimento", System.nanoTime() - inicioPreenchimento);
+        registrarTempos();
+    }
+
+    private void registrarTempos() {
+        StringBuilder detalhes = new StringBuilder();
+        for (String nome : nomesDasEtapas) {
+            detalhes.append(nome).append(' ').append(milissegundos(temposEmNanos.get(nome))).append(", ");
+        }
+        detalhes.append("espera ").append(milissegundos(temposEmNanos.get("espera"))).append(", ");
+        detalhes.append("preenchimento ").append(milissegundos(temposEmNanos.get("preenchimento")));
+        sistemaDeLogger.info("Tela {} carregada em {} ({}).", tela, milissegundos(System.nanoTime() - inicio), detalhes);
+    }
+
+    private static String milissegundos(Long nanos) {
+        return nanos == null ? "-" : String.format(Locale.ROOT, "%.1f ms", nanos / 1_000_000.0);
+    }
+}
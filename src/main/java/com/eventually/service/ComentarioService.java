@@ -2,6 +2,7 @@ package com.eventually.service;
 
 import com.eventually.model.ComentarioModel;
 import com.eventually.model.EventoModel;
+import com.eventually.model.UsuarioModel;
 import java.util.Collections;
 import java.util.List;
 
@@ -25,6 +26,8 @@ public class ComentarioService {
     public void adicionarComentario(EventoModel evento, ComentarioModel novoComentario) {
         if (evento != null && novoComentario != null) {
             evento.getComentarios().add(novoComentario);
+            PersistenciaService.getInstancia().registrarEvento(evento);
+            BarramentoEventos.getInstancia().publicar(new EventoDominio.ComentarioAdicionado(evento.getId()));
             System.out.println("Comentário adicionado ao evento: " + evento.getNome());
         }
     }
@@ -46,10 +49,35 @@ public class ComentarioService {
             boolean removido = evento.getComentarios().remove(comentario);
 
             if (removido) {
+                PersistenciaService.getInstancia().registrarEvento(evento);
                 System.out.println("Comentário removido com sucesso do evento: " + evento.getNome());
             } else {
                 System.out.println("O comentário não pôde ser encontrado e removido do evento: " + evento.getNome());
             }
         }
     }
+
+    /**
+     * Registra a curtida de um usuário em um comentário.
+     * @param comentario o comentário curtido.
+     * @param usuario o usuário que curtiu.
+     */
+    public void curtirComentario(ComentarioModel comentario, UsuarioModel usuario) {
+        if (comentario != null && usuario != null) {
+            comentario.curtir(usuario);
+            PersistenciaService.getInstancia().registrarEvento(comentario.getEvento());
+        }
+    }
+
+    /**
+     * Remove a curtida de um usuário em um comentário.
+     * @param comentario o comentário descurtido.
+     * @param usuario o usuário que removeu a curtida.
+     */
+    public void descurtirComentario(ComentarioModel comentario, UsuarioModel usuario) {
+        if (comentario != null && usuario != null) {
+            comentario.descurtir(usuario);
+            PersistenciaService.getInstancia().registrarEvento(comentario.getEvento());
+        }
+    }
 }
\ No newline at end of file
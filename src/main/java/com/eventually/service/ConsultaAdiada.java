@@ -0,0 +1,99 @@
+package com.eventually.service;
+
+import javafx.application.Platform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Executa consultas disparadas pela digitação fora da thread do JavaFX, com espera ("debounce") e descarte de consultas
+ * superadas.
+ * Cada {@link #submeter(String)} reinicia a espera: a consulta só roda quando o usuário para de digitar por
+ * {@code atraso}. As consultas rodam em uma thread de segundo plano compartilhada por todas as instâncias, e o
+ * resultado é entregue na thread do JavaFX com {@link Platform#runLater(Runnable)} apenas se nenhum texto mais novo tiver
+ * sido submetido nesse meio tempo; consultas ainda agendadas são canceladas e as que já estavam rodando têm o resultado
+ * descartado. Assim, digitar nunca bloqueia o pulso da interface, mesmo com catálogos grandes.
+ * @param <R> o tipo do resultado da consulta.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ConsultaAdiada<R> {
+    private static final ScheduledExecutorService EXECUTOR = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+        Thread thread = new Thread(tarefa, "eventually-consultas");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long atrasoEmMillis;
+    private final Function<String, R> consulta;
+    private final Consumer<R> aoConcluir;
+    private final AtomicLong geracao = new AtomicLong();
+    private ScheduledFuture<?> pendente;
+
+    private static final Logger sistemaDeLogger = LoggerFactory.getLogger(ConsultaAdiada.class);
+
+    /**
+     * @param atraso o tempo sem novas submissões antes de a consulta ser executada.
+     * @param consulta a consulta, executada na thread de segundo plano.
+     * @param aoConcluir o consumidor do resultado, executado na thread do JavaFX.
+     */
+    public ConsultaAdiada(Duration atraso, Function<String, R> consulta, Consumer<R> aoConcluir) {
+        this.atrasoEmMillis = atraso.toMillis();
+        this.consulta = consulta;
+        this.aoConcluir = aoConcluir;
+    }
+
+    /**
+     * Agenda a consulta para o texto, substituindo qualquer consulta anterior ainda não entregue.
+     * @param texto o texto atual do campo.
+     */
+    public synchronized void submeter(String texto) {
+        long minhaGeracao = geracao.incrementAndGet();
+        if (pendente != null) {
+            pendente.cancel(false);
+        }
+        pendente = EXECUTOR.schedule(() -> executar(texto, minhaGeracao), atrasoEmMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Cancela a consulta agendada e descarta o resultado de uma consulta em andamento.
+     */
+    public synchronized void cancelar() {
+        geracao.incrementAndGet();
+        if (pendente != null) {
+            pendente.cancel(false);
+            pendente = null;
+        }
+    }
+
+    private void executar(String texto, long minhaGeracao) {
+        if (geracao.get() != minhaGeracao) {
+            return;
+        }
+        try {
+            long inicio = System.nanoTime();
+            R resultado = consulta.apply(texto);
+            sistemaDeLogger.debug("Consulta '{}' executada em {} µs.", texto, (System.nanoTime() - inicio) / 1_000);
+            if (geracao.get() != minhaGeracao) {
+                return;
+            }
+            Platform.runLater(() -> {
+                if (geracao.get() == minhaGeracao) {
+                    aoConcluir.accept(resultado);
+                }
+            });
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao executar consulta '{}': {}", texto, e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
@@ -44,10 +44,7 @@ public class EmailService {
     private void validarEmail() {
         sistemaDeLogger.info("Método validarEmail() chamado para o e-mail: " + emailRecebido);
         try {
-            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.getAllUsuarios()
-                    .stream()
-                    .filter(usuario -> usuario.getEmail().equalsIgnoreCase(emailRecebido))
-                    .findFirst();
+            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.buscarUsuarioPorEmail(emailRecebido);
 
             if (usuarioOptional.isPresent()) {
                 this.codigoGerado = gerarCodigo();
@@ -55,6 +52,7 @@ public class EmailService {
                 if (this.codigoGerado != null) {
                     UsuarioModel usuarioParaAtualizar = usuarioOptional.get();
                     usuarioParaAtualizar.setSenha(this.codigoGerado);
+                    PersistenciaService.getInstancia().registrarUsuario(usuarioParaAtualizar);
 
                     enviarEmail();
                     alertaService.alertarInfo("Um código foi enviado para o seu e-mail. Ele é a sua nova senha temporária.\nUse-o para fazer login e altere-a nas configurações.");
@@ -25,9 +25,7 @@ import java.util.*;
  */
 public final class EventoCriacaoService {
     private static EventoCriacaoService instancia;
-    private Set<EventoModel> listaEventos;
-
-    private static int proximoId = 1;
+    private final ArmazemEntidades<EventoModel> eventos;
 
     private UsuarioSessaoService usuarioSessaoService;
 
@@ -39,9 +37,9 @@ public final class EventoCriacaoService {
      * Construtor que inicializa a lista com um objeto teste do tipo {@link EventoModel}.
      */
     private EventoCriacaoService() {
-        listaEventos = new HashSet<>();
+        eventos = new ArmazemEntidades<>();
         this.usuarioSessaoService=UsuarioSessaoService.getInstancia();
-        sistemaDeLogger.info("Inicializado e lista de eventos criada. HashSet size: " + listaEventos.size());
+        sistemaDeLogger.info("Inicializado e armazém de eventos criado.");
     }
 
     /**
@@ -70,12 +68,7 @@ public final class EventoCriacaoService {
     public void criarLista() {
         sistemaDeLogger.info("Método criarLista() chamado.");
         try{
-            if (listaEventos == null) {
-                listaEventos = new HashSet<>();
-                sistemaDeLogger.info("Método criarLista() inicializou a lista de eventos.");
-            } else {
-                sistemaDeLogger.info("Método criarLista() chamado, lista de eventos já está pronta. Tamanho atual: " + listaEventos.size());
-            }
+            sistemaDeLogger.info("Método criarLista() chamado, lista de eventos já está pronta. Tamanho atual: " + eventos.tamanho());
         } catch (RuntimeException e) {
             sistemaDeLogger.error("Erro ao inicializar a lista: "+e.getMessage());
             e.printStackTrace();
@@ -125,26 +118,31 @@ public final class EventoCriacaoService {
                 formato,
                 link,
                 localizacao,
-                foto,
+                ArmazemImagens.getInstancia().importar(foto),
                 dto.nParticipantes(),
                 dto.diaInicial(),
                 dto.horaInicial(),
                 dto.diaFinal(),
                 dto.horaFinal(),
                 comunidades,
-                new ArrayList<>(),
                 true,
                 false,
                 new ArrayList<>()
         );
-        novoEvento.setId(proximoId++);
+        novoEvento.setId(eventos.alocarId());
 
-        boolean adicionado = this.listaEventos.add(novoEvento);
+        boolean adicionado = eventos.adicionar(novoEvento.getId(), novoEvento);
 
         if (adicionado) {
+            PersistenciaService.getInstancia().registrarEvento(novoEvento);
             sistemaDeLogger.info("Evento '{}' criado com ID {} e adicionado à lista geral.", novoEvento.getNome(), novoEvento.getId());
 
-            organizador.getEventosOrganizados().add(novoEvento);
+            organizador.adicionarEventoOrganizado(novoEvento.getId());
+            AgendaService.getInstancia().invalidar();
+            FiltroEventosService.getInstancia().indexar(novoEvento);
+            BuscaEventosService.getInstancia().indexar(novoEvento);
+            OrdenacaoEventosService.getInstancia().indexar(novoEvento);
+            BarramentoEventos.getInstancia().publicar(new EventoDominio.EventoCriado(novoEvento.getId()));
             sistemaDeLogger.info("CONEXÃO FEITA: Evento ID {} associado ao organizador '{}'.", novoEvento.getId(), organizador.getEmail());
         } else {
             sistemaDeLogger.warn("Evento '{}' não foi adicionado (possivelmente um duplicado).", novoEvento.getNome());
@@ -184,14 +182,18 @@ public final class EventoCriacaoService {
     public boolean adicionarEvento(EventoModel evento) {
         sistemaDeLogger.info("Método adicionarEvento() na lista chamado.");
         try {
-            evento.setId(proximoId++);
-
-            int id = System.identityHashCode(evento);
+            int id = eventos.alocarId();
             evento.setId(id);
 
-            boolean adicionado = listaEventos.add(evento);
+            boolean adicionado = eventos.adicionar(id, evento);
             if (adicionado) {
-                sistemaDeLogger.info("EventoH adicionado com ID: " + id + " | HashSet size: " + listaEventos.size());
+                AgendaService.getInstancia().invalidar();
+                FiltroEventosService.getInstancia().indexar(evento);
+                BuscaEventosService.getInstancia().indexar(evento);
+                OrdenacaoEventosService.getInstancia().indexar(evento);
+                PersistenciaService.getInstancia().registrarEvento(evento);
+                BarramentoEventos.getInstancia().publicar(new EventoDominio.EventoCriado(id));
+                sistemaDeLogger.info("EventoH adicionado com ID: " + id + " | Total de eventos: " + eventos.tamanho());
             } else {
                 sistemaDeLogger.info("EventoH não adicionado (possivelmente já existe ou houve um problema).");
             }
@@ -204,17 +206,35 @@ public final class EventoCriacaoService {
     }
 
     /**
-     * Busca um usuário na lista pelo seu ID e, em caso de falha, exibe uma mensagem no console.
-     * @param id o ID do usuário a ser buscado.
+     * Recoloca na lista um evento recuperado dos dados salvos, mantendo o ID original, e, em caso de falha, exibe
+     * uma mensagem no console.
+     * @param evento o evento restaurado pelo {@link PersistenciaService}.
+     */
+    void restaurarEvento(EventoModel evento) {
+        try {
+            eventos.colocar(evento.getId(), evento);
+            eventos.reservarAte(evento.getId());
+            AgendaService.getInstancia().invalidar();
+            FiltroEventosService.getInstancia().indexar(evento);
+            BuscaEventosService.getInstancia().indexar(evento);
+            OrdenacaoEventosService.getInstancia().indexar(evento);
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao restaurar evento: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Busca um evento pelo seu ID através do índice de chave primária, sem percorrer a lista nem bloquear, e, em caso
+     * de falha, exibe uma mensagem no console.
+     * @param id o ID do evento a ser buscado.
      * @return um {@code Optional} contendo o {@code EventoModel} correspondente ao ID,
      * ou um {@code Optional} vazio se não encontrado.
      */
     public Optional<EventoModel> buscarEventoPorId(int id) {
         sistemaDeLogger.info("Método buscarEventoPorId() chamado.");
         try {
-            return listaEventos.stream().
-                    filter(u -> u.getId() == id).
-                    findFirst();
+            return Optional.ofNullable(eventos.get(id));
         } catch (Exception e) {
             sistemaDeLogger.error("Erro ao retornar a busca de evento por ID: "+e.getMessage());
             e.printStackTrace();
@@ -223,18 +243,35 @@ public final class EventoCriacaoService {
     }
 
     /**
-     * Retorna a lista de todos os usuários armazenados e, em caso de falha, exibe uma mensagem no console.
-     * @return Um {@code Set} de objetos {@code EventoModel}.
+     * Resolve uma lista de IDs, como as inscrições de um usuário, nos eventos correspondentes, uma consulta ao armazém
+     * por ID; IDs de eventos que não existem mais são ignorados.
+     * @param ids os IDs dos eventos.
+     * @return uma lista com os eventos encontrados, na ordem dos IDs.
+     */
+    public List<EventoModel> buscarEventosPorIds(int[] ids) {
+        List<EventoModel> encontrados = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            EventoModel evento = eventos.get(id);
+            if (evento != null) {
+                encontrados.add(evento);
+            }
+        }
+        return encontrados;
+    }
+
+    /**
+     * Retorna uma cópia de todos os eventos armazenados e, em caso de falha, exibe uma mensagem no console.
+     * @return Um {@code Set} imutável de objetos {@code EventoModel}.
      */
     public Set<EventoModel> getAllEventos() {
         sistemaDeLogger.info("Método getAllEventos() chamado.");
         try {
-            Set<EventoModel> eventos = Collections.unmodifiableSet(listaEventos);
+            Set<EventoModel> todos = Collections.unmodifiableSet(new HashSet<>(eventos.listar()));
             System.out.println("Eventos encontrados:");
-            for (EventoModel evento : eventos) {
+            for (EventoModel evento : todos) {
                 System.out.println(evento);
             }
-            return Collections.unmodifiableSet(listaEventos);
+            return todos;
         } catch (Exception e) {
             sistemaDeLogger.info("Erro retornar lista: "+e.getMessage());
             e.printStackTrace();
@@ -0,0 +1,52 @@
+package com.eventually.service;
+
+/**
+ * Mudanças publicadas pelos serviços no {@link BarramentoEventos} depois de alterar eventos ou usuários. Cada mudança
+ * carrega apenas os IDs envolvidos; quem a recebe consulta os serviços para obter o estado atual.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public sealed interface EventoDominio {
+
+    /**
+     * Um evento foi criado.
+     */
+    record EventoCriado(int idEvento) implements EventoDominio {}
+
+    /**
+     * Os dados de um evento foram editados.
+     */
+    record EventoEditado(int idEvento) implements EventoDominio {}
+
+    /**
+     * Um evento foi excluído ({@code ativo == false}) ou reativado.
+     */
+    record EstadoEventoAlterado(int idEvento, boolean ativo) implements EventoDominio {}
+
+    /**
+     * Um usuário se inscreveu em um evento.
+     */
+    record ParticipanteAdicionado(int idEvento, int idUsuario) implements EventoDominio {}
+
+    /**
+     * Um usuário cancelou a inscrição em um evento.
+     */
+    record ParticipanteRemovido(int idEvento, int idUsuario) implements EventoDominio {}
+
+    /**
+     * Um usuário da lista de espera recebeu uma vaga liberada no evento; é publicado depois do
+     * {@link ParticipanteAdicionado} correspondente.
+     */
+    record ParticipantePromovido(int idEvento, int idUsuario) implements EventoDominio {}
+
+    /**
+     * Um comentário foi adicionado a um evento.
+     */
+    record ComentarioAdicionado(int idEvento) implements EventoDominio {}
+
+    /**
+     * Os dados do perfil de um usuário foram alterados.
+     */
+    record UsuarioAtualizado(int idUsuario) implements EventoDominio {}
+}
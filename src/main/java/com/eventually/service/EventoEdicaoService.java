@@ -3,13 +3,11 @@ package com.eventually.service;
 import com.eventually.dto.EventoEdicaoDto;
 import com.eventually.model.EventoModel;
 import com.eventually.model.FormatoSelecionado;
-import com.eventually.model.UsuarioModel;
 import com.eventually.view.HomeView;
 import com.eventually.view.modal.EditaEventoModal;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.List;
 import java.util.Optional;
 
 /**
@@ -24,10 +22,12 @@ public class EventoEdicaoService {
 
     private EventoLeituraService eventoLeituraService;
     private UsuarioSessaoService usuarioSessaoService;
+    private PersistenciaService persistenciaService;
 
     private EventoEdicaoService() {
         this.usuarioSessaoService=UsuarioSessaoService.getInstancia();
         this.eventoLeituraService=EventoLeituraService.getInstancia();
+        this.persistenciaService=PersistenciaService.getInstancia();
     }
 
     private static final Logger logger = LoggerFactory.getLogger(EventoEdicaoService.class);
@@ -69,70 +69,46 @@ public class EventoEdicaoService {
         }
 
         if (dto.novaImagem() != null) {
-            eventoParaAtualizar.setFoto(dto.novaImagem());
+            eventoParaAtualizar.setHashFoto(ArmazemImagens.getInstancia().importar(dto.novaImagem()));
         }
 
         if (dto.comunidades() != null && !dto.comunidades().isEmpty()) {
             eventoParaAtualizar.setComunidades(dto.comunidades());
         }
-        eventoParaAtualizar.setnParticipantes(dto.capacidade());
+        ReservaVagasService.getInstancia().alterarCapacidade(eventoParaAtualizar, dto.capacidade());
         eventoParaAtualizar.setFormato(dto.formato());
         eventoParaAtualizar.setDataInicial(dto.dataInicio());
         eventoParaAtualizar.setHoraInicial(dto.horaInicio());
         eventoParaAtualizar.setDataFinal(dto.dataFim());
         eventoParaAtualizar.setHoraFinal(dto.horaFim());
+        AgendaService.getInstancia().invalidar();
+        FiltroEventosService.getInstancia().indexar(eventoParaAtualizar);
+        BuscaEventosService.getInstancia().indexar(eventoParaAtualizar);
+        OrdenacaoEventosService.getInstancia().indexar(eventoParaAtualizar);
+        persistenciaService.registrarEvento(eventoParaAtualizar);
+        BarramentoEventos.getInstancia().publicar(new EventoDominio.EventoEditado(eventoParaAtualizar.getId()));
 
         System.out.println("Evento atualizado com sucesso para: " + eventoParaAtualizar.getNome());
     }
 
+    /**
+     * Inscreve o usuário no evento pelo {@link ReservaVagasService}, que respeita a capacidade do evento.
+     * @param eventoH o evento que receberá o participante.
+     * @param email o email do participante.
+     * @return {@code true} se a inscrição foi confirmada.
+     */
     public boolean adicionarParticipante(HomeView.EventoH eventoH, String email) {
         logger.info("Tentando adicionar usuário '{}' ao evento ID '{}'", email, eventoH.id());
-
-        Optional<EventoModel> optionalEvento = eventoLeituraService.procurarEventoPorId(eventoH.id());
-
-        Optional<UsuarioModel> optionalUsuario = Optional.ofNullable(usuarioSessaoService.procurarUsuario(email));
-
-        if (optionalEvento.isPresent() && optionalUsuario.isPresent()) {
-            EventoModel evento = optionalEvento.get();
-            UsuarioModel usuario = optionalUsuario.get();
-
-            List<UsuarioModel> participantes = evento.getParticipantes();
-
-            if (participantes.contains(usuario)) {
-                logger.warn("Usuário '{}' já está inscrito no evento '{}'. Operação cancelada.", email, evento.getNome());
-                return false;
-            }
-
-            participantes.add(usuario);
-            logger.info("Usuário '{}' adicionado com sucesso à lista de participantes do evento '{}'.", usuario.getNome(), evento.getNome());
-
-            return true;
-        }
-
-        return false;
+        return ReservaVagasService.getInstancia().reservar(eventoH.id(), email) == ReservaVagasService.Resultado.CONFIRMADA;
     }
 
     /**
-     * Remove um participante da lista de um evento específico.
-     * Este método atualiza a lista de participantes do próprio evento.
+     * Remove um participante de um evento específico pelo {@link ReservaVagasService}, que atualiza tanto a lista de
+     * participantes do evento quanto as inscrições do usuário e devolve a vaga.
      * @param eventoH o evento (no formato record/DTO) que perderá um participante.
      * @param email o email do participante a ser removido.
      */
     public void removerParticipante(HomeView.EventoH eventoH, String email) {
-        Optional<EventoModel> eventoOptional = eventoLeituraService.procurarEventoPorId(eventoH.id());
-
-        if (eventoOptional.isPresent()) {
-            EventoModel eventoEncontrado = eventoOptional.get();
-
-            List<UsuarioModel> participantes = eventoEncontrado.getParticipantes();
-
-            boolean removido = participantes.removeIf(participante -> participante.getEmail().equals(email));
-
-            if (removido) {
-                System.out.println("Participante " + email + " removido do evento " + eventoEncontrado.getNome());
-            }
-        } else {
-            System.out.println("Erro: Evento ID " + eventoH.id() + " não encontrado para remover participante.");
-        }
+        ReservaVagasService.getInstancia().cancelar(eventoH.id(), email);
     }
-}
\ No newline at end of file
+}
@@ -67,6 +67,9 @@ public class EventoExclusaoService {
             if (eventoModel.isPresent()) {
                 EventoModel evento = eventoModel.get();
                 evento.setEstado(novoEstado);
+                FiltroEventosService.getInstancia().indexar(evento);
+                PersistenciaService.getInstancia().registrarEvento(evento);
+                BarramentoEventos.getInstancia().publicar(new EventoDominio.EstadoEventoAlterado(idEvento, novoEstado));
                 sistemaDeLogger.info("Estado do evento com ID " + idEvento + " alterado para " + (novoEstado ? "ATIVO" : "INATIVO") + ".");
                 return true;
             } else {
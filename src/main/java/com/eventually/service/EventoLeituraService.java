@@ -1,5 +1,7 @@
 package com.eventually.service;
 
+import com.eventually.dto.CursorEventosDto;
+import com.eventually.dto.PaginaEventosDto;
 import com.eventually.model.*;
 import javafx.scene.image.Image;
 import org.slf4j.Logger;
@@ -7,9 +9,8 @@ import org.slf4j.LoggerFactory;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.List;
-import java.util.Optional;
-import java.util.Set;
+import java.util.*;
+import java.util.function.Predicate;
 
 /**
  * Esta classe é um Singleton e atua como a camada de leitura (READ) para a entidade EventoH.
@@ -68,6 +69,103 @@ public final class EventoLeituraService {
         }
     }
 
+    /**
+     * Lista os eventos em páginas, na ordem pedida, usando as listas mantidas pelo {@link OrdenacaoEventosService}: cada
+     * página custa O(log n + eventos percorridos), em vez de materializar e ordenar todos os eventos.
+     * @param ordenacao o critério de ordenação.
+     * @param cursor o cursor da página anterior, ou {@code null} para a primeira página; um cursor de outra ordenação
+     *               também recomeça do início.
+     * @param tamanho a quantidade máxima de eventos na página.
+     * @param filtro o teste que os eventos da página precisam atender.
+     * @return a página de eventos e o cursor da próxima.
+     */
+    public PaginaEventosDto listarEventos(OrdenacaoEventosService.Ordenacao ordenacao, CursorEventosDto cursor,
+                                          int tamanho, Predicate<? super EventoModel> filtro) {
+        try {
+            if (cursor != null && cursor.ordenacao() != ordenacao) {
+                sistemaDeLogger.warn("Cursor da ordenação {} usado na ordenação {}. Recomeçando a listagem.",
+                        cursor.ordenacao(), ordenacao);
+                cursor = null;
+            }
+            return OrdenacaoEventosService.getInstancia().pagina(ordenacao, cursor, tamanho, filtro);
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao listar página de eventos: " + e.getMessage());
+            e.printStackTrace();
+            return new PaginaEventosDto(List.of(), null);
+        }
+    }
+
+    /**
+     * Relê, na ordem pedida, os eventos da listagem desde a primeira página até o cursor da última página carregada,
+     * para atualizar uma listagem já rolada sem recomeçá-la.
+     * @param ordenacao o critério de ordenação.
+     * @param limite o cursor da última página carregada, ou {@code null} se a listagem já chegou ao fim.
+     * @param filtro o teste que os eventos precisam atender.
+     * @return os eventos da listagem até o cursor, inclusive, ou {@code null} em caso de erro.
+     */
+    public List<EventoModel> listarEventosAte(OrdenacaoEventosService.Ordenacao ordenacao, CursorEventosDto limite,
+                                              Predicate<? super EventoModel> filtro) {
+        try {
+            if (limite != null && limite.ordenacao() != ordenacao) {
+                sistemaDeLogger.warn("Cursor da ordenação {} usado na ordenação {}.", limite.ordenacao(), ordenacao);
+                return null;
+            }
+            return OrdenacaoEventosService.getInstancia().ate(ordenacao, limite, filtro);
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao reler a listagem de eventos: " + e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Pagina, com o mesmo tipo de cursor de {@link #listarEventos}, uma coleção pequena de eventos que não tem lista
+     * ordenada própria (por exemplo, os eventos organizados por um usuário). Apenas os eventos posteriores ao cursor são
+     * considerados, e só os {@code tamanho} primeiros são ordenados.
+     * @param eventos a coleção a paginar.
+     * @param ordenacao o critério de ordenação.
+     * @param cursor o cursor da página anterior, ou {@code null} para a primeira página.
+     * @param tamanho a quantidade máxima de eventos na página.
+     * @return a página de eventos e o cursor da próxima.
+     */
+    public PaginaEventosDto paginar(Collection<EventoModel> eventos, OrdenacaoEventosService.Ordenacao ordenacao,
+                                    CursorEventosDto cursor, int tamanho) {
+        record Chaveado(long chave, int id, EventoModel evento) {}
+        Comparator<Chaveado> ordem = Comparator.comparingLong(Chaveado::chave).thenComparingInt(Chaveado::id);
+        OrdenacaoEventosService ordenacaoService = OrdenacaoEventosService.getInstancia();
+
+        // heap com os maiores no topo: guarda apenas os "tamanho + 1" menores posteriores ao cursor
+        PriorityQueue<Chaveado> menores = new PriorityQueue<>(ordem.reversed());
+        for (EventoModel evento : eventos) {
+            Chaveado chaveado = new Chaveado(ordenacaoService.chaveDe(ordenacao, evento), evento.getId(), evento);
+            if (cursor != null && cursor.ordenacao() == ordenacao
+                    && ordem.compare(chaveado, new Chaveado(cursor.chave(), cursor.id(), null)) <= 0) {
+                continue;
+            }
+            menores.add(chaveado);
+            if (menores.size() > tamanho + 1) {
+                menores.poll();
+            }
+        }
+        boolean temMais = menores.size() > tamanho;
+        if (temMais) {
+            menores.poll();
+        }
+        List<Chaveado> pagina = new ArrayList<>(menores);
+        pagina.sort(ordem);
+
+        List<EventoModel> eventosDaPagina = new ArrayList<>(pagina.size());
+        for (Chaveado chaveado : pagina) {
+            eventosDaPagina.add(chaveado.evento());
+        }
+        CursorEventosDto proximo = null;
+        if (temMais) {
+            Chaveado ultimo = pagina.get(pagina.size() - 1);
+            proximo = new CursorEventosDto(ordenacao, ultimo.chave(), ultimo.id());
+        }
+        return new PaginaEventosDto(eventosDaPagina, proximo);
+    }
+
     /**
      * Procura o nome de um evento dado o seu ID e, em caso de erro, é exibida uma mensagem no console.
      * @param id o ID do evento.
@@ -203,7 +301,7 @@ public final class EventoLeituraService {
         try{
             Optional<EventoModel> evento = procurarEventoPorId(id);
 
-            if (evento.isPresent()) {return evento.get().getFoto();}
+            if (evento.isPresent()) {return ArmazemImagens.getInstancia().fotoDoEvento(evento.get());}
 
             alertaService.alertarErro("EventoH com o ID informado não foi encontrado.");
             return null;
@@ -344,13 +442,15 @@ public final class EventoLeituraService {
     /**
      * Procura a lista de participantes de um evento dado o seu ID e, em caso de erro, é exibida uma mensagem no console.
      * @param id o ID do evento.
-     * @return uma List com os usuários participantes, ou {@code null} se não for encontrado.
+     * @return uma cópia imutável da lista de usuários participantes, ou {@code null} se não for encontrado.
      */
     public List<UsuarioModel> procurarParticipantes(int id) {
         try{
             Optional<EventoModel> evento = procurarEventoPorId(id);
 
-            if (evento.isPresent()) {return evento.get().getParticipantes();}
+            if (evento.isPresent()) {
+                return List.copyOf(UsuarioCadastroService.getInstancia().buscarUsuariosPorIds(evento.get().getIdsParticipantes()));
+            }
 
             alertaService.alertarErro("EventoH com o ID informado não foi encontrado.");
             return null;
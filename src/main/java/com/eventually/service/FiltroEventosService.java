@@ -0,0 +1,159 @@
+package com.eventually.service;
+
+import com.eventually.dto.FiltroDto;
+import com.eventually.model.Comunidade;
+import com.eventually.model.EventoModel;
+import com.eventually.model.FormatoSelecionado;
+import com.eventually.model.util.BitmapCompacto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Esta classe é um Singleton, garantindo que apenas uma instância de {@code FiltroEventosService} exista em toda a
+ * aplicação.
+ * Mantém índices invertidos dos eventos por {@link Comunidade}, por {@link FormatoSelecionado} e por estado ativo, cada
+ * um guardado como um {@link BitmapCompacto} sobre ordinais densos (o ordinal de um evento é a ordem em que ele foi
+ * indexado pela primeira vez). Os serviços chamam {@link #indexar(EventoModel)} sempre que um evento é criado,
+ * restaurado, editado ou tem o estado alterado, e um {@link FiltroDto} é resolvido com algumas uniões e interseções de
+ * bitmaps, sem percorrer todos os eventos.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class FiltroEventosService {
+    private static FiltroEventosService instancia;
+
+    private final Map<EventoModel, Integer> ordinais = new IdentityHashMap<>();
+    private final List<EventoModel> eventosPorOrdinal = new ArrayList<>();
+    private final Map<Comunidade, BitmapCompacto> porComunidade = new EnumMap<>(Comunidade.class);
+    private final Map<FormatoSelecionado, BitmapCompacto> porFormato = new EnumMap<>(FormatoSelecionado.class);
+    private final BitmapCompacto ativos = new BitmapCompacto();
+
+    private static final Logger sistemaDeLogger = LoggerFactory.getLogger(FiltroEventosService.class);
+
+    private FiltroEventosService() {
+        for (Comunidade comunidade : Comunidade.values()) {
+            porComunidade.put(comunidade, new BitmapCompacto());
+        }
+        for (FormatoSelecionado formato : FormatoSelecionado.values()) {
+            porFormato.put(formato, new BitmapCompacto());
+        }
+        sistemaDeLogger.info("Inicializado.");
+    }
+
+    /**
+     * Retorna a instância única de {@code FiltroEventosService}, se ainda não existe, ela é criada e, em caso de falha,
+     * é exibida uma mensagem no console.
+     * @return a instância única de {@code FiltroEventosService}.
+     */
+    public static synchronized FiltroEventosService getInstancia() {
+        try {
+            if (instancia == null) {
+                instancia = new FiltroEventosService();
+            }
+            return instancia;
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao retornar a instância."+e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Indexa o evento, ou atualiza os índices com as comunidades, o formato e o estado atuais de um evento já indexado.
+     * @param evento o evento criado, restaurado ou alterado.
+     */
+    public synchronized void indexar(EventoModel evento) {
+        if (evento == null) {
+            return;
+        }
+        Integer existente = ordinais.get(evento);
+        int ordinal;
+        if (existente == null) {
+            ordinal = eventosPorOrdinal.size();
+            ordinais.put(evento, ordinal);
+            eventosPorOrdinal.add(evento);
+        } else {
+            ordinal = existente;
+            porComunidade.values().forEach(bitmap -> bitmap.remover(ordinal));
+            porFormato.values().forEach(bitmap -> bitmap.remover(ordinal));
+        }
+
+        if (evento.getComunidades() != null) {
+            for (Comunidade comunidade : evento.getComunidades()) {
+                porComunidade.get(comunidade).adicionar(ordinal);
+            }
+        }
+        if (evento.getFormato() != null) {
+            porFormato.get(evento.getFormato()).adicionar(ordinal);
+        }
+        if (evento.isEstado()) {
+            ativos.adicionar(ordinal);
+        } else {
+            ativos.remover(ordinal);
+        }
+    }
+
+    /**
+     * Resolve o filtro sobre os eventos ativos: sem comunidades selecionadas, todas são aceitas; com comunidades, o
+     * evento precisa ter ao menos uma delas; com formato, precisa ter exatamente esse formato.
+     * @param filtro o filtro da tela inicial.
+     * @return os eventos ativos que atendem ao filtro, na ordem em que foram indexados.
+     */
+    public synchronized List<EventoModel> filtrar(FiltroDto filtro) {
+        BitmapCompacto resultado = resolver(filtro);
+        List<EventoModel> eventos = new ArrayList<>(resultado.cardinalidade());
+        resultado.paraCada(ordinal -> eventos.add(eventosPorOrdinal.get(ordinal)));
+        return eventos;
+    }
+
+    /**
+     * Resolve o filtro uma única vez e devolve um teste de pertinência, para percorrer outra estrutura (como uma
+     * listagem ordenada) descartando os eventos que não atendem ao filtro sem reavaliar comunidades e formato.
+     * @param filtro o filtro da tela inicial.
+     * @return um predicado que aceita os eventos ativos que atendiam ao filtro no momento da chamada.
+     */
+    public synchronized Predicate<EventoModel> predicado(FiltroDto filtro) {
+        BitmapCompacto resultado = resolver(filtro);
+        return evento -> {
+            synchronized (this) {
+                Integer ordinal = ordinais.get(evento);
+                return ordinal != null && resultado.contem(ordinal);
+            }
+        };
+    }
+
+    private BitmapCompacto resolver(FiltroDto filtro) {
+        BitmapCompacto resultado = ativos;
+        if (filtro.comunidades() != null && !filtro.comunidades().isEmpty()) {
+            BitmapCompacto algumaComunidade = new BitmapCompacto();
+            for (Comunidade comunidade : filtro.comunidades()) {
+                algumaComunidade = BitmapCompacto.uniao(algumaComunidade, porComunidade.get(comunidade));
+            }
+            resultado = BitmapCompacto.intersecao(resultado, algumaComunidade);
+        }
+        if (filtro.formato() != null && filtro.formato().isPresent()) {
+            resultado = BitmapCompacto.intersecao(resultado, porFormato.get(filtro.formato().get()));
+        }
+        return resultado == ativos ? ativos.copia() : resultado;
+    }
+
+    /**
+     * Aplica o filtro a um único evento, com as mesmas regras de {@link #filtrar(FiltroDto)}, para conjuntos pequenos
+     * que não vêm do índice (por exemplo, os resultados de uma busca).
+     * @return {@code true} se o evento está ativo e atende ao filtro.
+     */
+    public static boolean aceita(FiltroDto filtro, EventoModel evento) {
+        if (!evento.isEstado()) {
+            return false;
+        }
+        if (filtro.comunidades() != null && !filtro.comunidades().isEmpty()
+                && (evento.getComunidades() == null || Collections.disjoint(evento.getComunidades(), filtro.comunidades()))) {
+            return false;
+        }
+        return filtro.formato() == null || filtro.formato().isEmpty() || evento.getFormato() == filtro.formato().get();
+    }
+}
@@ -0,0 +1,181 @@
+package com.eventually.service;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+/**
+ * Índice de chave primária primitiva ({@code int}) usado pelos serviços para localizar entidades pelo ID em tempo
+ * constante, sem criar objetos {@code Integer} a cada consulta.
+ * A tabela usa endereçamento aberto com sondagem linear e remoção por deslocamento, dispensando marcadores de
+ * remoção, e dobra de tamanho quando a ocupação ultrapassa 50%.
+ * @param <V> o tipo da entidade indexada.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class IndiceInt<V> {
+    private static final int CAPACIDADE_INICIAL = 16;
+
+    private int[] chaves;
+    private Object[] valores;
+    private boolean[] ocupadas;
+    private int tamanho;
+    private int mascara;
+
+    public IndiceInt() {
+        this(CAPACIDADE_INICIAL);
+    }
+
+    /**
+     * Cria um índice já dimensionado para a quantidade esperada de entradas.
+     * @param capacidadeEsperada número aproximado de entradas que o índice deve comportar sem redimensionar.
+     */
+    public IndiceInt(int capacidadeEsperada) {
+        int capacidade = Integer.highestOneBit(Math.max(CAPACIDADE_INICIAL, capacidadeEsperada * 2 - 1) ) << 1;
+        alocar(capacidade);
+    }
+
+    private void alocar(int capacidade) {
+        this.chaves = new int[capacidade];
+        this.valores = new Object[capacidade];
+        this.ocupadas = new boolean[capacidade];
+        this.mascara = capacidade - 1;
+    }
+
+    /**
+     * Espalha os bits da chave para que IDs sequenciais não se agrupem na mesma região da tabela.
+     */
+    private static int espalhar(int chave) {
+        int h = chave * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Busca a entidade associada ao ID.
+     * @param chave o ID procurado.
+     * @return a entidade, ou {@code null} se não existir.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(int chave) {
+        int i = espalhar(chave) & mascara;
+        while (ocupadas[i]) {
+            if (chaves[i] == chave) {
+                return (V) valores[i];
+            }
+            i = (i + 1) & mascara;
+        }
+        return null;
+    }
+
+    public boolean contem(int chave) {
+        return get(chave) != null;
+    }
+
+    /**
+     * Associa a entidade ao ID, substituindo a anterior caso exista.
+     * @param chave o ID da entidade.
+     * @param valor a entidade (não pode ser {@code null}).
+     * @return a entidade substituída, ou {@code null} se a chave era nova.
+     */
+    @SuppressWarnings("unchecked")
+    public V put(int chave, V valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("O índice não aceita valores nulos.");
+        }
+        int i = espalhar(chave) & mascara;
+        while (ocupadas[i]) {
+            if (chaves[i] == chave) {
+                V anterior = (V) valores[i];
+                valores[i] = valor;
+                return anterior;
+            }
+            i = (i + 1) & mascara;
+        }
+        chaves[i] = chave;
+        valores[i] = valor;
+        ocupadas[i] = true;
+        if (++tamanho * 2 > chaves.length) {
+            redimensionar();
+        }
+        return null;
+    }
+
+    /**
+     * Remove a entidade associada ao ID, reposicionando as entradas seguintes do mesmo agrupamento.
+     * @param chave o ID a ser removido.
+     * @return a entidade removida, ou {@code null} se não existia.
+     */
+    @SuppressWarnings("unchecked")
+    public V remover(int chave) {
+        int i = espalhar(chave) & mascara;
+        while (ocupadas[i]) {
+            if (chaves[i] == chave) {
+                V removido = (V) valores[i];
+                deslocarApos(i);
+                tamanho--;
+                return removido;
+            }
+            i = (i + 1) & mascara;
+        }
+        return null;
+    }
+
+    private void deslocarApos(int vaga) {
+        int atual = (vaga + 1) & mascara;
+        while (ocupadas[atual]) {
+            int ideal = espalhar(chaves[atual]) & mascara;
+            boolean podeMover = vaga <= atual
+                    ? (ideal <= vaga || ideal > atual)
+                    : (ideal <= vaga && ideal > atual);
+            if (podeMover) {
+                chaves[vaga] = chaves[atual];
+                valores[vaga] = valores[atual];
+                vaga = atual;
+            }
+            atual = (atual + 1) & mascara;
+        }
+        ocupadas[vaga] = false;
+        valores[vaga] = null;
+    }
+
+    private void redimensionar() {
+        int[] chavesAntigas = chaves;
+        Object[] valoresAntigos = valores;
+        boolean[] ocupadasAntigas = ocupadas;
+        alocar(chavesAntigas.length * 2);
+        for (int j = 0; j < chavesAntigas.length; j++) {
+            if (ocupadasAntigas[j]) {
+                int i = espalhar(chavesAntigas[j]) & mascara;
+                while (ocupadas[i]) {
+                    i = (i + 1) & mascara;
+                }
+                chaves[i] = chavesAntigas[j];
+                valores[i] = valoresAntigos[j];
+                ocupadas[i] = true;
+            }
+        }
+    }
+
+    /**
+     * Percorre todas as entidades do índice, sem ordem definida.
+     * @param acao a ação aplicada a cada entidade.
+     */
+    @SuppressWarnings("unchecked")
+    public void paraCada(Consumer<? super V> acao) {
+        for (int i = 0; i < valores.length; i++) {
+            if (ocupadas[i]) {
+                acao.accept((V) valores[i]);
+            }
+        }
+    }
+
+    public int tamanho() {return tamanho;}
+
+    public boolean isVazio() {return tamanho == 0;}
+
+    public void limpar() {
+        Arrays.fill(ocupadas, false);
+        Arrays.fill(valores, null);
+        tamanho = 0;
+    }
+}
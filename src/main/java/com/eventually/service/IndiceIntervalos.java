@@ -0,0 +1,140 @@
+package com.eventually.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * Árvore de intervalos estática e imutável, com extremos inteiros e fechados (por exemplo, o dia epoch de início e de
+ * fim de um evento).
+ * Os intervalos ficam ordenados pelo início em arrays paralelos, que formam uma árvore binária balanceada implícita (o
+ * nó de um trecho {@code [inicio, fim)} é o seu elemento do meio); para cada nó guarda-se o maior fim da sua
+ * subárvore. Uma consulta descarta subárvores cujo maior fim é anterior ao período e trechos cujo início é posterior a
+ * ele, percorrendo apenas os caminhos que levam a intervalos encontrados: O(log n) quando não há resultado e
+ * O(k log n) no pior caso, em que k é o número de intervalos encontrados.
+ * @param <T> o tipo dos elementos indexados.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class IndiceIntervalos<T> {
+    private final int[] inicios;
+    private final int[] fins;
+    private final int[] maiorFim;
+    private final Object[] elementos;
+
+    private IndiceIntervalos(int[] inicios, int[] fins, Object[] elementos) {
+        this.inicios = inicios;
+        this.fins = fins;
+        this.elementos = elementos;
+        this.maiorFim = new int[inicios.length];
+        calcularMaiorFim(0, inicios.length);
+    }
+
+    /**
+     * Constrói o índice a partir dos elementos informados, em O(n log n).
+     * @param elementos os elementos a indexar; os que tiverem fim anterior ao início são ignorados.
+     * @param inicio função que extrai o início do intervalo de um elemento.
+     * @param fim função que extrai o fim do intervalo de um elemento.
+     * @return o índice construído.
+     */
+    public static <T> IndiceIntervalos<T> construir(Collection<? extends T> elementos, ToIntFunction<? super T> inicio,
+                                                    ToIntFunction<? super T> fim) {
+        record Intervalo(int inicio, int fim, Object elemento) {}
+        List<Intervalo> intervalos = new ArrayList<>(elementos.size());
+        for (T elemento : elementos) {
+            int a = inicio.applyAsInt(elemento);
+            int b = fim.applyAsInt(elemento);
+            if (a <= b) {
+                intervalos.add(new Intervalo(a, b, elemento));
+            }
+        }
+        intervalos.sort(Comparator.comparingInt(Intervalo::inicio));
+
+        int[] inicios = new int[intervalos.size()];
+        int[] fins = new int[intervalos.size()];
+        Object[] ordenados = new Object[intervalos.size()];
+        for (int i = 0; i < ordenados.length; i++) {
+            Intervalo intervalo = intervalos.get(i);
+            inicios[i] = intervalo.inicio();
+            fins[i] = intervalo.fim();
+            ordenados[i] = intervalo.elemento();
+        }
+        return new IndiceIntervalos<>(inicios, fins, ordenados);
+    }
+
+    private int calcularMaiorFim(int de, int ate) {
+        if (de >= ate) {
+            return Integer.MIN_VALUE;
+        }
+        int meio = (de + ate) >>> 1;
+        int maior = Math.max(fins[meio], Math.max(calcularMaiorFim(de, meio), calcularMaiorFim(meio + 1, ate)));
+        maiorFim[meio] = maior;
+        return maior;
+    }
+
+    /**
+     * Percorre, em ordem de início, os elementos cujo intervalo contém o ponto.
+     * @param ponto o ponto consultado.
+     * @param acao a ação executada para cada elemento encontrado.
+     */
+    public void contendo(int ponto, Consumer<? super T> acao) {
+        sobrepostos(ponto, ponto, acao);
+    }
+
+    /**
+     * Percorre, em ordem de início, os elementos cujo intervalo tem interseção com {@code [de, ate]}.
+     * @param de o início do período consultado.
+     * @param ate o fim do período consultado.
+     * @param acao a ação executada para cada elemento encontrado.
+     */
+    public void sobrepostos(int de, int ate, Consumer<? super T> acao) {
+        if (de <= ate) {
+            visitar(0, inicios.length, de, ate, acao);
+        }
+    }
+
+    /**
+     * @return os elementos cujo intervalo contém o ponto, em ordem de início.
+     */
+    public List<T> listarContendo(int ponto) {
+        List<T> encontrados = new ArrayList<>();
+        contendo(ponto, encontrados::add);
+        return encontrados;
+    }
+
+    /**
+     * @return os elementos cujo intervalo tem interseção com {@code [de, ate]}, em ordem de início.
+     */
+    public List<T> listarSobrepostos(int de, int ate) {
+        List<T> encontrados = new ArrayList<>();
+        sobrepostos(de, ate, encontrados::add);
+        return encontrados;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void visitar(int de, int ate, int periodoInicio, int periodoFim, Consumer<? super T> acao) {
+        if (de >= ate) {
+            return;
+        }
+        int meio = (de + ate) >>> 1;
+        if (maiorFim[meio] < periodoInicio) {
+            return;
+        }
+        visitar(de, meio, periodoInicio, periodoFim, acao);
+        if (inicios[meio] > periodoFim) {
+            return;
+        }
+        if (fins[meio] >= periodoInicio) {
+            acao.accept((T) elementos[meio]);
+        }
+        visitar(meio + 1, ate, periodoInicio, periodoFim, acao);
+    }
+
+    public int tamanho() {return elementos.length;}
+
+    public boolean isVazio() {return elementos.length == 0;}
+}
@@ -0,0 +1,242 @@
+package com.eventually.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.function.Predicate;
+
+/**
+ * Lista de saltos ("skip list") indexável, ordenada por uma chave composta {@code (primaria, id)}: a chave primária é o
+ * critério de ordenação (por exemplo, o início do evento em segundos) e o ID desempata, tornando cada chave única.
+ * Cada ligação guarda também a quantidade de elementos que ela salta, o que permite, além de inserir e remover em
+ * O(log n) esperado, acessar o elemento da posição {@code k} e descobrir a posição de uma chave em O(log n), de modo
+ * que a página N de uma listagem ordenada custa O(log n + tamanho da página), sem ordenar o conjunto a cada consulta.
+ * Não é seguro para uso concorrente sem sincronização externa.
+ * @param <T> o tipo dos elementos.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ListaSaltos<T> {
+    private static final int NIVEL_MAXIMO = 24;
+
+    private final No<T> cabeca = new No<>(Long.MIN_VALUE, Integer.MIN_VALUE, null, NIVEL_MAXIMO);
+    private final SplittableRandom aleatorio = new SplittableRandom(0x5EED);
+    private int nivel = 1;
+    private int tamanho;
+
+    /**
+     * Trecho percorrido por {@link #primeiros} ou {@link #depoisDe}: os elementos aceitos, a chave do último elemento
+     * visitado, aceito ou não (para continuar dali), e se a lista ainda tinha elementos depois do trecho.
+     */
+    public record Trecho<T>(List<T> elementos, long ultimaPrimaria, int ultimoId, boolean temMais) {}
+
+    private static final class No<T> {
+        final long primaria;
+        final int id;
+        final T elemento;
+        final No<T>[] proximos;
+        final int[] larguras;
+
+        No(long primaria, int id, T elemento, int niveis) {
+            this.primaria = primaria;
+            this.id = id;
+            this.elemento = elemento;
+            this.proximos = novosNos(niveis);
+            this.larguras = new int[niveis];
+        }
+
+        boolean antesDe(long outraPrimaria, int outroId) {
+            return primaria < outraPrimaria || (primaria == outraPrimaria && id < outroId);
+        }
+
+        boolean depoisDe(long outraPrimaria, int outroId) {
+            return primaria > outraPrimaria || (primaria == outraPrimaria && id > outroId);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> No<T>[] novosNos(int quantidade) {
+        return (No<T>[]) new No<?>[quantidade];
+    }
+
+    /**
+     * Insere o elemento com a chave informada. Se a chave já existir, a lista fica com as duas entradas; quem chama deve
+     * remover a chave antiga antes de inserir a nova.
+     */
+    public void inserir(long primaria, int id, T elemento) {
+        No<T>[] anteriores = novosNos(NIVEL_MAXIMO);
+        int[] posicoes = new int[NIVEL_MAXIMO];
+        No<T> atual = cabeca;
+        int posicao = 0;
+        for (int i = nivel - 1; i >= 0; i--) {
+            while (atual.proximos[i] != null && atual.proximos[i].antesDe(primaria, id)) {
+                posicao += atual.larguras[i];
+                atual = atual.proximos[i];
+            }
+            anteriores[i] = atual;
+            posicoes[i] = posicao;
+        }
+
+        int niveis = sortearNiveis();
+        if (niveis > nivel) {
+            for (int i = nivel; i < niveis; i++) {
+                anteriores[i] = cabeca;
+                posicoes[i] = 0;
+                cabeca.larguras[i] = tamanho + 1;
+            }
+            nivel = niveis;
+        }
+
+        No<T> novo = new No<>(primaria, id, elemento, niveis);
+        for (int i = 0; i < niveis; i++) {
+            No<T> anterior = anteriores[i];
+            int saltados = posicao - posicoes[i];
+            novo.proximos[i] = anterior.proximos[i];
+            anterior.proximos[i] = novo;
+            novo.larguras[i] = anterior.larguras[i] - saltados;
+            anterior.larguras[i] = saltados + 1;
+        }
+        for (int i = niveis; i < nivel; i++) {
+            anteriores[i].larguras[i]++;
+        }
+        tamanho++;
+    }
+
+    /**
+     * @return {@code true} se a chave estava na lista.
+     */
+    public boolean remover(long primaria, int id) {
+        No<T>[] anteriores = novosNos(NIVEL_MAXIMO);
+        No<T> atual = cabeca;
+        for (int i = nivel - 1; i >= 0; i--) {
+            while (atual.proximos[i] != null && atual.proximos[i].antesDe(primaria, id)) {
+                atual = atual.proximos[i];
+            }
+            anteriores[i] = atual;
+        }
+        No<T> alvo = atual.proximos[0];
+        if (alvo == null || alvo.primaria != primaria || alvo.id != id) {
+            return false;
+        }
+        for (int i = 0; i < nivel; i++) {
+            if (anteriores[i].proximos[i] == alvo) {
+                anteriores[i].larguras[i] += alvo.larguras[i] - 1;
+                anteriores[i].proximos[i] = alvo.proximos[i];
+            } else {
+                anteriores[i].larguras[i]--;
+            }
+        }
+        while (nivel > 1 && cabeca.proximos[nivel - 1] == null) {
+            cabeca.larguras[--nivel] = 0;
+        }
+        tamanho--;
+        return true;
+    }
+
+    /**
+     * @param posicao a posição, a partir de 0, na ordem da lista.
+     * @return o elemento da posição.
+     */
+    public T obter(int posicao) {
+        return noNaPosicao(posicao).elemento;
+    }
+
+    /**
+     * @return a posição, a partir de 0, da chave na ordem da lista, ou {@code -1} se ela não estiver na lista.
+     */
+    public int posicaoDe(long primaria, int id) {
+        No<T> atual = cabeca;
+        int posicao = 0;
+        for (int i = nivel - 1; i >= 0; i--) {
+            while (atual.proximos[i] != null && atual.proximos[i].antesDe(primaria, id)) {
+                posicao += atual.larguras[i];
+                atual = atual.proximos[i];
+            }
+        }
+        No<T> proximo = atual.proximos[0];
+        return proximo != null && proximo.primaria == primaria && proximo.id == id ? posicao : -1;
+    }
+
+    /**
+     * @return os elementos das posições {@code [inicio, inicio + quantidade)}, na ordem da lista.
+     */
+    public List<T> pagina(int inicio, int quantidade) {
+        List<T> pagina = new ArrayList<>(Math.max(0, Math.min(quantidade, tamanho - inicio)));
+        if (inicio < 0 || inicio >= tamanho || quantidade <= 0) {
+            return pagina;
+        }
+        for (No<T> no = noNaPosicao(inicio); no != null && pagina.size() < quantidade; no = no.proximos[0]) {
+            pagina.add(no.elemento);
+        }
+        return pagina;
+    }
+
+    /**
+     * Percorre, na ordem da lista, os elementos com chave posterior a {@code (primaria, id)} e devolve os primeiros
+     * {@code quantidade} aceitos pelo filtro, visitando no máximo {@code limite} elementos. A busca da chave custa
+     * O(log n) e o percurso, O(min(limite, k)), onde k é quantos elementos precisam ser visitados até completar a
+     * quantidade.
+     */
+    public Trecho<T> depoisDe(long primaria, int id, int quantidade, int limite, Predicate<? super T> filtro) {
+        No<T> atual = cabeca;
+        for (int i = nivel - 1; i >= 0; i--) {
+            while (atual.proximos[i] != null && !atual.proximos[i].depoisDe(primaria, id)) {
+                atual = atual.proximos[i];
+            }
+        }
+        return coletar(atual.proximos[0], quantidade, limite, filtro);
+    }
+
+    /**
+     * Percorre a lista desde o início e devolve os primeiros {@code quantidade} elementos aceitos pelo filtro,
+     * visitando no máximo {@code limite} elementos.
+     */
+    public Trecho<T> primeiros(int quantidade, int limite, Predicate<? super T> filtro) {
+        return coletar(cabeca.proximos[0], quantidade, limite, filtro);
+    }
+
+    public int tamanho() {return tamanho;}
+
+    public boolean isVazia() {return tamanho == 0;}
+
+    private Trecho<T> coletar(No<T> inicio, int quantidade, int limite, Predicate<? super T> filtro) {
+        List<T> coletados = new ArrayList<>();
+        No<T> ultimo = null;
+        No<T> no = inicio;
+        for (int visitados = 0; no != null && coletados.size() < quantidade && visitados < limite;
+             no = no.proximos[0], visitados++) {
+            if (filtro.test(no.elemento)) {
+                coletados.add(no.elemento);
+            }
+            ultimo = no;
+        }
+        if (ultimo == null) {
+            return new Trecho<>(coletados, Long.MIN_VALUE, Integer.MIN_VALUE, false);
+        }
+        return new Trecho<>(coletados, ultimo.primaria, ultimo.id, no != null);
+    }
+
+    private No<T> noNaPosicao(int posicao) {
+        if (posicao < 0 || posicao >= tamanho) {
+            throw new IndexOutOfBoundsException("Posição " + posicao + " fora da lista de tamanho " + tamanho);
+        }
+        No<T> atual = cabeca;
+        int restante = posicao + 1;
+        for (int i = nivel - 1; i >= 0; i--) {
+            while (atual.proximos[i] != null && atual.larguras[i] <= restante) {
+                restante -= atual.larguras[i];
+                atual = atual.proximos[i];
+            }
+        }
+        return atual;
+    }
+
+    private int sortearNiveis() {
+        int niveis = 1;
+        while (niveis < NIVEL_MAXIMO && aleatorio.nextInt(4) == 0) {
+            niveis++;
+        }
+        return niveis;
+    }
+}
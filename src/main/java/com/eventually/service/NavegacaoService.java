@@ -229,12 +229,11 @@ public class NavegacaoService {
      * Neste método é manipulado o clique no botão "Criar evento", navegando para a tela de criação de eventos e, em
      * caso de erro, é exibida uma mensagem no console.
      */
-    public void abrirModalCriarEvento(String emailUsuario, Runnable onSucesso) {
+    public void abrirModalCriarEvento(String emailUsuario) {
         sistemaDeLogger.info("Método abrirModalCriarEvento() chamado.");
         try {
             CriaEventoModal modal=new CriaEventoModal();
             CriaEventoController modalController= new CriaEventoController(emailUsuario,modal);
-            modalController.setOnSucesso(onSucesso);
             modal.setCriaEventoController(modalController);
             Stage modalStage = new Stage();
 
@@ -242,7 +241,7 @@ public class NavegacaoService {
             modalStage.initOwner(primaryStage);
 
             modalStage.initStyle(StageStyle.TRANSPARENT);
-            modalStage.getIcons().add(new Image(getClass().getResource("/images/app-icon.png").toExternalForm()));
+            modalStage.getIcons().add(RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.ICONE_APP));
 
             Scene modalScene = new Scene(modal, modalStage.getWidth()/2,  modalStage.getHeight()/2);
 
@@ -279,7 +278,7 @@ public class NavegacaoService {
             modalStage.initOwner(primaryStage);
 
             modalStage.initStyle(StageStyle.TRANSPARENT);
-            modalStage.getIcons().add(new Image(getClass().getResource("/images/app-icon.png").toExternalForm()));
+            modalStage.getIcons().add(RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.ICONE_APP));
 
             Scene modalScene = new Scene(modal, modalStage.getWidth()/2,  modalStage.getHeight()/2);
 
@@ -316,7 +315,7 @@ public class NavegacaoService {
             modalStage.initOwner(primaryStage);
 
             modalStage.initStyle(StageStyle.TRANSPARENT);
-            modalStage.getIcons().add(new Image(getClass().getResource("/images/app-icon.png").toExternalForm()));
+            modalStage.getIcons().add(RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.ICONE_APP));
 
             Scene modalScene = new Scene(modalImagem, modalStage.getWidth()/2,  modalStage.getHeight()/2);
 
@@ -349,12 +348,12 @@ public class NavegacaoService {
      * Neste método é manipulado o clique no cartão de evento da tela de início e, em
      * caso de erro, é exibida uma mensagem no console.
      */
-    public void abrirModalVerEvento(String emailRecebido, HomeView.EventoH eventoH, Runnable refreshCallback) {
+    public void abrirModalVerEvento(String emailRecebido, HomeView.EventoH eventoH) {
         sistemaDeLogger.info("Método abrirModalVerEvento() chamado.");
         try {
             EventoModal modalView = new EventoModal();
 
-            EventoController controller = new EventoController(emailRecebido, modalView, eventoH, primaryStage, refreshCallback);
+            EventoController controller = new EventoController(emailRecebido, modalView, eventoH, primaryStage);
             modalView.setInscricaoController(controller);
 
             Stage modalStage = new Stage();
@@ -393,7 +392,7 @@ public class NavegacaoService {
             modalStage.initOwner(primaryStage);
 
             modalStage.initStyle(StageStyle.TRANSPARENT);
-            modalStage.getIcons().add(new Image(getClass().getResource("/images/app-icon.png").toExternalForm()));
+            modalStage.getIcons().add(RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.ICONE_APP));
 
             Scene modalScene = new Scene(modal, modalStage.getWidth()/2,  modalStage.getHeight()/2);
 
@@ -426,7 +425,7 @@ public class NavegacaoService {
             modalStage.initOwner(primaryStage);
 
             modalStage.initStyle(StageStyle.TRANSPARENT);
-            modalStage.getIcons().add(new Image(getClass().getResource("/images/app-icon.png").toExternalForm()));
+            modalStage.getIcons().add(RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.ICONE_APP));
 
             Scene modalScene = new Scene(modal, modalStage.getWidth()/2,  modalStage.getHeight()/2);
 
@@ -447,11 +446,11 @@ public class NavegacaoService {
         }
     }
 
-    public void abrirModalEdicao(HomeView.EventoH eventoH, Runnable aoSalvarCallback) {
+    public void abrirModalEdicao(HomeView.EventoH eventoH) {
         sistemaDeLogger.info("Método abrirModalEdicao() chamado.");
         try {
             EditaEventoModal modal=new EditaEventoModal();
-            EditaEventoController modalController= new EditaEventoController(modal,eventoH, aoSalvarCallback);
+            EditaEventoController modalController= new EditaEventoController(modal,eventoH);
             modal.setEditaEventoController(modalController);
             Stage modalStage = new Stage();
 
@@ -459,7 +458,7 @@ public class NavegacaoService {
             modalStage.initOwner(primaryStage);
 
             modalStage.initStyle(StageStyle.TRANSPARENT);
-            modalStage.getIcons().add(new Image(getClass().getResource("/images/app-icon.png").toExternalForm()));
+            modalStage.getIcons().add(RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.ICONE_APP));
 
             Scene modalScene = new Scene(modal, modalStage.getWidth()/2,  modalStage.getHeight()/2);
 
@@ -527,7 +526,9 @@ public class NavegacaoService {
     public void abrirModalParticipantes(HomeView.EventoH eventoH) {
         sistemaDeLogger.info("Abrindo modal de participantes para o evento: " + eventoH.titulo());
         try {
-            ParticipantesModal modal = new ParticipantesModal(eventoH);
+            ParticipantesModal modal = new ParticipantesModal();
+            ServicosAssincronos.naThreadFx(ServicosAssincronos.getInstancia().procurarParticipantes(eventoH.id()),
+                    modal::exibirParticipantes);
 
             Stage modalStage = new Stage();
 
@@ -603,7 +604,7 @@ public class NavegacaoService {
             modalStage.initOwner(primaryStage);
 
             modalStage.initStyle(StageStyle.TRANSPARENT);
-            modalStage.getIcons().add(new Image(getClass().getResource("/images/app-icon.png").toExternalForm()));
+            modalStage.getIcons().add(RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.ICONE_APP));
 
             Scene modalScene = new Scene(modal, modalStage.getWidth()/2,  modalStage.getHeight()/2);
 
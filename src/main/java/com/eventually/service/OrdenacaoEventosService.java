@@ -0,0 +1,227 @@
+package com.eventually.service;
+
+import com.eventually.dto.CursorEventosDto;
+import com.eventually.dto.PaginaEventosDto;
+import com.eventually.model.EventoModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Esta classe é um Singleton, garantindo que apenas uma instância de {@code OrdenacaoEventosService} exista em toda a
+ * aplicação.
+ * Mantém os eventos ordenados por cada critério de {@link Ordenacao} em uma {@link ListaSaltos}, atualizada de forma
+ * incremental: os serviços chamam {@link #indexar(EventoModel)} quando um evento é criado, restaurado, editado ou ganha
+ * ou perde participantes, e apenas a posição desse evento é corrigida. A listagem ordenada da tela inicial, e qualquer
+ * página dela, é servida sem ordenar o conjunto de eventos a cada atualização.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class OrdenacaoEventosService {
+    private static OrdenacaoEventosService instancia;
+
+    /**
+     * Critérios de ordenação da listagem de eventos. Empates são desfeitos pelo ID do evento.
+     */
+    public enum Ordenacao {
+        DATA_INICIO("Data de início"),
+        VAGAS_RESTANTES("Mais vagas"),
+        MAIS_RECENTES("Mais recentes");
+
+        private final String rotulo;
+
+        Ordenacao(String rotulo) {this.rotulo = rotulo;}
+
+        @Override
+        public String toString() {return rotulo;}
+    }
+
+    private final Map<Ordenacao, ListaSaltos<EventoModel>> listas = new EnumMap<>(Ordenacao.class);
+    private final Map<EventoModel, Chaves> chavesAtuais = new IdentityHashMap<>();
+
+    /**
+     * Quantidade máxima de eventos visitados a cada vez que o monitor é tomado durante a montagem de uma página.
+     */
+    private static final int LIMITE_VARREDURA = 512;
+
+    /**
+     * Chaves com que o evento foi inserido em cada lista, indexadas pelo ordinal da {@link Ordenacao}.
+     */
+    private record Chaves(int id, long[] valores) {}
+
+    private static final Logger sistemaDeLogger = LoggerFactory.getLogger(OrdenacaoEventosService.class);
+
+    private OrdenacaoEventosService() {
+        for (Ordenacao ordenacao : Ordenacao.values()) {
+            listas.put(ordenacao, new ListaSaltos<>());
+        }
+        sistemaDeLogger.info("Inicializado.");
+    }
+
+    /**
+     * Retorna a instância única de {@code OrdenacaoEventosService}, se ainda não existe, ela é criada e, em caso de
+     * falha, é exibida uma mensagem no console.
+     * @return a instância única de {@code OrdenacaoEventosService}.
+     */
+    public static synchronized OrdenacaoEventosService getInstancia() {
+        try {
+            if (instancia == null) {
+                instancia = new OrdenacaoEventosService();
+            }
+            return instancia;
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao retornar a instância."+e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Coloca o evento na posição correta de cada ordenação, removendo-o antes da posição anterior se ele já estava
+     * indexado. As chaves usadas na inserção (e o ID) ficam guardadas, já que os campos do evento podem mudar antes da
+     * remoção.
+     * @param evento o evento criado, restaurado ou alterado.
+     */
+    public synchronized void indexar(EventoModel evento) {
+        if (evento == null) {
+            return;
+        }
+        Chaves anteriores = chavesAtuais.get(evento);
+        long[] valores = new long[Ordenacao.values().length];
+        valores[Ordenacao.DATA_INICIO.ordinal()] = segundosDoInicio(evento);
+        valores[Ordenacao.VAGAS_RESTANTES.ordinal()] = -vagasRestantes(evento);
+        valores[Ordenacao.MAIS_RECENTES.ordinal()] = -maisRecente(evento);
+
+        for (Ordenacao ordenacao : Ordenacao.values()) {
+            ListaSaltos<EventoModel> lista = listas.get(ordenacao);
+            int i = ordenacao.ordinal();
+            if (anteriores != null) {
+                if (anteriores.valores()[i] == valores[i] && anteriores.id() == evento.getId()) {
+                    continue;
+                }
+                lista.remover(anteriores.valores()[i], anteriores.id());
+            }
+            lista.inserir(valores[i], evento.getId(), evento);
+        }
+        chavesAtuais.put(evento, new Chaves(evento.getId(), valores));
+    }
+
+    /**
+     * Entrega uma página da listagem ordenada a partir do cursor, percorrendo apenas os eventos posteriores a ele.
+     * O percurso é feito em trechos de até {@value #LIMITE_VARREDURA} eventos, cada um com o monitor tomado e
+     * retomado a partir da chave do último evento visitado, de forma que um filtro seletivo não prende o índice
+     * enquanto percorre a lista inteira. Cada trecho custa O(log n + {@value #LIMITE_VARREDURA}).
+     * @param ordenacao o critério de ordenação.
+     * @param cursor o cursor devolvido pela página anterior, ou {@code null} para a primeira página.
+     * @param tamanho a quantidade máxima de eventos na página.
+     * @param filtro o teste aplicado a cada evento percorrido.
+     * @return a página com os eventos aceitos pelo filtro e o cursor para a seguinte.
+     */
+    public PaginaEventosDto pagina(Ordenacao ordenacao, CursorEventosDto cursor, int tamanho,
+                                   Predicate<? super EventoModel> filtro) {
+        List<EventoModel> eventos = new ArrayList<>(tamanho);
+        CursorEventosDto posicao = cursor;
+        boolean temMais;
+        do {
+            ListaSaltos.Trecho<EventoModel> trecho;
+            synchronized (this) {
+                ListaSaltos<EventoModel> lista = listas.get(ordenacao);
+                int faltam = tamanho - eventos.size();
+                trecho = posicao == null
+                        ? lista.primeiros(faltam, LIMITE_VARREDURA, filtro)
+                        : lista.depoisDe(posicao.chave(), posicao.id(), faltam, LIMITE_VARREDURA, filtro);
+            }
+            eventos.addAll(trecho.elementos());
+            temMais = trecho.temMais();
+            if (temMais) {
+                posicao = new CursorEventosDto(ordenacao, trecho.ultimaPrimaria(), trecho.ultimoId());
+            }
+        } while (temMais && eventos.size() < tamanho);
+        return new PaginaEventosDto(eventos, temMais ? posicao : null);
+    }
+
+    /**
+     * Relê a listagem desde o início até o cursor informado, inclusive, para atualizar uma listagem já rolada sem
+     * voltar à primeira página. A leitura é feita em páginas de {@link #pagina}, então o monitor também é tomado em
+     * trechos.
+     * @param ordenacao o critério de ordenação.
+     * @param limite o cursor da última página carregada, ou {@code null} para reler a listagem inteira.
+     * @param filtro o teste aplicado a cada evento percorrido.
+     * @return os eventos aceitos pelo filtro com chave até o limite, na ordem da lista.
+     */
+    public List<EventoModel> ate(Ordenacao ordenacao, CursorEventosDto limite, Predicate<? super EventoModel> filtro) {
+        List<EventoModel> eventos = new ArrayList<>();
+        CursorEventosDto posicao = null;
+        do {
+            PaginaEventosDto lida = pagina(ordenacao, posicao, LIMITE_VARREDURA, filtro);
+            for (EventoModel evento : lida.eventos()) {
+                if (limite != null && depoisDe(chaveDe(ordenacao, evento), evento.getId(), limite)) {
+                    return eventos;
+                }
+                eventos.add(evento);
+            }
+            posicao = lida.proximo();
+        } while (posicao != null && (limite == null || !depoisDe(posicao.chave(), posicao.id(), limite)));
+        return eventos;
+    }
+
+    /**
+     * @return a chave atual do evento na ordenação, a mesma usada nas listas e nos cursores.
+     */
+    public synchronized long chaveDe(Ordenacao ordenacao, EventoModel evento) {
+        Chaves chaves = chavesAtuais.get(evento);
+        if (chaves != null) {
+            return chaves.valores()[ordenacao.ordinal()];
+        }
+        return switch (ordenacao) {
+            case DATA_INICIO -> segundosDoInicio(evento);
+            case VAGAS_RESTANTES -> -vagasRestantes(evento);
+            case MAIS_RECENTES -> -maisRecente(evento);
+        };
+    }
+
+    /**
+     * @param ordenacao o critério de ordenação.
+     * @param numero o número da página, a partir de 0.
+     * @param tamanho a quantidade de eventos por página.
+     * @return os eventos da página, sem filtro, em O(log n + tamanho).
+     */
+    public synchronized List<EventoModel> pagina(Ordenacao ordenacao, int numero, int tamanho) {
+        return listas.get(ordenacao).pagina(numero * tamanho, tamanho);
+    }
+
+    public synchronized int tamanho() {return chavesAtuais.size();}
+
+    private static boolean depoisDe(long chave, int id, CursorEventosDto cursor) {
+        return chave > cursor.chave() || (chave == cursor.chave() && id > cursor.id());
+    }
+
+    private static long segundosDoInicio(EventoModel evento) {
+        if (evento.getDataInicial() == null) {
+            return Long.MAX_VALUE;
+        }
+        LocalTime hora = evento.getHoraInicial() == null ? LocalTime.MIDNIGHT : evento.getHoraInicial();
+        return evento.getDataInicial().atTime(hora).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Os IDs de evento são alocados em ordem crescente e persistidos com o evento, então servem como ordem de criação
+     * estável entre execuções.
+     */
+    private static long maisRecente(EventoModel evento) {
+        return evento.getId();
+    }
+
+    private static long vagasRestantes(EventoModel evento) {
+        return Math.max(0, evento.getnParticipantes() - evento.getQuantidadeParticipantes());
+    }
+}
@@ -0,0 +1,967 @@
+package com.eventually.service;
+
+import com.eventually.model.*;
+import com.eventually.model.util.BitmapCompacto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Esta classe é um Singleton, garantindo que apenas uma instância de {@code PersistenciaService} exista em toda a aplicação.
+ * É responsável por tornar duráveis os usuários, eventos e comentários mantidos em memória pelos demais serviços.
+ * Cada criação ou alteração feita pelos serviços de cadastro, criação, edição, atualização e exclusão gera um
+ * registro com o estado completo da entidade alterada (comentários são gravados junto do evento), que é anexado ao
+ * {@link RegistroEscritaAntecipada}. Inscrições e cancelamentos geram apenas um registro de alteração
+ * {@code (evento, usuário, +/-)} de tamanho fixo, de modo que o custo de uma inscrição não cresce com o número de
+ * participantes; essas alterações são incorporadas aos registros completos do evento e do usuário no checkpoint.
+ * Entradas e saídas da lista de espera seguem o mesmo formato; as listas de espera são regravadas no checkpoint na
+ * ordem da fila, e uma inscrição retira o usuário da lista de espera do evento, como acontece na promoção.
+ * As janelas de inscrição por sorteio também geram registros de tamanho fixo (abertura, com a semente e o prazo, cada
+ * candidato e o sorteio); as janelas ainda abertas são regravadas no checkpoint e reabertas na restauração, de modo
+ * que os candidatos não se perdem e o sorteio pode ser refeito com a mesma semente.
+ * Periodicamente, o estado mais recente de cada entidade é gravado em um {@link SnapshotBinario} e o log é truncado;
+ * na inicialização, mapeia-se o snapshot e reaplica-se apenas o final do log.
+ * As fotos ficam no {@link ArmazemImagens} e os registros guardam apenas o hash de cada uma; referências antigas
+ * (blobs do snapshot ou URLs de origem) são migradas para o armazém na restauração.
+ * O diretório de dados padrão é {@code ~/.eventually}, podendo ser alterado pela propriedade {@code eventually.dados}.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.03
+ * @since 2026-10-18
+ */
+public final class PersistenciaService {
+    private static PersistenciaService instancia;
+
+    static final byte TIPO_USUARIO = 1;
+    static final byte TIPO_EVENTO = 2;
+    static final byte TIPO_INSCRICAO = 3;
+    static final byte TIPO_JANELA = 4;
+    static final byte TIPO_CANDIDATO = 5;
+    static final byte TIPO_ESPERA = 6;
+
+    private static final String ARQUIVO_LOG = "eventually.wal";
+    private static final String PREFIXO_BLOB = "blob:";
+    private static final int LIMITE_REGISTROS_CHECKPOINT = 10_000;
+
+    private final Path diretorio;
+    private RegistroEscritaAntecipada registro;
+    private final Map<Long, ByteBuffer> estadoAtual = new HashMap<>();
+    private final Map<Long, Boolean> inscricoesPendentes = new HashMap<>();
+    private final Map<Integer, JanelaGravada> janelasAbertas = new LinkedHashMap<>();
+    private final Map<Integer, LinkedHashSet<Integer>> listasDeEspera = new LinkedHashMap<>();
+    private Map<Integer, ByteBuffer> blobsAtuais = new HashMap<>();
+    private long geracaoAtual;
+    private int registrosDesdeCheckpoint;
+    private boolean restaurando;
+    private final AtomicBoolean falhaAlertada = new AtomicBoolean();
+
+    private AlertaService alertaService = new AlertaService();
+
+    private static final Logger sistemaDeLogger = LoggerFactory.getLogger(PersistenciaService.class);
+
+    /**
+     * Janela de inscrição por sorteio ainda não sorteada, com os IDs dos candidatos na ordem em que foram gravados.
+     */
+    private record JanelaGravada(long semente, long prazoEmMillis, LinkedHashSet<Integer> candidatos) {}
+
+    private PersistenciaService() {
+        this.diretorio = diretorioDeDados();
+        sistemaDeLogger.info("Inicializado com diretório de dados: " + diretorio);
+    }
+
+    /**
+     * @return o diretório de dados da aplicação: o valor da propriedade {@code eventually.dados} ou, se ausente,
+     * {@code ~/.eventually}.
+     */
+    static Path diretorioDeDados() {
+        String configurado = System.getProperty("eventually.dados");
+        return configurado != null
+                ? Paths.get(configurado)
+                : Paths.get(System.getProperty("user.home"), ".eventually");
+    }
+
+    /**
+     * Retorna a instância única de {@code PersistenciaService}, se ainda não existe, ela é criada e, em caso de
+     * falha, é exibida uma mensagem no console.
+     * @return a instância única de {@code PersistenciaService}.
+     */
+    public static synchronized PersistenciaService getInstancia() {
+        try {
+            if (instancia == null) {
+                instancia = new PersistenciaService();
+            }
+            return instancia;
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao retornar a instância."+e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Mapeia o snapshot mais recente, reaplica o final do log, reconstrói usuários, eventos e comentários nos serviços
+     * e abre o log para as próximas gravações. Deve ser chamado uma vez, antes de qualquer dado ser criado.
+     * @throws IllegalStateException se os dados salvos não puderem ser carregados ou o log não puder ser aberto; a
+     * aplicação não deve continuar, pois as alterações feitas a partir daí não seriam gravadas.
+     */
+    public void iniciar() {
+        sistemaDeLogger.info("Método iniciar() chamado.");
+        if (registro != null) {
+            return;
+        }
+        try {
+            long inicio = System.nanoTime();
+            Files.createDirectories(diretorio);
+            carregarSnapshot();
+            registro = new RegistroEscritaAntecipada(diretorio.resolve(ARQUIVO_LOG), this::aposGravarLote);
+            List<byte[]> finalDoLog = registro.getRegistrosExistentes();
+            for (byte[] dados : finalDoLog) {
+                aplicar(ByteBuffer.wrap(dados));
+            }
+            registrosDesdeCheckpoint = finalDoLog.size();
+            restaurarEntidades();
+            sistemaDeLogger.info("Recuperação concluída em {} ms: {} entidades, {} registros reaplicados do log.",
+                    (System.nanoTime() - inicio) / 1_000_000, estadoAtual.size(), finalDoLog.size());
+        } catch (IOException | RuntimeException e) {
+            sistemaDeLogger.error("Erro ao carregar os dados salvos: " + e.getMessage());
+            e.printStackTrace();
+            encerrar();
+            alertaService.alertarErro("Não foi possível carregar os dados salvos. A aplicação será encerrada para que "
+                    + "nenhuma alteração seja perdida.");
+            throw new IllegalStateException("Persistência indisponível: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Grava o estado atual do usuário no log. Chamado pelos serviços sempre que o usuário é criado ou alterado.
+     * @param usuario o usuário alterado.
+     */
+    public void registrarUsuario(UsuarioModel usuario) {
+        if (!podeRegistrar(usuario)) {
+            return;
+        }
+        try {
+            anexar(codificarUsuario(usuario), "usuário", usuario.getId());
+        } catch (IOException e) {
+            sistemaDeLogger.error("Erro ao registrar usuário no log: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Grava o estado atual do evento, incluindo participantes e comentários, no log. Chamado pelos serviços sempre
+     * que o evento é criado ou alterado.
+     * @param evento o evento alterado.
+     */
+    public void registrarEvento(EventoModel evento) {
+        if (!podeRegistrar(evento)) {
+            return;
+        }
+        try {
+            anexar(codificarEvento(evento), "evento", evento.getId());
+        } catch (IOException e) {
+            sistemaDeLogger.error("Erro ao registrar evento no log: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Grava no log apenas a inscrição ou o cancelamento, em um registro de tamanho fixo, em vez dos registros
+     * completos do evento e do usuário. Chamado pelo {@link ReservaVagasService} a cada alteração de inscrição.
+     * @param evento o evento.
+     * @param usuario o usuário inscrito ou removido.
+     * @param inscrito {@code true} se o usuário passou a participar do evento, {@code false} se deixou de participar.
+     */
+    public void registrarInscricao(EventoModel evento, UsuarioModel usuario, boolean inscrito) {
+        if (!podeRegistrar(evento) || usuario == null) {
+            return;
+        }
+        ByteBuffer dados = ByteBuffer.allocate(10);
+        dados.put(TIPO_INSCRICAO).putInt(evento.getId()).putInt(usuario.getId()).put((byte) (inscrito ? 1 : 0));
+        anexar(dados.array(), "inscrição no evento", evento.getId());
+    }
+
+    /**
+     * Grava no log a entrada ou a saída do usuário da lista de espera do evento, em um registro de tamanho fixo.
+     * Chamado pelo {@link ReservaVagasService} na ordem da fila; a saída por promoção não precisa ser gravada, já que
+     * a inscrição gravada em seguida retira o usuário da lista.
+     * @param evento o evento.
+     * @param usuario o usuário.
+     * @param esperando {@code true} se o usuário entrou no fim da lista de espera, {@code false} se saiu dela.
+     */
+    public void registrarListaDeEspera(EventoModel evento, UsuarioModel usuario, boolean esperando) {
+        if (!podeRegistrar(evento) || usuario == null) {
+            return;
+        }
+        ByteBuffer dados = ByteBuffer.allocate(10);
+        dados.put(TIPO_ESPERA).putInt(evento.getId()).putInt(usuario.getId()).put((byte) (esperando ? 1 : 0));
+        anexar(dados.array(), "lista de espera do evento", evento.getId());
+    }
+
+    /**
+     * Grava no log a abertura de uma janela de inscrição por sorteio. Chamado pelo {@link ReservaVagasService} antes
+     * que qualquer candidato possa ser gravado na janela.
+     * @param evento o evento.
+     * @param semente a semente do sorteio.
+     * @param prazo o prazo da janela.
+     */
+    public void registrarAberturaDeJanela(EventoModel evento, long semente, Instant prazo) {
+        if (!podeRegistrar(evento)) {
+            return;
+        }
+        ByteBuffer dados = ByteBuffer.allocate(22);
+        dados.put(TIPO_JANELA).putInt(evento.getId()).put((byte) 1).putLong(semente).putLong(prazo.toEpochMilli());
+        anexar(dados.array(), "abertura da janela do evento", evento.getId());
+    }
+
+    /**
+     * Grava no log um candidato anexado à janela de inscrição aberta no evento.
+     * @param evento o evento.
+     * @param usuario o candidato.
+     */
+    public void registrarCandidato(EventoModel evento, UsuarioModel usuario) {
+        if (!podeRegistrar(evento) || usuario == null) {
+            return;
+        }
+        ByteBuffer dados = ByteBuffer.allocate(9);
+        dados.put(TIPO_CANDIDATO).putInt(evento.getId()).putInt(usuario.getId());
+        anexar(dados.array(), "candidato na janela do evento", evento.getId());
+    }
+
+    /**
+     * Grava no log o encerramento da janela de inscrição do evento. Chamado depois de gravar as inscrições do
+     * sorteio, para que uma interrupção entre as duas gravações reabra a janela em vez de perder os candidatos.
+     * @param evento o evento.
+     */
+    public void registrarSorteio(EventoModel evento) {
+        if (!podeRegistrar(evento)) {
+            return;
+        }
+        ByteBuffer dados = ByteBuffer.allocate(22);
+        dados.put(TIPO_JANELA).putInt(evento.getId()).put((byte) 0);
+        anexar(dados.array(), "sorteio do evento", evento.getId());
+    }
+
+    /**
+     * Anexa o registro ao log e acompanha a confirmação do lote: uma gravação que falhar é registrada como erro e o
+     * usuário é alertado de que as últimas alterações podem não ter sido salvas, uma vez a cada sequência de falhas.
+     * @param descricao o que o registro grava, para a mensagem de erro.
+     * @param id o ID da entidade gravada, para a mensagem de erro.
+     */
+    private void anexar(byte[] dados, String descricao, int id) {
+        registro.anexar(dados).whenComplete((confirmado, erro) -> {
+            if (erro == null) {
+                falhaAlertada.set(false);
+                return;
+            }
+            sistemaDeLogger.error("Erro ao gravar " + descricao + " " + id + " no log: " + erro.getMessage());
+            if (falhaAlertada.compareAndSet(false, true)) {
+                alertaService.alertarErro("Não foi possível salvar as últimas alterações. Elas podem ser perdidas "
+                        + "quando a aplicação for fechada.");
+            }
+        });
+    }
+
+    /**
+     * Durante a restauração as entidades já vêm do log e não são gravadas de novo; fora dela, o log precisa estar
+     * aberto, e uma gravação antes de {@link #iniciar()} ou depois de {@link #encerrar()} é registrada como erro.
+     */
+    private boolean podeRegistrar(Object entidade) {
+        if (restaurando || entidade == null) {
+            return false;
+        }
+        if (registro == null) {
+            sistemaDeLogger.error("Alteração não gravada: o log de persistência não está aberto.");
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Grava os registros pendentes e fecha o log. Chamado no encerramento da aplicação.
+     */
+    public void encerrar() {
+        sistemaDeLogger.info("Método encerrar() chamado.");
+        if (registro == null) {
+            return;
+        }
+        try {
+            registro.close();
+        } catch (IOException e) {
+            sistemaDeLogger.error("Erro ao fechar o log: " + e.getMessage());
+            e.printStackTrace();
+        } finally {
+            registro = null;
+        }
+    }
+
+    /**
+     * Executado na thread escritora após cada lote confirmado: mantém o estado mais recente de cada entidade e, ao
+     * atingir o limite, grava um novo snapshot e trunca o log.
+     */
+    private void aposGravarLote(List<byte[]> lote) {
+        for (byte[] dados : lote) {
+            aplicar(ByteBuffer.wrap(dados));
+        }
+        registrosDesdeCheckpoint += lote.size();
+        if (registrosDesdeCheckpoint < LIMITE_REGISTROS_CHECKPOINT) {
+            return;
+        }
+        try {
+            gravarSnapshot();
+            registro.truncar();
+            registrosDesdeCheckpoint = 0;
+        } catch (IOException e) {
+            sistemaDeLogger.error("Erro ao gravar snapshot: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private void aplicar(ByteBuffer dados) {
+        int inicio = dados.position();
+        switch (dados.get(inicio)) {
+            case TIPO_INSCRICAO -> {
+                long par = ((long) dados.getInt(inicio + 1) << 32) | (dados.getInt(inicio + 5) & 0xFFFFFFFFL);
+                boolean inscrito = dados.get(inicio + 9) != 0;
+                inscricoesPendentes.put(par, inscrito);
+                if (inscrito) {
+                    sairDaListaDeEspera(dados.getInt(inicio + 1), dados.getInt(inicio + 5));
+                }
+            }
+            case TIPO_ESPERA -> {
+                int idEvento = dados.getInt(inicio + 1);
+                int idUsuario = dados.getInt(inicio + 5);
+                if (dados.get(inicio + 9) != 0) {
+                    // quem sai e volta entra no fim da fila
+                    LinkedHashSet<Integer> espera = listasDeEspera.computeIfAbsent(idEvento, id -> new LinkedHashSet<>());
+                    espera.remove(idUsuario);
+                    espera.add(idUsuario);
+                } else {
+                    sairDaListaDeEspera(idEvento, idUsuario);
+                }
+            }
+            case TIPO_JANELA -> {
+                int idEvento = dados.getInt(inicio + 1);
+                if (dados.get(inicio + 5) != 0) {
+                    janelasAbertas.put(idEvento, new JanelaGravada(dados.getLong(inicio + 6),
+                            dados.getLong(inicio + 14), new LinkedHashSet<>()));
+                } else {
+                    janelasAbertas.remove(idEvento);
+                }
+            }
+            case TIPO_CANDIDATO -> {
+                // um candidato gravado depois do sorteio já foi tratado por ele
+                JanelaGravada janela = janelasAbertas.get(dados.getInt(inicio + 1));
+                if (janela != null) {
+                    janela.candidatos().add(dados.getInt(inicio + 5));
+                }
+            }
+            default -> estadoAtual.put(chave(dados), dados);
+        }
+    }
+
+    private void sairDaListaDeEspera(int idEvento, int idUsuario) {
+        LinkedHashSet<Integer> espera = listasDeEspera.get(idEvento);
+        if (espera != null && espera.remove(idUsuario) && espera.isEmpty()) {
+            listasDeEspera.remove(idEvento);
+        }
+    }
+
+    private static long chave(ByteBuffer dados) {
+        int inicio = dados.position();
+        return ((long) dados.get(inicio) << 32) | (dados.getInt(inicio + 1) & 0xFFFFFFFFL);
+    }
+
+    private void carregarSnapshot() throws IOException {
+        SnapshotBinario snapshot = SnapshotBinario.abrirMaisRecente(diretorio);
+        if (snapshot == null) {
+            return;
+        }
+        usarSnapshot(snapshot);
+    }
+
+    private void usarSnapshot(SnapshotBinario snapshot) {
+        estadoAtual.clear();
+        inscricoesPendentes.clear();
+        janelasAbertas.clear();
+        listasDeEspera.clear();
+        for (ByteBuffer dados : snapshot.getRegistros()) {
+            aplicar(dados);
+        }
+        blobsAtuais = snapshot.getBlobs();
+        geracaoAtual = snapshot.getGeracao();
+    }
+
+    /**
+     * Grava o estado atual em um novo snapshot. Registros que ainda tenham referências de foto antigas são migrados
+     * para hashes do {@link ArmazemImagens}, de modo que o novo snapshot não precisa mais da região de blobs.
+     */
+    private void gravarSnapshot() throws IOException {
+        incorporarInscricoes();
+        List<ByteBuffer> registros = new ArrayList<>(estadoAtual.size());
+        for (ByteBuffer dados : estadoAtual.values()) {
+            registros.add(migrarFotos(dados));
+        }
+        registros.addAll(registrosDasListasDeEspera());
+        registros.addAll(registrosDasJanelas());
+        SnapshotBinario novo = SnapshotBinario.gravar(diretorio, geracaoAtual + 1, registros, Map.of());
+        usarSnapshot(novo);
+        sistemaDeLogger.info("Snapshot {} gravado com {} entidades.", geracaoAtual, estadoAtual.size());
+    }
+
+    /**
+     * Incorpora as inscrições e cancelamentos pendentes às listas de IDs dos registros completos dos eventos e dos
+     * usuários, que passam a ser o único lugar em que essas alterações estão guardadas.
+     */
+    private void incorporarInscricoes() {
+        if (inscricoesPendentes.isEmpty()) {
+            return;
+        }
+        Map<Integer, Map<Integer, Boolean>> porEvento = new HashMap<>();
+        Map<Integer, Map<Integer, Boolean>> porUsuario = new HashMap<>();
+        for (Map.Entry<Long, Boolean> inscricao : inscricoesPendentes.entrySet()) {
+            int idEvento = (int) (inscricao.getKey() >>> 32);
+            int idUsuario = inscricao.getKey().intValue();
+            porEvento.computeIfAbsent(idEvento, id -> new HashMap<>()).put(idUsuario, inscricao.getValue());
+            porUsuario.computeIfAbsent(idUsuario, id -> new HashMap<>()).put(idEvento, inscricao.getValue());
+        }
+        porEvento.forEach((id, alteracoes) -> estadoAtual.computeIfPresent(((long) TIPO_EVENTO << 32) | id,
+                (chave, dados) -> comIdsAlterados(dados, alteracoes)));
+        porUsuario.forEach((id, alteracoes) -> estadoAtual.computeIfPresent(((long) TIPO_USUARIO << 32) | id,
+                (chave, dados) -> comIdsAlterados(dados, alteracoes)));
+        inscricoesPendentes.clear();
+    }
+
+    /**
+     * Regrava as listas de espera dos eventos existentes como registros de entrada, na ordem da fila, para que sejam
+     * reaplicadas a partir do snapshot.
+     */
+    private List<ByteBuffer> registrosDasListasDeEspera() {
+        List<ByteBuffer> registros = new ArrayList<>();
+        listasDeEspera.forEach((idEvento, espera) -> {
+            if (!estadoAtual.containsKey(((long) TIPO_EVENTO << 32) | idEvento)) {
+                return;
+            }
+            for (int idUsuario : espera) {
+                ByteBuffer entrada = ByteBuffer.allocate(10);
+                entrada.put(TIPO_ESPERA).putInt(idEvento).putInt(idUsuario).put((byte) 1).flip();
+                registros.add(entrada);
+            }
+        });
+        return registros;
+    }
+
+    /**
+     * Regrava as janelas de inscrição abertas como os mesmos registros de abertura e de candidato do log, na ordem em
+     * que foram gravados, para que sejam reaplicadas a partir do snapshot.
+     */
+    private List<ByteBuffer> registrosDasJanelas() {
+        List<ByteBuffer> registros = new ArrayList<>();
+        janelasAbertas.forEach((idEvento, janela) -> {
+            ByteBuffer abertura = ByteBuffer.allocate(22);
+            abertura.put(TIPO_JANELA).putInt(idEvento).put((byte) 1).putLong(janela.semente())
+                    .putLong(janela.prazoEmMillis()).flip();
+            registros.add(abertura);
+            for (int idUsuario : janela.candidatos()) {
+                ByteBuffer candidato = ByteBuffer.allocate(9);
+                candidato.put(TIPO_CANDIDATO).putInt(idEvento).putInt(idUsuario).flip();
+                registros.add(candidato);
+            }
+        });
+        return registros;
+    }
+
+    /**
+     * Reescreve a lista de IDs do registro (participantes de um evento ou inscrições de um usuário), aplicando as
+     * alterações; o restante do registro é copiado sem ser decodificado.
+     */
+    private static ByteBuffer comIdsAlterados(ByteBuffer dados, Map<Integer, Boolean> alteracoes) {
+        ByteBuffer leitura = dados.duplicate();
+        byte tipo = leitura.get();
+        leitura.getInt();
+        lerReferencias(leitura);
+        if (tipo == TIPO_EVENTO) {
+            pularCamposEvento(leitura);
+        } else {
+            pularCamposUsuario(leitura);
+        }
+        int inicioIds = leitura.position();
+        int[] antigos = lerIds(leitura);
+        BitmapCompacto ids = new BitmapCompacto();
+        for (int id : antigos) {
+            ids.adicionar(id);
+        }
+        alteracoes.forEach((id, presente) -> {
+            if (presente) {
+                ids.adicionar(id);
+            } else {
+                ids.remover(id);
+            }
+        });
+        int[] novos = ids.paraArray();
+
+        ByteBuffer reescrito = ByteBuffer.allocate(dados.remaining() + 4 * (novos.length - antigos.length));
+        ByteBuffer prefixo = dados.duplicate();
+        prefixo.limit(inicioIds);
+        reescrito.put(prefixo);
+        reescrito.putInt(novos.length);
+        for (int id : novos) {
+            reescrito.putInt(id);
+        }
+        reescrito.put(leitura);
+        reescrito.flip();
+        return reescrito;
+    }
+
+    /**
+     * Reescreve as referências de foto do início do registro, trocando referências antigas por hashes.
+     * @return o próprio registro, se nada mudou, ou uma cópia com as novas referências.
+     */
+    private ByteBuffer migrarFotos(ByteBuffer dados) throws IOException {
+        ByteBuffer leitura = dados.duplicate();
+        byte tipo = leitura.get();
+        int id = leitura.getInt();
+        String[] referencias = new String[leitura.getInt()];
+        boolean alterado = false;
+        for (int i = 0; i < referencias.length; i++) {
+            String original = lerTexto(leitura);
+            referencias[i] = hashDa(original);
+            alterado |= !Objects.equals(original, referencias[i]);
+        }
+        if (!alterado) {
+            return dados;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(dados.remaining() + 64);
+        DataOutputStream saida = new DataOutputStream(bytes);
+        saida.writeByte(tipo);
+        saida.writeInt(id);
+        escreverReferencias(saida, referencias);
+        byte[] restante = new byte[leitura.remaining()];
+        leitura.get(restante);
+        saida.write(restante);
+        return ByteBuffer.wrap(bytes.toByteArray());
+    }
+
+    /**
+     * Reconstrói o grafo de objetos a partir dos registros: primeiro os usuários, depois os eventos (que referenciam
+     * usuários por ID), em seguida as inscrições ainda não incorporadas e, por fim, as listas de eventos de cada
+     * usuário. Com os eventos já publicados, as listas de espera são refeitas e as janelas de inscrição abertas são
+     * reabertas.
+     */
+    private void restaurarEntidades() {
+        if (estadoAtual.isEmpty()) {
+            return;
+        }
+        Map<Integer, UsuarioModel> usuarios = new HashMap<>(estadoAtual.size() * 2);
+        Map<Integer, EventoModel> eventos = new HashMap<>(estadoAtual.size() * 2);
+        restaurando = true;
+        try {
+            Map<UsuarioModel, int[]> inscricoes = new HashMap<>();
+            for (ByteBuffer dados : estadoAtual.values()) {
+                if (dados.get(dados.position()) == TIPO_USUARIO) {
+                    ByteBuffer entrada = dados.duplicate();
+                    entrada.get();
+                    UsuarioModel usuario = decodificarUsuario(entrada);
+                    usuarios.put(usuario.getId(), usuario);
+                    inscricoes.put(usuario, lerIds(entrada));
+                }
+            }
+
+            for (ByteBuffer dados : estadoAtual.values()) {
+                if (dados.get(dados.position()) == TIPO_EVENTO) {
+                    ByteBuffer entrada = dados.duplicate();
+                    entrada.get();
+                    EventoModel evento = decodificarEvento(entrada, usuarios);
+                    eventos.put(evento.getId(), evento);
+                }
+            }
+
+            for (Map.Entry<UsuarioModel, int[]> inscricao : inscricoes.entrySet()) {
+                for (int idEvento : inscricao.getValue()) {
+                    if (eventos.containsKey(idEvento)) {
+                        inscricao.getKey().adicionarInscricao(idEvento);
+                    }
+                }
+            }
+            for (Map.Entry<Long, Boolean> inscricao : inscricoesPendentes.entrySet()) {
+                int idEvento = (int) (inscricao.getKey() >>> 32);
+                int idUsuario = inscricao.getKey().intValue();
+                EventoModel evento = eventos.get(idEvento);
+                UsuarioModel usuario = usuarios.get(idUsuario);
+                if (evento == null || usuario == null) {
+                    continue;
+                }
+                if (inscricao.getValue()) {
+                    evento.adicionarParticipante(idUsuario);
+                    usuario.adicionarInscricao(idEvento);
+                } else {
+                    evento.removerParticipante(idUsuario);
+                    usuario.removerInscricao(idEvento);
+                }
+            }
+            for (EventoModel evento : eventos.values()) {
+                if (evento.getOrganizador() != null) {
+                    evento.getOrganizador().adicionarEventoOrganizado(evento.getId());
+                }
+            }
+
+            UsuarioCadastroService usuarioCadastroService = UsuarioCadastroService.getInstancia();
+            for (UsuarioModel usuario : usuarios.values()) {
+                usuarioCadastroService.restaurarUsuario(usuario);
+            }
+            EventoCriacaoService eventoCriacaoService = EventoCriacaoService.getInstancia();
+            for (EventoModel evento : eventos.values()) {
+                eventoCriacaoService.restaurarEvento(evento);
+            }
+            sistemaDeLogger.info("Dados restaurados: {} usuários e {} eventos.", usuarios.size(), eventos.size());
+        } finally {
+            restaurando = false;
+        }
+        restaurarListasDeEspera(eventos, usuarios);
+        restaurarJanelas(eventos, usuarios);
+    }
+
+    /**
+     * Refaz no {@link ReservaVagasService} as listas de espera, na ordem da fila.
+     */
+    private void restaurarListasDeEspera(Map<Integer, EventoModel> eventos, Map<Integer, UsuarioModel> usuarios) {
+        if (listasDeEspera.isEmpty()) {
+            return;
+        }
+        ReservaVagasService reservaVagasService = ReservaVagasService.getInstancia();
+        listasDeEspera.forEach((idEvento, espera) -> {
+            EventoModel evento = eventos.get(idEvento);
+            if (evento == null) {
+                return;
+            }
+            List<UsuarioModel> esperando = new ArrayList<>(espera.size());
+            for (int idUsuario : espera) {
+                UsuarioModel usuario = usuarios.get(idUsuario);
+                if (usuario != null) {
+                    esperando.add(usuario);
+                }
+            }
+            reservaVagasService.restaurarListaDeEspera(evento, esperando);
+        });
+    }
+
+    /**
+     * Reabre no {@link ReservaVagasService} as janelas de inscrição que não foram sorteadas, com os candidatos
+     * gravados.
+     */
+    private void restaurarJanelas(Map<Integer, EventoModel> eventos, Map<Integer, UsuarioModel> usuarios) {
+        if (janelasAbertas.isEmpty()) {
+            return;
+        }
+        ReservaVagasService reservaVagasService = ReservaVagasService.getInstancia();
+        janelasAbertas.forEach((idEvento, janela) -> {
+            EventoModel evento = eventos.get(idEvento);
+            if (evento == null) {
+                return;
+            }
+            List<UsuarioModel> candidatos = new ArrayList<>(janela.candidatos().size());
+            for (int idUsuario : janela.candidatos()) {
+                UsuarioModel usuario = usuarios.get(idUsuario);
+                if (usuario != null) {
+                    candidatos.add(usuario);
+                }
+            }
+            reservaVagasService.restaurarJanela(evento, janela.semente(), Instant.ofEpochMilli(janela.prazoEmMillis()),
+                    candidatos);
+        });
+        sistemaDeLogger.info("{} janelas de inscrição por sorteio reabertas.", janelasAbertas.size());
+    }
+
+    /*
+     * Formato dos registros: [tipo][id][quantidade de fotos][referências de foto][campos da entidade].
+     * As referências de foto ficam no início para que o snapshot possa trocá-las sem conhecer o restante do registro.
+     * Registros de inscrição têm tamanho fixo: [tipo][id do evento][id do usuário][1 = inscrito, 0 = removido].
+     * Registros de janela também: [tipo][id do evento][1 = aberta, 0 = sorteada][semente][prazo em ms desde a época]
+     * e, para cada candidato, [tipo][id do evento][id do usuário]. Os de lista de espera seguem o formato dos de
+     * inscrição, com 1 = entrou e 0 = saiu.
+     */
+
+    private static void pularCamposUsuario(ByteBuffer entrada) {
+        for (int i = 0; i < 4; i++) {
+            lerTexto(entrada);
+        }
+        entrada.getLong();
+        entrada.getInt();
+        entrada.get();
+    }
+
+    private static void pularCamposEvento(ByteBuffer entrada) {
+        entrada.getInt();
+        lerTexto(entrada);
+        lerTexto(entrada);
+        entrada.getInt();
+        lerTexto(entrada);
+        lerTexto(entrada);
+        entrada.getInt();
+        for (int i = 0; i < 4; i++) {
+            entrada.getLong();
+        }
+        entrada.getInt();
+        entrada.get();
+        entrada.get();
+    }
+
+    private byte[] codificarUsuario(UsuarioModel usuario) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        DataOutputStream saida = new DataOutputStream(bytes);
+        saida.writeByte(TIPO_USUARIO);
+        saida.writeInt(usuario.getId());
+        escreverReferencias(saida, new String[] {usuario.getHashFoto()});
+        escreverTexto(saida, usuario.getNome());
+        escreverTexto(saida, usuario.getEmail());
+        escreverTexto(saida, usuario.getSenha());
+        escreverTexto(saida, usuario.getCidade());
+        escreverData(saida, usuario.getDataNascimento());
+        saida.writeInt(mascaraDe(usuario.getComunidades()));
+        saida.writeBoolean(usuario.isEstado());
+        int[] inscritos = usuario.getIdsEventosInscrito();
+        saida.writeInt(inscritos.length);
+        for (int idEvento : inscritos) {
+            saida.writeInt(idEvento);
+        }
+        return bytes.toByteArray();
+    }
+
+    private UsuarioModel decodificarUsuario(ByteBuffer entrada) {
+        int id = entrada.getInt();
+        String[] fotos = lerReferencias(entrada);
+        String nome = lerTexto(entrada);
+        String email = lerTexto(entrada);
+        String senha = lerTexto(entrada);
+        String cidade = lerTexto(entrada);
+        LocalDate dataNascimento = lerData(entrada);
+        Set<Comunidade> comunidades = comunidadesDa(entrada.getInt());
+        boolean estado = entrada.get() != 0;
+
+        UsuarioModel usuario = new UsuarioModel(nome, email, senha, cidade, dataNascimento, hashDa(fotos[0]),
+                comunidades, estado);
+        usuario.setId(id);
+        usuario.setEstado(estado);
+        return usuario;
+    }
+
+    private byte[] codificarEvento(EventoModel evento) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        DataOutputStream saida = new DataOutputStream(bytes);
+        saida.writeByte(TIPO_EVENTO);
+        saida.writeInt(evento.getId());
+
+        List<ComentarioModel> comentarios = evento.getComentarios() == null ? List.of() : evento.getComentarios();
+        String[] fotos = new String[1 + comentarios.size()];
+        fotos[0] = evento.getHashFoto();
+        for (int i = 0; i < comentarios.size(); i++) {
+            fotos[i + 1] = comentarios.get(i).getHashFotoAnexada();
+        }
+        escreverReferencias(saida, fotos);
+
+        saida.writeInt(evento.getOrganizador() == null ? -1 : evento.getOrganizador().getId());
+        escreverTexto(saida, evento.getNome());
+        escreverTexto(saida, evento.getDescricao());
+        saida.writeInt(evento.getFormato() == null ? -1 : evento.getFormato().ordinal());
+        escreverTexto(saida, evento.getLinkAcesso());
+        escreverTexto(saida, evento.getLocalizacao());
+        saida.writeInt(evento.getnParticipantes());
+        escreverData(saida, evento.getDataInicial());
+        escreverHora(saida, evento.getHoraInicial());
+        escreverData(saida, evento.getDataFinal());
+        escreverHora(saida, evento.getHoraFinal());
+        saida.writeInt(mascaraDe(evento.getComunidades()));
+        saida.writeBoolean(evento.isEstado());
+        saida.writeBoolean(evento.isFinalizado());
+
+        int[] participantes = evento.getIdsParticipantes();
+        saida.writeInt(participantes.length);
+        for (int idParticipante : participantes) {
+            saida.writeInt(idParticipante);
+        }
+
+        saida.writeInt(comentarios.size());
+        for (ComentarioModel comentario : comentarios) {
+            escreverTexto(saida, comentario.getTexto());
+            saida.writeInt(comentario.getAutor() == null ? -1 : comentario.getAutor().getId());
+            escreverData(saida, comentario.getDataHora().toLocalDate());
+            escreverHora(saida, comentario.getDataHora().toLocalTime());
+            Set<UsuarioModel> curtidas = comentario.getUsuariosQueCurtiram();
+            saida.writeInt(curtidas.size());
+            for (UsuarioModel usuario : curtidas) {
+                saida.writeInt(usuario.getId());
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private EventoModel decodificarEvento(ByteBuffer entrada, Map<Integer, UsuarioModel> usuarios) {
+        int id = entrada.getInt();
+        String[] fotos = lerReferencias(entrada);
+        UsuarioModel organizador = usuarios.get(entrada.getInt());
+        String nome = lerTexto(entrada);
+        String descricao = lerTexto(entrada);
+        int formato = entrada.getInt();
+        String link = lerTexto(entrada);
+        String localizacao = lerTexto(entrada);
+        int capacidade = entrada.getInt();
+        LocalDate dataInicial = lerData(entrada);
+        LocalTime horaInicial = lerHora(entrada);
+        LocalDate dataFinal = lerData(entrada);
+        LocalTime horaFinal = lerHora(entrada);
+        Set<Comunidade> comunidades = comunidadesDa(entrada.getInt());
+        boolean estado = entrada.get() != 0;
+        boolean finalizado = entrada.get() != 0;
+
+        int[] participantes = lerIds(entrada);
+
+        EventoModel evento = new EventoModel(organizador, nome, descricao,
+                formato < 0 ? null : FormatoSelecionado.values()[formato], link, localizacao, hashDa(fotos[0]), capacidade,
+                dataInicial, horaInicial, dataFinal, horaFinal, comunidades, estado, finalizado,
+                new ArrayList<>());
+        evento.setId(id);
+        for (int idParticipante : participantes) {
+            if (usuarios.containsKey(idParticipante)) {
+                evento.adicionarParticipante(idParticipante);
+            }
+        }
+        evento.setEstado(estado);
+        evento.setFinalizado(finalizado);
+
+        int totalComentarios = entrada.getInt();
+        for (int i = 0; i < totalComentarios; i++) {
+            String texto = lerTexto(entrada);
+            UsuarioModel autor = usuarios.get(entrada.getInt());
+            LocalDate data = lerData(entrada);
+            LocalTime hora = lerHora(entrada);
+            ComentarioModel comentario = new ComentarioModel(texto, autor, evento, hashDa(fotos[i + 1]),
+                    LocalDateTime.of(data, hora));
+            for (int idUsuario : lerIds(entrada)) {
+                UsuarioModel usuario = usuarios.get(idUsuario);
+                if (usuario != null) {
+                    comentario.curtir(usuario);
+                }
+            }
+            evento.adicionarComentario(comentario);
+        }
+        return evento;
+    }
+
+    /**
+     * Converte uma referência de foto gravada em hash do {@link ArmazemImagens}. Registros atuais já guardam o hash;
+     * registros antigos podem trazer {@code blob:N} (foto na região de blobs do snapshot) ou a URL de origem, e essas
+     * fotos são copiadas para o armazém.
+     * @return o hash da foto, ou {@code null} se não houver foto ou ela não puder ser recuperada.
+     */
+    private String hashDa(String referencia) {
+        if (referencia == null || ArmazemImagens.ehHash(referencia)) {
+            return referencia;
+        }
+        ArmazemImagens armazem = ArmazemImagens.getInstancia();
+        if (referencia.startsWith(PREFIXO_BLOB)) {
+            ByteBuffer blob = blobsAtuais.get(Integer.parseInt(referencia.substring(PREFIXO_BLOB.length())));
+            if (blob == null) {
+                return null;
+            }
+            byte[] bytes = new byte[blob.remaining()];
+            blob.duplicate().get(bytes);
+            try {
+                return armazem.guardar(bytes);
+            } catch (IOException e) {
+                sistemaDeLogger.warn("Foto '{}' não pôde ser copiada para o armazém: {}", referencia, e.getMessage());
+                return null;
+            }
+        }
+        return armazem.importar(referencia);
+    }
+
+    private static void escreverReferencias(DataOutputStream saida, String[] referencias) throws IOException {
+        saida.writeInt(referencias.length);
+        for (String referencia : referencias) {
+            escreverTexto(saida, referencia);
+        }
+    }
+
+    private static String[] lerReferencias(ByteBuffer entrada) {
+        String[] referencias = new String[entrada.getInt()];
+        for (int i = 0; i < referencias.length; i++) {
+            referencias[i] = lerTexto(entrada);
+        }
+        return referencias;
+    }
+
+    private static void escreverTexto(DataOutputStream saida, String texto) throws IOException {
+        if (texto == null) {
+            saida.writeInt(-1);
+            return;
+        }
+        byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+        saida.writeInt(bytes.length);
+        saida.write(bytes);
+    }
+
+    private static String lerTexto(ByteBuffer entrada) {
+        int tamanho = entrada.getInt();
+        if (tamanho < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[tamanho];
+        entrada.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void escreverData(DataOutputStream saida, LocalDate data) throws IOException {
+        saida.writeLong(data == null ? Long.MIN_VALUE : data.toEpochDay());
+    }
+
+    private static LocalDate lerData(ByteBuffer entrada) {
+        long dia = entrada.getLong();
+        return dia == Long.MIN_VALUE ? null : LocalDate.ofEpochDay(dia);
+    }
+
+    private static void escreverHora(DataOutputStream saida, LocalTime hora) throws IOException {
+        saida.writeLong(hora == null ? -1L : hora.toNanoOfDay());
+    }
+
+    private static LocalTime lerHora(ByteBuffer entrada) {
+        long nanos = entrada.getLong();
+        return nanos < 0 ? null : LocalTime.ofNanoOfDay(nanos);
+    }
+
+    private static int[] lerIds(ByteBuffer entrada) {
+        int[] ids = new int[entrada.getInt()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = entrada.getInt();
+        }
+        return ids;
+    }
+
+    private static int mascaraDe(Set<Comunidade> comunidades) {
+        int mascara = 0;
+        if (comunidades != null) {
+            for (Comunidade comunidade : comunidades) {
+                mascara |= 1 << comunidade.ordinal();
+            }
+        }
+        return mascara;
+    }
+
+    private static Set<Comunidade> comunidadesDa(int mascara) {
+        Set<Comunidade> comunidades = EnumSet.noneOf(Comunidade.class);
+        for (Comunidade comunidade : Comunidade.values()) {
+            if ((mascara & (1 << comunidade.ordinal())) != 0) {
+                comunidades.add(comunidade);
+            }
+        }
+        return comunidades;
+    }
+}
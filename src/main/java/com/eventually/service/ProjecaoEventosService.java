@@ -0,0 +1,129 @@
+package com.eventually.service;
+
+import com.eventually.model.EventoModel;
+import com.eventually.model.FormatoSelecionado;
+import com.eventually.view.HomeView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Esta classe é um Singleton, garantindo que apenas uma instância de {@code ProjecaoEventosService} exista em toda a
+ * aplicação.
+ * Converte um {@link EventoModel} no registro {@link HomeView.EventoH} exibido pelas telas e guarda a projeção, que é
+ * imutável, para que recarregar uma listagem reutilize as projeções já montadas em vez de formatar datas e percorrer
+ * as comunidades de novo.
+ * Cada projeção é guardada com a versão do evento no momento em que foi montada. A versão é incrementada quando o
+ * {@link BarramentoEventos} publica uma mudança no evento (edição, inscrição, cancelamento ou exclusão), o que descarta a
+ * projeção antiga; uma projeção montada em segundo plano a partir de uma versão já superada não substitui a atual.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ProjecaoEventosService {
+    private static ProjecaoEventosService instancia;
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("EEE dd, MMM uuuu", new Locale("pt", "BR"));
+
+    private final Map<Integer, Long> versoes = new ConcurrentHashMap<>();
+    private final Map<Integer, Projecao> projecoes = new ConcurrentHashMap<>();
+
+    private record Projecao(long versao, HomeView.EventoH evento) {}
+
+    private static final Logger sistemaDeLogger = LoggerFactory.getLogger(ProjecaoEventosService.class);
+
+    private ProjecaoEventosService() {
+        BarramentoEventos barramento = BarramentoEventos.getInstancia();
+        barramento.assinar(EventoDominio.EventoEditado.class, mudanca -> invalidar(mudanca.idEvento()));
+        barramento.assinar(EventoDominio.EstadoEventoAlterado.class, mudanca -> invalidar(mudanca.idEvento()));
+        barramento.assinar(EventoDominio.ParticipanteAdicionado.class, mudanca -> invalidar(mudanca.idEvento()));
+        barramento.assinar(EventoDominio.ParticipanteRemovido.class, mudanca -> invalidar(mudanca.idEvento()));
+        sistemaDeLogger.info("Inicializado.");
+    }
+
+    /**
+     * Retorna a instância única de {@code ProjecaoEventosService}, se ainda não existe, ela é criada e, em caso de
+     * falha, é exibida uma mensagem no console.
+     * @return a instância única de {@code ProjecaoEventosService}.
+     */
+    public static synchronized ProjecaoEventosService getInstancia() {
+        try {
+            if (instancia == null) {
+                instancia = new ProjecaoEventosService();
+            }
+            return instancia;
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao retornar a instância."+e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Devolve a projeção do evento, montando-a apenas se não houver uma da versão atual. Pode ser chamado fora da
+     * thread do JavaFX.
+     * @param model o evento.
+     * @return o registro pronto para a view.
+     */
+    public HomeView.EventoH projetar(EventoModel model) {
+        int id = model.getId();
+        long versao = versoes.getOrDefault(id, 0L);
+        Projecao guardada = projecoes.get(id);
+        if (guardada != null && guardada.versao() == versao) {
+            return guardada.evento();
+        }
+        HomeView.EventoH evento = montar(model);
+        projecoes.merge(id, new Projecao(versao, evento),
+                (atual, nova) -> atual.versao() >= nova.versao() ? atual : nova);
+        return evento;
+    }
+
+    /**
+     * Descarta a projeção do evento; a próxima chamada a {@link #projetar(EventoModel)} monta uma nova.
+     * @param idEvento o ID do evento alterado.
+     */
+    public void invalidar(int idEvento) {
+        versoes.merge(idEvento, 1L, Long::sum);
+        projecoes.remove(idEvento);
+    }
+
+    private static HomeView.EventoH montar(EventoModel model) {
+        String local = model.getFormato() == FormatoSelecionado.ONLINE ? "Evento Online" : model.getLocalizacao();
+        String dataHora1 = String.format("%s - %s", model.getDataInicial().format(FORMATO_DATA).toUpperCase(), model.getHoraInicial());
+        String dataHora2 = String.format("%s - %s", model.getDataFinal().format(FORMATO_DATA).toUpperCase(), model.getHoraFinal());
+
+        String formatoStr = model.getFormato().toString();
+        formatoStr = formatoStr.substring(0, 1).toUpperCase() + formatoStr.substring(1).toLowerCase();
+
+        Set<String> preferencias = model.getComunidades().stream()
+                .map(Enum::toString)
+                .collect(Collectors.toUnmodifiableSet());
+        String categoria = preferencias.stream().findFirst().orElse("Geral");
+
+        return new HomeView.EventoH(
+                model.getId(),
+                model.getNome(),
+                local,
+                dataHora1,
+                dataHora2,
+                categoria,
+                model.getHashFoto(),
+                model.getDescricao(),
+                model.getQuantidadeParticipantes(),
+                model.getnParticipantes(),
+                formatoStr,
+                preferencias,
+                model.getLinkAcesso(),
+                model.getDataInicial(),
+                model.getDataFinal(),
+                String.valueOf(model.getHoraInicial()),
+                String.valueOf(model.getHoraFinal())
+        );
+    }
+}
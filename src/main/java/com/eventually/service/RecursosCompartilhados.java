@@ -0,0 +1,116 @@
+package com.eventually.service;
+
+import javafx.scene.image.Image;
+import javafx.scene.text.Font;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Esta classe é um Singleton, garantindo que apenas uma instância de {@code RecursosCompartilhados} exista em toda a
+ * aplicação.
+ * Registro imutável dos recursos visuais fixos da aplicação (ícones, logo, imagens padrão e fontes), carregados uma única
+ * vez na inicialização. Telas, modais e alertas recebem sempre a mesma instância de cada {@link Image}, em vez de
+ * decodificar o arquivo a cada abertura.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class RecursosCompartilhados {
+    private static RecursosCompartilhados instancia;
+
+    /**
+     * Imagens fixas carregadas na resolução original.
+     */
+    public enum Imagem {
+        ICONE_APP("/images/app-icon.png"),
+        ICONE_AVISO("/images/aviso-icone.png"),
+        ICONE_SUCESSO("/images/sucesso-icone.png"),
+        ICONE_ERRO("/images/alerta-icone.png"),
+        ICONE_INFO("/images/info-icon.png"),
+        ICONE_UPLOAD("/images/upload-icon.png"),
+        CADEADO("/images/cadeado.png"),
+        LOGO("/images/eventually-logo.png"),
+        FUNDO("/images/crowd-background.jpg");
+
+        private final String caminho;
+
+        Imagem(String caminho) {this.caminho = caminho;}
+    }
+
+    private static final String FOTO_PADRAO_EVENTO = "/images/evento-padrao.jpg";
+    private static final String FOTO_PADRAO_USUARIO = "/images/icone-padrao-usuario.png";
+    private static final String[] FONTES = {"/fonts/Poppins-Regular.ttf", "/fonts/Poppins-Bold.ttf"};
+
+    private final Map<Imagem, Image> imagens;
+    private final Image fotoPadraoEvento;
+    private final Image avatarPadrao;
+    private final Image avatarPadraoPerfil;
+
+    private static final Logger sistemaDeLogger = LoggerFactory.getLogger(RecursosCompartilhados.class);
+
+    private RecursosCompartilhados() {
+        long inicio = System.nanoTime();
+        Map<Imagem, Image> carregadas = new EnumMap<>(Imagem.class);
+        for (Imagem imagem : Imagem.values()) {
+            carregadas.put(imagem, new Image(url(imagem.caminho)));
+        }
+        this.imagens = Collections.unmodifiableMap(carregadas);
+        this.fotoPadraoEvento = new Image(url(FOTO_PADRAO_EVENTO),
+                ArmazemImagens.LARGURA_CAPA, 0, true, true);
+        this.avatarPadrao = new Image(url(FOTO_PADRAO_USUARIO),
+                ArmazemImagens.TAMANHO_AVATAR, ArmazemImagens.TAMANHO_AVATAR, true, true);
+        this.avatarPadraoPerfil = new Image(url(FOTO_PADRAO_USUARIO),
+                ArmazemImagens.TAMANHO_AVATAR_PERFIL, ArmazemImagens.TAMANHO_AVATAR_PERFIL, true, true);
+        for (String fonte : FONTES) {
+            if (Font.loadFont(url(fonte), 10) == null) {
+                sistemaDeLogger.warn("Fonte {} não encontrada. Usando fontes padrão.", fonte);
+            }
+        }
+        sistemaDeLogger.info("Recursos compartilhados carregados em {} ms.", (System.nanoTime() - inicio) / 1_000_000);
+    }
+
+    /**
+     * Retorna a instância única de {@code RecursosCompartilhados}, se ainda não existe, ela é criada (carregando todos
+     * os recursos) e, em caso de falha, é exibida uma mensagem no console.
+     * @return a instância única de {@code RecursosCompartilhados}.
+     */
+    public static synchronized RecursosCompartilhados getInstancia() {
+        try {
+            if (instancia == null) {
+                instancia = new RecursosCompartilhados();
+            }
+            return instancia;
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao retornar a instância."+e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * @param imagem o recurso desejado.
+     * @return a instância compartilhada da imagem.
+     */
+    public Image getImagem(Imagem imagem) {return imagens.get(imagem);}
+
+    /**
+     * @return a capa padrão de evento, no tamanho de exibição das capas.
+     */
+    public Image getFotoPadraoEvento() {return fotoPadraoEvento;}
+
+    /**
+     * @param tamanho o lado, em pixels, do quadrado em que o avatar é exibido.
+     * @return o avatar padrão de usuário decodificado no menor tamanho pré-carregado que cobre o pedido.
+     */
+    public Image getAvatarPadrao(double tamanho) {
+        return tamanho <= ArmazemImagens.TAMANHO_AVATAR ? avatarPadrao : avatarPadraoPerfil;
+    }
+
+    private static String url(String caminho) {
+        return RecursosCompartilhados.class.getResource(caminho).toExternalForm();
+    }
+}
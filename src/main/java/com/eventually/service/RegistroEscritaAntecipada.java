@@ -0,0 +1,230 @@
+package com.eventually.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Log de escrita antecipada (append-only) usado pelo {@link PersistenciaService}.
+ * Cada registro é gravado como um quadro {@code [tamanho][crc32][dados]}; uma única thread escritora agrupa os
+ * registros que chegam enquanto o disco está ocupado e confirma o lote inteiro com um só {@code force}, de modo que
+ * muitas gravações simultâneas custam praticamente o mesmo que uma (commit em grupo).
+ * Na abertura, um final de arquivo incompleto ou corrompido (queda durante a escrita) é descartado.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class RegistroEscritaAntecipada implements AutoCloseable {
+    private static final int TAMANHO_CABECALHO_QUADRO = 8;
+    private static final int TAMANHO_MAXIMO_REGISTRO = 64 * 1024 * 1024;
+    private static final int LIMITE_LOTE = 1024;
+
+    private static final Logger sistemaDeLogger = LoggerFactory.getLogger(RegistroEscritaAntecipada.class);
+
+    private final FileChannel canal;
+    private final BlockingQueue<Pendente> fila = new LinkedBlockingQueue<>();
+    private final Consumer<List<byte[]>> aposGravarLote;
+    private final Thread escritor;
+    private final List<byte[]> registrosExistentes;
+    private volatile boolean fechado;
+
+    private record Pendente(byte[] dados, CompletableFuture<Void> confirmacao) {}
+
+    private static final Pendente FIM = new Pendente(new byte[0], null);
+
+    /**
+     * Abre (ou cria) o log, lê os registros válidos já existentes e inicia a thread escritora.
+     * @param arquivo caminho do arquivo de log.
+     * @param aposGravarLote ação executada na thread escritora após cada lote confirmado em disco; é o único ponto
+     *                       em que {@link #truncar()} pode ser chamado.
+     * @throws IOException se o arquivo não puder ser aberto.
+     */
+    public RegistroEscritaAntecipada(Path arquivo, Consumer<List<byte[]>> aposGravarLote) throws IOException {
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.aposGravarLote = aposGravarLote;
+
+        ByteBuffer conteudo = ByteBuffer.allocate((int) Math.min(canal.size(), Integer.MAX_VALUE));
+        while (conteudo.hasRemaining()) {
+            if (canal.read(conteudo, conteudo.position()) < 0) {
+                break;
+            }
+        }
+        conteudo.flip();
+        this.registrosExistentes = lerQuadros(conteudo);
+        if (conteudo.position() < canal.size()) {
+            sistemaDeLogger.warn("Final incompleto do log descartado: {} bytes.", canal.size() - conteudo.position());
+            canal.truncate(conteudo.position());
+            canal.force(true);
+        }
+        canal.position(conteudo.position());
+
+        this.escritor = new Thread(this::executarEscritor, "eventually-wal");
+        this.escritor.setDaemon(true);
+        this.escritor.start();
+    }
+
+    /**
+     * @return os registros válidos encontrados no arquivo quando o log foi aberto, na ordem em que foram gravados.
+     */
+    public List<byte[]> getRegistrosExistentes() {return registrosExistentes;}
+
+    /**
+     * Enfileira um registro para gravação. O retorno é imediato; o futuro é concluído quando o lote que contém o
+     * registro estiver confirmado em disco.
+     * @param dados o conteúdo do registro.
+     * @return um futuro concluído após o {@code force} do lote.
+     */
+    public CompletableFuture<Void> anexar(byte[] dados) {
+        CompletableFuture<Void> confirmacao = new CompletableFuture<>();
+        if (fechado) {
+            confirmacao.completeExceptionally(new IllegalStateException("Log de escrita já foi fechado."));
+            return confirmacao;
+        }
+        fila.add(new Pendente(dados, confirmacao));
+        return confirmacao;
+    }
+
+    /**
+     * Descarta todo o conteúdo do log. Só deve ser chamado pela ação {@code aposGravarLote}, depois que um checkpoint
+     * com todo o estado gravado até aqui foi persistido.
+     * @throws IOException se o arquivo não puder ser truncado.
+     */
+    void truncar() throws IOException {
+        if (Thread.currentThread() != escritor) {
+            throw new IllegalStateException("O log só pode ser truncado pela thread escritora.");
+        }
+        canal.truncate(0);
+        canal.position(0);
+        canal.force(true);
+    }
+
+    private void executarEscritor() {
+        List<Pendente> lote = new ArrayList<>();
+        boolean continuar = true;
+        while (continuar) {
+            try {
+                lote.add(fila.take());
+                fila.drainTo(lote, LIMITE_LOTE - 1);
+                continuar = !lote.remove(FIM);
+                if (!lote.isEmpty()) {
+                    gravarLote(lote);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                continuar = false;
+            } catch (Exception e) {
+                sistemaDeLogger.error("Erro ao gravar lote no log: " + e.getMessage());
+                e.printStackTrace();
+                for (Pendente pendente : lote) {
+                    pendente.confirmacao().completeExceptionally(e);
+                }
+            } finally {
+                lote.clear();
+            }
+        }
+        fila.drainTo(lote);
+        lote.remove(FIM);
+        for (Pendente pendente : lote) {
+            pendente.confirmacao().completeExceptionally(new IllegalStateException("Log de escrita já foi fechado."));
+        }
+    }
+
+    private void gravarLote(List<Pendente> lote) throws IOException {
+        int total = 0;
+        for (Pendente pendente : lote) {
+            total += TAMANHO_CABECALHO_QUADRO + pendente.dados().length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(total);
+        List<byte[]> registros = new ArrayList<>(lote.size());
+        for (Pendente pendente : lote) {
+            escreverQuadro(buffer, pendente.dados());
+            registros.add(pendente.dados());
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+        canal.force(false);
+        for (Pendente pendente : lote) {
+            pendente.confirmacao().complete(null);
+        }
+        if (aposGravarLote != null) {
+            aposGravarLote.accept(registros);
+        }
+    }
+
+    /**
+     * Lê quadros {@code [tamanho][crc32][dados]} a partir da posição atual do buffer, parando no primeiro quadro
+     * incompleto ou com CRC inválido. Ao final, a posição do buffer indica o fim do último quadro válido.
+     * @param buffer o conteúdo a ser lido.
+     * @return os dados de cada quadro válido, em ordem.
+     */
+    static List<byte[]> lerQuadros(ByteBuffer buffer) {
+        List<byte[]> registros = new ArrayList<>();
+        CRC32 crc = new CRC32();
+        while (buffer.remaining() >= TAMANHO_CABECALHO_QUADRO) {
+            int inicio = buffer.position();
+            int tamanho = buffer.getInt();
+            int crcEsperado = buffer.getInt();
+            if (tamanho < 0 || tamanho > TAMANHO_MAXIMO_REGISTRO || tamanho > buffer.remaining()) {
+                buffer.position(inicio);
+                break;
+            }
+            byte[] dados = new byte[tamanho];
+            buffer.get(dados);
+            crc.reset();
+            crc.update(dados);
+            if ((int) crc.getValue() != crcEsperado) {
+                buffer.position(inicio);
+                break;
+            }
+            registros.add(dados);
+        }
+        return registros;
+    }
+
+    /**
+     * Escreve um quadro no mesmo formato usado pelo log (também usado pelos arquivos de checkpoint).
+     * @param buffer o destino, que deve ter espaço para {@code dados.length + 8} bytes.
+     * @param dados o conteúdo do registro.
+     */
+    static void escreverQuadro(ByteBuffer buffer, byte[] dados) {
+        CRC32 crc = new CRC32();
+        crc.update(dados);
+        buffer.putInt(dados.length);
+        buffer.putInt((int) crc.getValue());
+        buffer.put(dados);
+    }
+
+    static int tamanhoQuadro(byte[] dados) {return TAMANHO_CABECALHO_QUADRO + dados.length;}
+
+    /**
+     * Grava os registros pendentes, encerra a thread escritora e fecha o arquivo.
+     */
+    @Override
+    public void close() throws IOException {
+        if (fechado) {
+            return;
+        }
+        fechado = true;
+        fila.add(FIM);
+        try {
+            escritor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        canal.close();
+    }
+}
@@ -0,0 +1,820 @@
+package com.eventually.service;
+
+import com.eventually.dto.ResultadoSorteioDto;
+import com.eventually.model.EventoModel;
+import com.eventually.model.UsuarioModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Esta classe é um Singleton, garantindo que apenas uma instância de {@code ReservaVagasService} exista em toda a
+ * aplicação.
+ * Motor de reserva de vagas das inscrições em eventos. Cada evento tem um contador de vagas restantes, decrementado
+ * por compare-and-set: uma inscrição só prossegue se conseguir tomar uma vaga, de modo que uma rajada de inscrições
+ * simultâneas nunca ultrapassa a capacidade, e as que chegam com o evento lotado são recusadas sem bloquear.
+ * Com a vaga tomada, o participante é incluído no evento e o evento nas inscrições do usuário em um único bloco
+ * sincronizado pelo evento, para que as duas listas nunca fiquem em desacordo; o cancelamento segue o mesmo caminho e
+ * devolve a vaga.
+ * Com o evento lotado, o usuário pode entrar na lista de espera do evento, uma fila FIFO cujas entradas e saídas são
+ * gravadas no log de persistência, de modo que a fila é refeita na mesma ordem na restauração. Quando
+ * uma inscrição é cancelada, ou a capacidade aumenta, a vaga passa diretamente ao primeiro da fila, sem voltar ao
+ * contador, de modo que uma inscrição nova não a toma de quem já esperava; a promoção é publicada no
+ * {@link BarramentoEventos}, para que as telas do usuário promovido sejam atualizadas.
+ * Para eventos muito procurados, o organizador pode abrir uma janela de inscrição: enquanto ela está aberta, as
+ * inscrições são apenas anexadas a um buffer de candidatos, sem tocar nas listas do evento, e, ao encerrá-la, um
+ * sorteio com semente ({@link SplittableRandom}) preenche as vagas e coloca os demais na lista de espera. Com a mesma
+ * semente e os mesmos candidatos, o sorteio é sempre o mesmo. A janela tem prazo: o organizador pode sortear antes
+ * dele e, se não o fizer, o sorteio é feito no prazo por uma tarefa agendada; uma inscrição que chegue depois do prazo
+ * antes da tarefa também faz o sorteio antes de seguir o caminho normal. A abertura da janela, com a semente e o prazo, cada candidato e o sorteio são gravados no log de
+ * persistência, e uma janela aberta ao encerrar a aplicação é reaberta com os mesmos candidatos na restauração.
+ * As inscrições e os cancelamentos são gravados no log de persistência depois que o monitor das vagas é liberado, de
+ * modo que uma rajada de inscrições não espera pelo disco. Entradas na lista de espera, inclusive as do sorteio, tomam
+ * o monitor de gravação antes do monitor das vagas, para que o log as receba na ordem da fila.
+ * O tempo de cada reserva é registrado no log, e {@link #toString()} resume as contagens e a latência (p50, p99 e
+ * máxima) desde o início da aplicação.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ReservaVagasService {
+    private static ReservaVagasService instancia;
+
+    /**
+     * Resultado de uma tentativa de inscrição.
+     */
+    public enum Resultado {
+        CONFIRMADA,
+        ESGOTADA,
+        JA_INSCRITO,
+        NA_LISTA_DE_ESPERA,
+        NO_SORTEIO,
+        NAO_ENCONTRADO
+    }
+
+    /**
+     * Prazo da janela de inscrição aberta sem prazo explícito.
+     */
+    public static final Duration DURACAO_PADRAO_JANELA = Duration.ofHours(24);
+
+    private static final ScheduledExecutorService AGENDADOR = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+        Thread thread = new Thread(tarefa, "eventually-sorteios");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<Integer, Vagas> vagasPorEvento = new ConcurrentHashMap<>();
+    private final EventoLeituraService eventoLeituraService;
+    private final UsuarioSessaoService usuarioSessaoService;
+
+    private final LongAdder confirmadas = new LongAdder();
+    private final LongAdder esgotadas = new LongAdder();
+    private final LongAdder recusadas = new LongAdder();
+    private final LongAdder candidaturas = new LongAdder();
+    private final LatenciaReservas latencia = new LatenciaReservas();
+
+    private static final Logger sistemaDeLogger = LoggerFactory.getLogger(ReservaVagasService.class);
+
+    /**
+     * Vagas de um evento. O contador é criado a partir da capacidade e dos inscritos no primeiro acesso; o próprio
+     * objeto é o monitor que protege as inscrições e a lista de espera do evento.
+     * A lista de espera é um {@link LinkedHashSet}, que mantém a ordem de chegada e permite entrar, sair e promover o
+     * primeiro em tempo constante, sem percorrer a fila. O monitor {@code gravacao} ordena as gravações no log de
+     * persistência, feitas fora do monitor das vagas.
+     */
+    private static final class Vagas {
+        final AtomicInteger restantes;
+        int capacidade;
+        final LinkedHashSet<UsuarioModel> espera = new LinkedHashSet<>();
+        final Object gravacao = new Object();
+        volatile int aguardando;
+        volatile JanelaInscricao janela;
+
+        Vagas(EventoModel evento) {
+            this.capacidade = evento.getnParticipantes();
+            this.restantes = new AtomicInteger(capacidade - evento.getQuantidadeParticipantes());
+        }
+
+        boolean tomar() {
+            int atual;
+            do {
+                atual = restantes.get();
+                if (atual <= 0) {
+                    return false;
+                }
+            } while (!restantes.compareAndSet(atual, atual - 1));
+            return true;
+        }
+
+        void devolver() {
+            restantes.incrementAndGet();
+        }
+    }
+
+    /**
+     * Janela de inscrição por sorteio de um evento. Os candidatos são anexados a uma fila sem bloqueio; o bloqueio de
+     * leitura, compartilhado pelas inscrições, só impede que uma inscrição seja anexada depois que o sorteio esvaziou a
+     * fila. O prazo é um instante do relógio, e não de {@link System#nanoTime()}, para valer também depois de a janela
+     * ser restaurada em outra execução.
+     */
+    private static final class JanelaInscricao {
+        final long semente;
+        final Instant prazo;
+        final StampedLock trava = new StampedLock();
+        final ConcurrentLinkedQueue<UsuarioModel> candidatos = new ConcurrentLinkedQueue<>();
+        final Set<Integer> idsCandidatos = ConcurrentHashMap.newKeySet();
+        boolean encerrada;
+
+        JanelaInscricao(long semente, Instant prazo) {
+            this.semente = semente;
+            this.prazo = prazo;
+        }
+
+        boolean expirou() {
+            return !Instant.now().isBefore(prazo);
+        }
+
+        /**
+         * Anexa o usuário aos candidatos sem tocar nas listas do evento; quem se inscreveu ou entrou na lista de espera
+         * depois de se candidatar é descartado no sorteio.
+         * @return {@link Resultado#NO_SORTEIO}, {@link Resultado#JA_INSCRITO} se o usuário já é candidato, ou
+         * {@code null} se a janela já foi encerrada e a inscrição deve seguir o caminho normal.
+         */
+        Resultado anexar(UsuarioModel usuario) {
+            long carimbo = trava.readLock();
+            try {
+                if (encerrada) {
+                    return null;
+                }
+                if (!idsCandidatos.add(usuario.getId())) {
+                    return Resultado.JA_INSCRITO;
+                }
+                candidatos.add(usuario);
+                return Resultado.NO_SORTEIO;
+            } finally {
+                trava.unlockRead(carimbo);
+            }
+        }
+
+        List<UsuarioModel> encerrar() {
+            long carimbo = trava.writeLock();
+            try {
+                encerrada = true;
+                return new ArrayList<>(candidatos);
+            } finally {
+                trava.unlockWrite(carimbo);
+            }
+        }
+    }
+
+    private ReservaVagasService() {
+        this.eventoLeituraService = EventoLeituraService.getInstancia();
+        this.usuarioSessaoService = UsuarioSessaoService.getInstancia();
+        sistemaDeLogger.info("Inicializado.");
+    }
+
+    /**
+     * Retorna a instância única de {@code ReservaVagasService}, se ainda não existe, ela é criada e, em caso de falha,
+     * é exibida uma mensagem no console.
+     * @return a instância única de {@code ReservaVagasService}.
+     */
+    public static synchronized ReservaVagasService getInstancia() {
+        try {
+            if (instancia == null) {
+                instancia = new ReservaVagasService();
+            }
+            return instancia;
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao retornar a instância."+e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Inscreve o usuário no evento, se houver vaga.
+     * @param idEvento o ID do evento.
+     * @param email o email do usuário.
+     * @return o resultado da tentativa.
+     */
+    public Resultado reservar(int idEvento, String email) {
+        long inicio = System.nanoTime();
+        Resultado resultado = tentarReservar(idEvento, email);
+        long nanos = System.nanoTime() - inicio;
+        latencia.registrar(nanos);
+        switch (resultado) {
+            case CONFIRMADA -> confirmadas.increment();
+            case ESGOTADA -> esgotadas.increment();
+            case NO_SORTEIO -> candidaturas.increment();
+            default -> recusadas.increment();
+        }
+        sistemaDeLogger.info("Reserva no evento {} para '{}': {} em {}.", idEvento, email, resultado,
+                LatenciaReservas.formatar(nanos));
+        return resultado;
+    }
+
+    private Resultado tentarReservar(int idEvento, String email) {
+        Optional<EventoModel> optionalEvento = eventoLeituraService.procurarEventoPorId(idEvento);
+        UsuarioModel usuario = usuarioSessaoService.procurarUsuario(email);
+        if (optionalEvento == null || optionalEvento.isEmpty() || usuario == null) {
+            return Resultado.NAO_ENCONTRADO;
+        }
+        EventoModel evento = optionalEvento.get();
+        Vagas vagas = vagasDo(evento);
+        if (evento.temParticipante(usuario.getId())) {
+            return Resultado.JA_INSCRITO;
+        }
+        Resultado candidatura = candidatar(vagas, evento, usuario);
+        if (candidatura != null) {
+            return candidatura;
+        }
+        if (vagas.aguardando > 0 || !vagas.tomar()) {
+            return Resultado.ESGOTADA;
+        }
+
+        synchronized (vagas) {
+            // uma inscrição simultânea do mesmo usuário pode ter passado pela verificação acima
+            if (evento.temParticipante(usuario.getId())) {
+                vagas.devolver();
+                return Resultado.JA_INSCRITO;
+            }
+            inscrever(vagas, evento, usuario);
+        }
+        gravarInscricoes(vagas, evento, List.of(usuario));
+        publicarInscricao(evento, usuario);
+        return Resultado.CONFIRMADA;
+    }
+
+    /**
+     * Coloca o usuário no fim da lista de espera do evento ou, se uma vaga tiver sido liberada e ninguém estiver
+     * esperando, inscreve-o diretamente.
+     * @param idEvento o ID do evento.
+     * @param email o email do usuário.
+     * @return {@link Resultado#NA_LISTA_DE_ESPERA}, {@link Resultado#CONFIRMADA}, {@link Resultado#JA_INSCRITO} se o
+     * usuário já está inscrito ou esperando, ou {@link Resultado#NAO_ENCONTRADO}.
+     */
+    public Resultado entrarNaListaDeEspera(int idEvento, String email) {
+        Optional<EventoModel> optionalEvento = eventoLeituraService.procurarEventoPorId(idEvento);
+        UsuarioModel usuario = usuarioSessaoService.procurarUsuario(email);
+        if (optionalEvento == null || optionalEvento.isEmpty() || usuario == null) {
+            return Resultado.NAO_ENCONTRADO;
+        }
+        EventoModel evento = optionalEvento.get();
+        Vagas vagas = vagasDo(evento);
+        if (evento.temParticipante(usuario.getId())) {
+            return Resultado.JA_INSCRITO;
+        }
+        Resultado candidatura = candidatar(vagas, evento, usuario);
+        if (candidatura != null) {
+            return candidatura;
+        }
+
+        synchronized (vagas.gravacao) {
+            boolean naFila;
+            synchronized (vagas) {
+                if (evento.temParticipante(usuario.getId()) || vagas.espera.contains(usuario)) {
+                    return Resultado.JA_INSCRITO;
+                }
+                naFila = !vagas.espera.isEmpty() || !vagas.tomar();
+                if (naFila) {
+                    vagas.espera.add(usuario);
+                    vagas.aguardando = vagas.espera.size();
+                    sistemaDeLogger.info("'{}' entrou na lista de espera do evento {} na posição {}.", email, idEvento,
+                            vagas.aguardando);
+                } else {
+                    inscrever(vagas, evento, usuario);
+                }
+            }
+            if (naFila) {
+                PersistenciaService.getInstancia().registrarListaDeEspera(evento, usuario, true);
+                return Resultado.NA_LISTA_DE_ESPERA;
+            }
+        }
+        gravarInscricoes(vagas, evento, List.of(usuario));
+        publicarInscricao(evento, usuario);
+        return Resultado.CONFIRMADA;
+    }
+
+    /**
+     * Anexa o usuário aos candidatos da janela aberta no evento. Uma janela com o prazo vencido é sorteada antes, e a
+     * inscrição segue o caminho normal. Deve ser chamado depois de verificar que o usuário não está inscrito.
+     * @return {@link Resultado#NO_SORTEIO}, {@link Resultado#JA_INSCRITO} se o usuário já é candidato ou está na lista
+     * de espera, ou {@code null} se não há janela aberta.
+     */
+    private Resultado candidatar(Vagas vagas, EventoModel evento, UsuarioModel usuario) {
+        JanelaInscricao janela = vagas.janela;
+        if (janela == null) {
+            return null;
+        }
+        if (janela.expirou()) {
+            sistemaDeLogger.info("Prazo da janela de inscrição do evento {} vencido; sorteando.", evento.getId());
+            sortear(evento.getId(), janela);
+            return null;
+        }
+        if (vagas.aguardando > 0) {
+            synchronized (vagas) {
+                if (vagas.espera.contains(usuario)) {
+                    return Resultado.JA_INSCRITO;
+                }
+            }
+        }
+        Resultado resultado = janela.anexar(usuario);
+        if (resultado == Resultado.NO_SORTEIO) {
+            synchronized (vagas.gravacao) {
+                PersistenciaService.getInstancia().registrarCandidato(evento, usuario);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Abre uma janela de inscrição por sorteio no evento, com uma semente aleatória e o prazo
+     * {@link #DURACAO_PADRAO_JANELA}.
+     * @param idEvento o ID do evento.
+     * @return {@code true} se a janela foi aberta, {@code false} se o evento não existe ou já tem uma janela aberta.
+     */
+    public boolean abrirJanelaDeInscricao(int idEvento) {
+        return abrirJanelaDeInscricao(idEvento, ThreadLocalRandom.current().nextLong(), DURACAO_PADRAO_JANELA);
+    }
+
+    /**
+     * Abre uma janela de inscrição por sorteio no evento. O sorteio é feito por {@link #sortear(int)}, chamado pelo
+     * organizador ou, no prazo, pela tarefa agendada.
+     * @param idEvento o ID do evento.
+     * @param semente a semente do sorteio.
+     * @param duracao o prazo da janela.
+     * @return {@code true} se a janela foi aberta, {@code false} se o evento não existe ou já tem uma janela aberta.
+     */
+    public boolean abrirJanelaDeInscricao(int idEvento, long semente, Duration duracao) {
+        Optional<EventoModel> optionalEvento = eventoLeituraService.procurarEventoPorId(idEvento);
+        if (optionalEvento == null || optionalEvento.isEmpty()) {
+            return false;
+        }
+        EventoModel evento = optionalEvento.get();
+        Vagas vagas = vagasDo(evento);
+        Instant prazo = Instant.now().plus(duracao);
+        JanelaInscricao janela = new JanelaInscricao(semente, prazo);
+        // a abertura é gravada antes que um candidato da janela possa ser gravado
+        synchronized (vagas.gravacao) {
+            synchronized (vagas) {
+                if (vagas.janela != null) {
+                    return false;
+                }
+                vagas.janela = janela;
+            }
+            PersistenciaService.getInstancia().registrarAberturaDeJanela(evento, semente, prazo);
+        }
+        agendarSorteio(idEvento, janela);
+        sistemaDeLogger.info("Janela de inscrição por sorteio aberta no evento {} com semente {} por {}.", idEvento,
+                semente, duracao);
+        return true;
+    }
+
+    /**
+     * Reabre uma janela de inscrição restaurada do log de persistência, com os candidatos gravados. Chamado pelo
+     * {@link PersistenciaService} depois de restaurar os eventos; nada é gravado no log.
+     * @param evento o evento.
+     * @param semente a semente do sorteio.
+     * @param prazo o prazo da janela.
+     * @param candidatos os candidatos, na ordem em que foram gravados.
+     */
+    void restaurarJanela(EventoModel evento, long semente, Instant prazo, List<UsuarioModel> candidatos) {
+        Vagas vagas = vagasDo(evento);
+        JanelaInscricao janela = new JanelaInscricao(semente, prazo);
+        for (UsuarioModel candidato : candidatos) {
+            if (!evento.temParticipante(candidato.getId())) {
+                janela.anexar(candidato);
+            }
+        }
+        synchronized (vagas) {
+            vagas.janela = janela;
+        }
+        agendarSorteio(evento.getId(), janela);
+    }
+
+    /**
+     * Agenda o sorteio da janela para o prazo dela, ou para já, se o prazo venceu com a aplicação fechada. Se a janela
+     * já tiver sido sorteada pelo organizador até lá, a tarefa não faz nada.
+     */
+    private void agendarSorteio(int idEvento, JanelaInscricao janela) {
+        long atrasoEmMillis = Math.max(0, Duration.between(Instant.now(), janela.prazo).toMillis());
+        AGENDADOR.schedule(() -> {
+            try {
+                if (sortear(idEvento, janela) != null) {
+                    sistemaDeLogger.info("Prazo da janela de inscrição do evento {} vencido; sorteio feito.", idEvento);
+                }
+            } catch (RuntimeException e) {
+                sistemaDeLogger.error("Erro ao sortear a janela de inscrição do evento {}: {}", idEvento, e.getMessage());
+                e.printStackTrace();
+            }
+        }, atrasoEmMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @param idEvento o ID do evento.
+     * @return {@code true} se o evento está com uma janela de inscrição aberta.
+     */
+    public boolean isJanelaAberta(int idEvento) {
+        Vagas vagas = vagasPorEvento.get(idEvento);
+        return vagas != null && vagas.janela != null;
+    }
+
+    /**
+     * @param idEvento o ID do evento.
+     * @return quantos candidatos estão inscritos na janela aberta, ou 0 se não houver janela.
+     */
+    public int candidatosNaJanela(int idEvento) {
+        Vagas vagas = vagasPorEvento.get(idEvento);
+        JanelaInscricao janela = vagas == null ? null : vagas.janela;
+        return janela == null ? 0 : janela.idsCandidatos.size();
+    }
+
+    /**
+     * @param idEvento o ID do evento.
+     * @param idUsuario o ID do usuário.
+     * @return {@code true} se o usuário é candidato na janela aberta do evento.
+     */
+    public boolean isCandidato(int idEvento, int idUsuario) {
+        Vagas vagas = vagasPorEvento.get(idEvento);
+        JanelaInscricao janela = vagas == null ? null : vagas.janela;
+        return janela != null && janela.idsCandidatos.contains(idUsuario);
+    }
+
+    /**
+     * Encerra a janela de inscrição e sorteia as vagas livres entre os candidatos; os não contemplados vão para o fim
+     * da lista de espera, na ordem sorteada. Os candidatos são ordenados pelo ID antes do embaralhamento, para que o
+     * resultado dependa apenas da semente e do conjunto de candidatos, e não da ordem de chegada.
+     * Os contemplados são inscritos com o monitor das vagas e gravados no log de persistência depois dele, de uma vez,
+     * seguidos das entradas na lista de espera e do encerramento da janela.
+     * @param idEvento o ID do evento.
+     * @return o resultado do sorteio, ou {@code null} se o evento não tem uma janela aberta.
+     */
+    public ResultadoSorteioDto sortear(int idEvento) {
+        return sortear(idEvento, null);
+    }
+
+    /**
+     * @param esperada a janela a sortear, ou {@code null} para sortear a que estiver aberta; se outra janela estiver
+     * aberta, nada é feito.
+     */
+    private ResultadoSorteioDto sortear(int idEvento, JanelaInscricao esperada) {
+        Vagas vagas = vagasPorEvento.get(idEvento);
+        Optional<EventoModel> optionalEvento = eventoLeituraService.procurarEventoPorId(idEvento);
+        if (vagas == null || optionalEvento == null || optionalEvento.isEmpty()) {
+            return null;
+        }
+        EventoModel evento = optionalEvento.get();
+        List<UsuarioModel> contemplados = new ArrayList<>();
+        List<UsuarioModel> emEspera = new ArrayList<>();
+        JanelaInscricao janela;
+
+        synchronized (vagas.gravacao) {
+            synchronized (vagas) {
+                janela = vagas.janela;
+                if (janela == null || (esperada != null && janela != esperada)) {
+                    return null;
+                }
+                vagas.janela = null;
+                List<UsuarioModel> candidatos = janela.encerrar();
+                candidatos.removeIf(candidato -> evento.temParticipante(candidato.getId())
+                        || vagas.espera.contains(candidato));
+                candidatos.sort(Comparator.comparingInt(UsuarioModel::getId));
+                embaralhar(candidatos, new SplittableRandom(janela.semente));
+
+                for (UsuarioModel candidato : candidatos) {
+                    if (vagas.aguardando == 0 && vagas.tomar()) {
+                        inscrever(vagas, evento, candidato);
+                        contemplados.add(candidato);
+                    } else {
+                        vagas.espera.add(candidato);
+                        vagas.aguardando = vagas.espera.size();
+                        emEspera.add(candidato);
+                    }
+                }
+            }
+            PersistenciaService persistencia = PersistenciaService.getInstancia();
+            gravarInscricoes(vagas, evento, contemplados);
+            for (UsuarioModel esperando : emEspera) {
+                persistencia.registrarListaDeEspera(evento, esperando, true);
+            }
+            persistencia.registrarSorteio(evento);
+        }
+        for (UsuarioModel contemplado : contemplados) {
+            publicarInscricao(evento, contemplado);
+        }
+        sistemaDeLogger.info("Sorteio do evento {} com semente {}: {} contemplados, {} na lista de espera.", idEvento,
+                janela.semente, contemplados.size(), emEspera.size());
+        return new ResultadoSorteioDto(janela.semente, List.copyOf(contemplados), List.copyOf(emEspera));
+    }
+
+    /**
+     * Embaralhamento de Fisher-Yates.
+     */
+    private static void embaralhar(List<UsuarioModel> lista, SplittableRandom aleatorio) {
+        for (int i = lista.size() - 1; i > 0; i--) {
+            Collections.swap(lista, i, aleatorio.nextInt(i + 1));
+        }
+    }
+
+    /**
+     * Retira o usuário da lista de espera do evento.
+     * @param idEvento o ID do evento.
+     * @param email o email do usuário.
+     * @return {@code true} se o usuário estava na lista de espera.
+     */
+    public boolean sairDaListaDeEspera(int idEvento, String email) {
+        Optional<EventoModel> optionalEvento = eventoLeituraService.procurarEventoPorId(idEvento);
+        UsuarioModel usuario = usuarioSessaoService.procurarUsuario(email);
+        if (optionalEvento == null || optionalEvento.isEmpty() || usuario == null) {
+            return false;
+        }
+        EventoModel evento = optionalEvento.get();
+        Vagas vagas = vagasDo(evento);
+        synchronized (vagas.gravacao) {
+            boolean removido;
+            synchronized (vagas) {
+                removido = vagas.espera.remove(usuario);
+                vagas.aguardando = vagas.espera.size();
+            }
+            if (removido) {
+                PersistenciaService.getInstancia().registrarListaDeEspera(evento, usuario, false);
+            }
+            return removido;
+        }
+    }
+
+    /**
+     * Refaz a lista de espera restaurada do log de persistência, na ordem da fila, e passa aos primeiros as vagas que
+     * estiverem livres. Chamado pelo {@link PersistenciaService} depois de restaurar os eventos e antes de reabrir as
+     * janelas de inscrição.
+     * @param evento o evento.
+     * @param esperando os usuários da lista de espera, na ordem da fila.
+     */
+    void restaurarListaDeEspera(EventoModel evento, List<UsuarioModel> esperando) {
+        Vagas vagas = vagasDo(evento);
+        List<UsuarioModel> promovidos;
+        synchronized (vagas) {
+            for (UsuarioModel usuario : esperando) {
+                if (!evento.temParticipante(usuario.getId())) {
+                    vagas.espera.add(usuario);
+                }
+            }
+            promovidos = promover(vagas, evento, false);
+        }
+        if (!promovidos.isEmpty()) {
+            gravarInscricoes(vagas, evento, promovidos);
+            OrdenacaoEventosService.getInstancia().indexar(evento);
+        }
+    }
+
+    /**
+     * @param idEvento o ID do evento.
+     * @param idUsuario o ID do usuário.
+     * @return a posição do usuário na lista de espera, a partir de 1, ou 0 se ele não está esperando.
+     */
+    public int posicaoNaListaDeEspera(int idEvento, int idUsuario) {
+        Vagas vagas = vagasPorEvento.get(idEvento);
+        if (vagas == null || vagas.aguardando == 0) {
+            return 0;
+        }
+        synchronized (vagas) {
+            int posicao = 1;
+            for (UsuarioModel esperando : vagas.espera) {
+                if (esperando.getId() == idUsuario) {
+                    return posicao;
+                }
+                posicao++;
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * @param idEvento o ID do evento.
+     * @return quantos usuários estão na lista de espera do evento.
+     */
+    public int tamanhoDaListaDeEspera(int idEvento) {
+        Vagas vagas = vagasPorEvento.get(idEvento);
+        return vagas == null ? 0 : vagas.aguardando;
+    }
+
+    /**
+     * Inclui o participante no evento e o evento nas inscrições do usuário. Deve ser chamado com o monitor das vagas
+     * e com a vaga já tomada; a gravação fica para {@link #gravarInscricoes}, depois de liberar o monitor.
+     */
+    private void inscrever(Vagas vagas, EventoModel evento, UsuarioModel usuario) {
+        evento.adicionarParticipante(usuario.getId());
+        usuario.adicionarInscricao(evento.getId());
+        if (vagas.espera.remove(usuario)) {
+            vagas.aguardando = vagas.espera.size();
+        }
+    }
+
+    /**
+     * Grava no log de persistência a situação atual da inscrição de cada usuário no evento. É chamado depois de liberar
+     * o monitor das vagas; o monitor de gravação faz com que o último registro de cada usuário corresponda à situação
+     * final, mesmo que uma inscrição e um cancelamento simultâneos cheguem aqui fora de ordem.
+     */
+    private void gravarInscricoes(Vagas vagas, EventoModel evento, List<UsuarioModel> usuarios) {
+        if (usuarios.isEmpty()) {
+            return;
+        }
+        PersistenciaService persistencia = PersistenciaService.getInstancia();
+        synchronized (vagas.gravacao) {
+            for (UsuarioModel usuario : usuarios) {
+                persistencia.registrarInscricao(evento, usuario, evento.temParticipante(usuario.getId()));
+            }
+        }
+    }
+
+    /**
+     * Passa as vagas livres aos primeiros da lista de espera. Deve ser chamado com o monitor das vagas.
+     * @param vagaLiberada se uma vaga acabou de ser liberada por um cancelamento e ainda não voltou ao contador.
+     * @return os usuários promovidos, na ordem da fila.
+     */
+    private List<UsuarioModel> promover(Vagas vagas, EventoModel evento, boolean vagaLiberada) {
+        List<UsuarioModel> promovidos = new ArrayList<>();
+        Iterator<UsuarioModel> fila = vagas.espera.iterator();
+        if (vagaLiberada) {
+            if (fila.hasNext() && vagas.restantes.get() >= 0) {
+                UsuarioModel primeiro = fila.next();
+                fila.remove();
+                inscrever(vagas, evento, primeiro);
+                promovidos.add(primeiro);
+            } else {
+                vagas.devolver();
+            }
+        }
+        while (fila.hasNext() && vagas.tomar()) {
+            UsuarioModel proximo = fila.next();
+            fila.remove();
+            inscrever(vagas, evento, proximo);
+            promovidos.add(proximo);
+        }
+        vagas.aguardando = vagas.espera.size();
+        return promovidos;
+    }
+
+    private void publicarInscricao(EventoModel evento, UsuarioModel usuario) {
+        AgendaService.getInstancia().invalidar();
+        OrdenacaoEventosService.getInstancia().indexar(evento);
+        BarramentoEventos.getInstancia().publicar(new EventoDominio.ParticipanteAdicionado(evento.getId(), usuario.getId()));
+    }
+
+    private void publicarPromocoes(EventoModel evento, List<UsuarioModel> promovidos) {
+        for (UsuarioModel promovido : promovidos) {
+            sistemaDeLogger.info("'{}' promovido da lista de espera para o evento {}.", promovido.getEmail(), evento.getId());
+            publicarInscricao(evento, promovido);
+            BarramentoEventos.getInstancia().publicar(
+                    new EventoDominio.ParticipantePromovido(evento.getId(), promovido.getId()));
+        }
+    }
+
+    /**
+     * Cancela a inscrição do usuário no evento e passa a vaga ao primeiro da lista de espera ou, se não houver
+     * ninguém esperando, devolve-a ao contador.
+     * @param idEvento o ID do evento.
+     * @param email o email do usuário.
+     * @return {@code true} se o usuário estava inscrito e a inscrição foi cancelada.
+     */
+    public boolean cancelar(int idEvento, String email) {
+        Optional<EventoModel> optionalEvento = eventoLeituraService.procurarEventoPorId(idEvento);
+        UsuarioModel usuario = usuarioSessaoService.procurarUsuario(email);
+        if (optionalEvento == null || optionalEvento.isEmpty() || usuario == null) {
+            sistemaDeLogger.warn("Cancelamento no evento {} para '{}': evento ou usuário não encontrado.", idEvento, email);
+            return false;
+        }
+        EventoModel evento = optionalEvento.get();
+        Vagas vagas = vagasDo(evento);
+        List<UsuarioModel> promovidos;
+
+        synchronized (vagas) {
+            if (!evento.removerParticipante(usuario.getId())) {
+                return false;
+            }
+            usuario.removerInscricao(idEvento);
+            promovidos = promover(vagas, evento, true);
+        }
+        List<UsuarioModel> alterados = new ArrayList<>(promovidos.size() + 1);
+        alterados.add(usuario);
+        alterados.addAll(promovidos);
+        gravarInscricoes(vagas, evento, alterados);
+        AgendaService.getInstancia().invalidar();
+        OrdenacaoEventosService.getInstancia().indexar(evento);
+        BarramentoEventos.getInstancia().publicar(new EventoDominio.ParticipanteRemovido(evento.getId(), usuario.getId()));
+        sistemaDeLogger.info("Inscrição de '{}' no evento {} cancelada.", email, idEvento);
+        publicarPromocoes(evento, promovidos);
+        return true;
+    }
+
+    /**
+     * Altera a capacidade do evento e ajusta o contador de vagas no mesmo bloco sincronizado, de modo que nenhuma
+     * inscrição veja a capacidade nova com o contador antigo. A diferença é somada às vagas restantes, o que preserva as
+     * reservas em andamento; as vagas novas vão primeiro para a lista de espera.
+     * @param evento o evento.
+     * @param novaCapacidade a nova quantidade máxima de participantes.
+     */
+    public void alterarCapacidade(EventoModel evento, int novaCapacidade) {
+        Vagas vagas = vagasDo(evento);
+        List<UsuarioModel> promovidos;
+        synchronized (vagas) {
+            evento.setnParticipantes(novaCapacidade);
+            vagas.restantes.addAndGet(novaCapacidade - vagas.capacidade);
+            vagas.capacidade = novaCapacidade;
+            promovidos = promover(vagas, evento, false);
+        }
+        gravarInscricoes(vagas, evento, promovidos);
+        publicarPromocoes(evento, promovidos);
+    }
+
+    /**
+     * @param evento o evento.
+     * @return as vagas ainda disponíveis, que podem ser negativas se a capacidade foi reduzida abaixo dos inscritos.
+     */
+    public int vagasRestantes(EventoModel evento) {
+        return vagasDo(evento).restantes.get();
+    }
+
+    private Vagas vagasDo(EventoModel evento) {
+        return vagasPorEvento.computeIfAbsent(evento.getId(), id -> new Vagas(evento));
+    }
+
+    public long getConfirmadas() {return confirmadas.sum();}
+    public long getEsgotadas() {return esgotadas.sum();}
+    public long getRecusadas() {return recusadas.sum();}
+    public long getCandidaturas() {return candidaturas.sum();}
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT,
+                "ReservaVagasService[confirmadas=%d, esgotadas=%d, recusadas=%d, candidaturas=%d, %s]",
+                confirmadas.sum(), esgotadas.sum(), recusadas.sum(), candidaturas.sum(), latencia);
+    }
+
+    /**
+     * Histograma da latência das reservas em faixas de potências de 2 nanossegundos, atualizado sem bloqueio; os
+     * percentis são aproximados pelo limite superior da faixa.
+     */
+    private static final class LatenciaReservas {
+        private final AtomicLongArray faixas = new AtomicLongArray(64);
+        private final LongAdder total = new LongAdder();
+        private final AtomicLong maxima = new AtomicLong();
+
+        void registrar(long nanos) {
+            long valor = Math.max(1, nanos);
+            faixas.incrementAndGet(63 - Long.numberOfLeadingZeros(valor));
+            total.increment();
+            maxima.accumulateAndGet(valor, Math::max);
+        }
+
+        long percentil(double fracao) {
+            long quantidade = total.sum();
+            if (quantidade == 0) {
+                return 0;
+            }
+            long alvo = (long) Math.ceil(quantidade * fracao);
+            long acumulado = 0;
+            for (int i = 0; i < faixas.length(); i++) {
+                acumulado += faixas.get(i);
+                if (acumulado >= alvo) {
+                    return Math.min(maxima.get(), i >= 62 ? Long.MAX_VALUE : (2L << i) - 1);
+                }
+            }
+            return maxima.get();
+        }
+
+        static String formatar(long nanos) {
+            return String.format(Locale.ROOT, "%.3f ms", nanos / 1_000_000.0);
+        }
+
+        @Override
+        public String toString() {
+            return "latência p50=" + formatar(percentil(0.50)) + ", p99=" + formatar(percentil(0.99))
+                    + ", máxima=" + formatar(maxima.get());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.eventually.service;
+
+import com.eventually.dto.CursorEventosDto;
+import com.eventually.dto.PaginaEventosDto;
+import com.eventually.model.Comunidade;
+import com.eventually.model.EventoModel;
+import com.eventually.model.UsuarioModel;
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Esta classe é um Singleton, garantindo que apenas uma instância de {@code ServicosAssincronos} exista em toda a
+ * aplicação.
+ * Fachada assíncrona sobre os serviços de leitura: cada consulta é executada em uma thread virtual e devolvida como um
+ * {@link CompletableFuture}, para que os controllers montem a tela sem esperar pelos dados. O resultado deve ser
+ * aplicado à interface com {@link #naThreadFx(CompletableFuture, Consumer)} ou com o executor {@link #THREAD_FX}, já que
+ * os componentes do JavaFX só podem ser alterados na thread da aplicação.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class ServicosAssincronos {
+    private static ServicosAssincronos instancia;
+
+    /**
+     * Executa a tarefa imediatamente se a chamada já está na thread do JavaFX e, caso contrário, a agenda com
+     * {@link Platform#runLater(Runnable)}.
+     */
+    public static final Executor THREAD_FX = tarefa -> {
+        if (Platform.isFxApplicationThread()) {
+            tarefa.run();
+        } else {
+            Platform.runLater(tarefa);
+        }
+    };
+
+    private final ExecutorService executor;
+    private final UsuarioSessaoService usuarioSessaoService;
+    private final EventoLeituraService eventoLeituraService;
+
+    private static final Logger sistemaDeLogger = LoggerFactory.getLogger(ServicosAssincronos.class);
+
+    private ServicosAssincronos() {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("eventually-leitura-", 0).factory());
+        this.usuarioSessaoService = UsuarioSessaoService.getInstancia();
+        this.eventoLeituraService = EventoLeituraService.getInstancia();
+        sistemaDeLogger.info("Inicializado.");
+    }
+
+    /**
+     * Retorna a instância única de {@code ServicosAssincronos}, se ainda não existe, ela é criada e, em caso de falha,
+     * é exibida uma mensagem no console.
+     * @return a instância única de {@code ServicosAssincronos}.
+     */
+    public static synchronized ServicosAssincronos getInstancia() {
+        try {
+            if (instancia == null) {
+                instancia = new ServicosAssincronos();
+            }
+            return instancia;
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao retornar a instância."+e.getMessage());
+            e.printStackTrace();
+            return null;
+        }
+    }
+
+    /**
+     * Executa a consulta em uma thread virtual.
+     * @param consulta a consulta a ser executada fora da thread do JavaFX.
+     * @return o futuro com o resultado da consulta.
+     */
+    public <T> CompletableFuture<T> executar(Supplier<T> consulta) {
+        return CompletableFuture.supplyAsync(consulta, executor);
+    }
+
+    public CompletableFuture<UsuarioModel> procurarUsuario(String email) {
+        return executar(() -> usuarioSessaoService.procurarUsuario(email));
+    }
+
+    public CompletableFuture<String> procurarNome(String email) {
+        return executar(() -> usuarioSessaoService.procurarNome(email));
+    }
+
+    public CompletableFuture<Image> procurarImagem(String email, double tamanho) {
+        return executar(() -> usuarioSessaoService.procurarImagem(email, tamanho));
+    }
+
+    public CompletableFuture<Set<Comunidade>> procurarPreferencias(String email) {
+        return executar(() -> usuarioSessaoService.procurarPreferencias(email));
+    }
+
+    public CompletableFuture<List<EventoModel>> procurarEventosCriados(String email) {
+        return executar(() -> usuarioSessaoService.procurarEventosCriados(email));
+    }
+
+    public CompletableFuture<List<EventoModel>> procurarEventosInscritos(String email) {
+        return executar(() -> usuarioSessaoService.procurarEventosInscritos(email));
+    }
+
+    public CompletableFuture<Optional<EventoModel>> procurarEventoPorId(int id) {
+        return executar(() -> eventoLeituraService.procurarEventoPorId(id));
+    }
+
+    public CompletableFuture<List<UsuarioModel>> procurarParticipantes(int idEvento) {
+        return executar(() -> eventoLeituraService.procurarParticipantes(idEvento));
+    }
+
+    public CompletableFuture<Image> procurarFotoEvento(int idEvento) {
+        return executar(() -> eventoLeituraService.procurarFotoEvento(idEvento));
+    }
+
+    /**
+     * Versão assíncrona de {@link EventoLeituraService#listarEventos}.
+     */
+    public CompletableFuture<PaginaEventosDto> listarEventos(OrdenacaoEventosService.Ordenacao ordenacao,
+                                                             CursorEventosDto cursor, int tamanho,
+                                                             Predicate<? super EventoModel> filtro) {
+        return executar(() -> eventoLeituraService.listarEventos(ordenacao, cursor, tamanho, filtro));
+    }
+
+    /**
+     * Entrega o resultado do futuro na thread do JavaFX. Em caso de falha, o erro é registrado no log e exibido ao
+     * usuário em um alerta.
+     * @param futuro o futuro devolvido por uma consulta desta fachada.
+     * @param aoConcluir o consumidor do resultado, executado na thread do JavaFX.
+     * @return o futuro que termina depois que o resultado foi aplicado.
+     */
+    public static <T> CompletableFuture<Void> naThreadFx(CompletableFuture<T> futuro, Consumer<? super T> aoConcluir) {
+        return futuro.handleAsync((resultado, erro) -> {
+            if (erro != null) {
+                Throwable causa = erro instanceof CompletionException && erro.getCause() != null ? erro.getCause() : erro;
+                sistemaDeLogger.error("Erro ao carregar dados em segundo plano: " + causa.getMessage());
+                causa.printStackTrace();
+                AlertaService.alertarErro("Não foi possível carregar os dados. Tente novamente.");
+                return null;
+            }
+            try {
+                aoConcluir.accept(resultado);
+            } catch (Exception e) {
+                sistemaDeLogger.error("Erro ao aplicar dados carregados em segundo plano: " + e.getMessage());
+                e.printStackTrace();
+            }
+            return null;
+        }, THREAD_FX);
+    }
+}
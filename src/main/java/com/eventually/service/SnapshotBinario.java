@@ -0,0 +1,276 @@
+package com.eventually.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.CRC32;
+
+/**
+ * Snapshot binário e versionado de todos os usuários, eventos e comentários, lido com {@code FileChannel.map} na
+ * inicialização. Os registros de entidade são os mesmos do log de escrita (referências entre entidades por ID) e ficam
+ * como fatias do arquivo mapeado, sem cópia. A região de blobs guardava as fotos em snapshots anteriores ao
+ * {@link ArmazemImagens} e só é lida para migrá-las; os snapshots novos são gravados com ela vazia.
+ * <pre>
+ * cabeçalho (40 bytes): mágico, versão, geração, total de registros, total de blobs, início dos blobs, crc32 dos registros
+ * registros:            [tamanho][dados] ...
+ * tabela de blobs:      [id][deslocamento][tamanho] ...
+ * blobs:                bytes dos arquivos de imagem
+ * </pre>
+ * Cada snapshot é gravado em um arquivo novo, numerado pela geração. Depois que o novo arquivo é reaberto e validado,
+ * apagam-se as gerações antigas, exceto a imediatamente anterior, usada se a mais recente estiver corrompida; um
+ * arquivo ainda mapeado nunca é sobrescrito.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class SnapshotBinario {
+    static final int VERSAO = 1;
+
+    private static final int MAGICO = 0x4556534E;
+    private static final int TAMANHO_CABECALHO = 40;
+    private static final int TAMANHO_ENTRADA_BLOB = 16;
+    private static final String PREFIXO = "eventually-";
+    private static final String SUFIXO = ".snap";
+    private static final String SUFIXO_CORROMPIDO = ".corrompido";
+
+    private static final Logger sistemaDeLogger = LoggerFactory.getLogger(SnapshotBinario.class);
+
+    private final long geracao;
+    private final List<ByteBuffer> registros;
+    private final Map<Integer, ByteBuffer> blobs;
+
+    private SnapshotBinario(long geracao, List<ByteBuffer> registros, Map<Integer, ByteBuffer> blobs) {
+        this.geracao = geracao;
+        this.registros = registros;
+        this.blobs = blobs;
+    }
+
+    long getGeracao() {return geracao;}
+
+    /**
+     * @return os registros de entidade, como fatias somente leitura do arquivo mapeado.
+     */
+    List<ByteBuffer> getRegistros() {return registros;}
+
+    /**
+     * @return os bytes de cada foto por ID de blob, como fatias somente leitura do arquivo mapeado.
+     */
+    Map<Integer, ByteBuffer> getBlobs() {return blobs;}
+
+    /**
+     * Abre o snapshot válido de maior geração do diretório. Cada geração é validada (mágico, versão e CRC) antes de
+     * qualquer arquivo ser apagado: se a mais recente estiver incompleta ou corrompida, tenta-se a anterior, e as
+     * gerações inválidas são renomeadas com o sufixo {@value #SUFIXO_CORROMPIDO}, para análise. As gerações antigas
+     * só são apagadas depois que uma geração foi aberta com sucesso.
+     * @param diretorio o diretório de dados.
+     * @return o snapshot mapeado, ou {@code null} se não houver nenhum.
+     * @throws IOException se nenhuma das gerações existentes puder ser aberta; nesse caso nenhum arquivo é alterado.
+     */
+    static SnapshotBinario abrirMaisRecente(Path diretorio) throws IOException {
+        List<Path> geracoes = new ArrayList<>();
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio, PREFIXO + "*" + SUFIXO)) {
+            for (Path arquivo : arquivos) {
+                if (geracaoDo(arquivo) >= 0) {
+                    geracoes.add(arquivo);
+                }
+            }
+        }
+        geracoes.sort(Comparator.comparingLong(SnapshotBinario::geracaoDo).reversed());
+
+        List<Path> invalidas = new ArrayList<>();
+        IOException falha = null;
+        for (Path arquivo : geracoes) {
+            SnapshotBinario snapshot;
+            try {
+                snapshot = abrir(arquivo);
+            } catch (IOException | RuntimeException e) {
+                sistemaDeLogger.error("Snapshot {} não pôde ser aberto: {}", arquivo.getFileName(), e.getMessage());
+                if (falha == null) {
+                    falha = e instanceof IOException io ? io : new IOException("Snapshot inválido: " + arquivo, e);
+                }
+                invalidas.add(arquivo);
+                continue;
+            }
+            if (!invalidas.isEmpty()) {
+                sistemaDeLogger.warn("Usando o snapshot anterior {}; as alterações gravadas depois dele e antes do "
+                        + "último checkpoint podem ter sido perdidas.", arquivo.getFileName());
+                for (Path invalida : invalidas) {
+                    separarInvalida(invalida);
+                }
+            }
+            apagarGeracoesAnteriores(diretorio, snapshot.getGeracao());
+            return snapshot;
+        }
+        if (falha != null) {
+            throw falha;
+        }
+        return null;
+    }
+
+    private static void separarInvalida(Path arquivo) {
+        try {
+            Files.move(arquivo, arquivo.resolveSibling(arquivo.getFileName() + SUFIXO_CORROMPIDO),
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            sistemaDeLogger.warn("Não foi possível separar o snapshot inválido {}: {}", arquivo.getFileName(), e.getMessage());
+        }
+    }
+
+    private static SnapshotBinario abrir(Path arquivo) throws IOException {
+        MappedByteBuffer mapa;
+        try (FileChannel canal = FileChannel.open(arquivo, StandardOpenOption.READ)) {
+            mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+        if (mapa.limit() < TAMANHO_CABECALHO || mapa.getInt(0) != MAGICO) {
+            throw new IOException("Arquivo de snapshot inválido: " + arquivo);
+        }
+        int versao = mapa.getInt(4);
+        if (versao != VERSAO) {
+            throw new IOException("Versão de snapshot não suportada: " + versao);
+        }
+        long geracao = mapa.getLong(8);
+        int totalRegistros = mapa.getInt(16);
+        int totalBlobs = mapa.getInt(20);
+        int inicioBlobs = Math.toIntExact(mapa.getLong(24));
+        int crcEsperado = mapa.getInt(32);
+
+        CRC32 crc = new CRC32();
+        crc.update(mapa.slice(TAMANHO_CABECALHO, inicioBlobs - TAMANHO_CABECALHO));
+        if ((int) crc.getValue() != crcEsperado) {
+            throw new IOException("Snapshot corrompido (crc dos registros não confere): " + arquivo);
+        }
+
+        List<ByteBuffer> registros = new ArrayList<>(totalRegistros);
+        int posicao = TAMANHO_CABECALHO;
+        for (int i = 0; i < totalRegistros; i++) {
+            int tamanho = mapa.getInt(posicao);
+            registros.add(mapa.slice(posicao + 4, tamanho).asReadOnlyBuffer());
+            posicao += 4 + tamanho;
+        }
+
+        Map<Integer, ByteBuffer> blobs = new HashMap<>(Math.max(16, totalBlobs * 2));
+        posicao = inicioBlobs;
+        for (int i = 0; i < totalBlobs; i++) {
+            int id = mapa.getInt(posicao);
+            int deslocamento = Math.toIntExact(mapa.getLong(posicao + 4));
+            int tamanho = mapa.getInt(posicao + 12);
+            blobs.put(id, mapa.slice(deslocamento, tamanho).asReadOnlyBuffer());
+            posicao += TAMANHO_ENTRADA_BLOB;
+        }
+        sistemaDeLogger.info("Snapshot {} aberto: {} registros e {} fotos.", arquivo.getFileName(), totalRegistros, totalBlobs);
+        return new SnapshotBinario(geracao, registros, blobs);
+    }
+
+    /**
+     * Grava um novo snapshot com a geração informada, confirma-o em disco e o reabre mapeado. Só depois disso as
+     * gerações antigas são apagadas, mantendo-se a anterior.
+     * @param diretorio o diretório de dados.
+     * @param geracao a geração do novo snapshot (maior que a atual).
+     * @param registros os registros de entidade.
+     * @param blobs os bytes das fotos por ID de blob.
+     * @return o snapshot recém-gravado, mapeado.
+     * @throws IOException se não for possível gravar o arquivo.
+     */
+    static SnapshotBinario gravar(Path diretorio, long geracao, Collection<ByteBuffer> registros,
+                                  Map<Integer, ByteBuffer> blobs) throws IOException {
+        long tamanhoRegistros = 0;
+        for (ByteBuffer registro : registros) {
+            tamanhoRegistros += 4 + registro.remaining();
+        }
+        long inicioBlobs = TAMANHO_CABECALHO + tamanhoRegistros;
+        long inicioDados = inicioBlobs + (long) blobs.size() * TAMANHO_ENTRADA_BLOB;
+
+        ByteBuffer corpo = ByteBuffer.allocate(Math.toIntExact(tamanhoRegistros));
+        for (ByteBuffer registro : registros) {
+            corpo.putInt(registro.remaining());
+            corpo.put(registro.duplicate());
+        }
+        corpo.flip();
+        CRC32 crc = new CRC32();
+        crc.update(corpo.duplicate());
+
+        ByteBuffer tabela = ByteBuffer.allocate(blobs.size() * TAMANHO_ENTRADA_BLOB);
+        long deslocamento = inicioDados;
+        for (Map.Entry<Integer, ByteBuffer> blob : blobs.entrySet()) {
+            tabela.putInt(blob.getKey());
+            tabela.putLong(deslocamento);
+            tabela.putInt(blob.getValue().remaining());
+            deslocamento += blob.getValue().remaining();
+        }
+        tabela.flip();
+
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+        cabecalho.putInt(MAGICO);
+        cabecalho.putInt(VERSAO);
+        cabecalho.putLong(geracao);
+        cabecalho.putInt(registros.size());
+        cabecalho.putInt(blobs.size());
+        cabecalho.putLong(inicioBlobs);
+        cabecalho.putInt((int) crc.getValue());
+        cabecalho.putInt(0);
+        cabecalho.flip();
+
+        Path destino = diretorio.resolve(String.format("%s%012d%s", PREFIXO, geracao, SUFIXO));
+        Path temporario = diretorio.resolve(destino.getFileName() + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporario, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            escreverTudo(canal, cabecalho);
+            escreverTudo(canal, corpo);
+            escreverTudo(canal, tabela);
+            for (ByteBuffer blob : blobs.values()) {
+                escreverTudo(canal, blob.duplicate());
+            }
+            canal.force(true);
+        }
+        Files.move(temporario, destino, StandardCopyOption.ATOMIC_MOVE);
+        SnapshotBinario novo = abrir(destino);
+        apagarGeracoesAnteriores(diretorio, geracao);
+        return novo;
+    }
+
+    private static void escreverTudo(FileChannel canal, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            canal.write(buffer);
+        }
+    }
+
+    /**
+     * Apaga os snapshots anteriores à geração que precede a atual: essa é mantida para que a abertura possa recorrer a
+     * ela se a atual estiver corrompida. Em sistemas que não permitem apagar um arquivo ainda mapeado, a remoção é
+     * adiada para a próxima inicialização.
+     */
+    private static void apagarGeracoesAnteriores(Path diretorio, long geracaoAtual) throws IOException {
+        try (DirectoryStream<Path> arquivos = Files.newDirectoryStream(diretorio, PREFIXO + "*")) {
+            for (Path arquivo : arquivos) {
+                String nome = arquivo.getFileName().toString();
+                boolean temporario = nome.endsWith(SUFIXO + ".tmp");
+                if ((temporario || nome.endsWith(SUFIXO)) && (temporario || geracaoDo(arquivo) < geracaoAtual - 1)) {
+                    try {
+                        Files.deleteIfExists(arquivo);
+                    } catch (IOException e) {
+                        sistemaDeLogger.warn("Não foi possível apagar o snapshot antigo {}: {}", nome, e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    private static long geracaoDo(Path arquivo) {
+        String nome = arquivo.getFileName().toString();
+        try {
+            return Long.parseLong(nome.substring(PREFIXO.length(), nome.length() - SUFIXO.length()));
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+}
@@ -1,14 +1,11 @@
 package com.eventually.service;
 
-import com.eventually.model.EventoModel;
 import com.eventually.model.Comunidade;
 import com.eventually.model.UsuarioModel;
-import com.eventually.view.HomeView;
 import javafx.scene.image.Image;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
@@ -26,7 +23,7 @@ public final class UsuarioAtualizacaoService {
 
     private UsuarioCadastroService usuarioCadastroService;
     private UsuarioSessaoService usuarioSessaoService;
-    private EventoLeituraService eventoLeituraService;
+    private PersistenciaService persistenciaService;
     private AlertaService alertaService = new AlertaService();
 
     private static final Logger sistemaDeLogger = LoggerFactory.getLogger(UsuarioAtualizacaoService.class);
@@ -34,7 +31,7 @@ public final class UsuarioAtualizacaoService {
     private UsuarioAtualizacaoService() {
         this.usuarioCadastroService = UsuarioCadastroService.getInstancia();
         this.usuarioSessaoService = UsuarioSessaoService.getInstancia();
-        this.eventoLeituraService = EventoLeituraService.getInstancia();
+        this.persistenciaService = PersistenciaService.getInstancia();
 
         sistemaDeLogger.info("Inicializado e conectado ao UsuarioSessaoService e UsuarioCadastroService.");
     }
@@ -69,6 +66,7 @@ public final class UsuarioAtualizacaoService {
 
         if (usuarioCadastroService.isRegraNomeCumprida(novoNome)) {
             usuarioOpt.get().setNome(novoNome);
+            persistenciaService.registrarUsuario(usuarioOpt.get());
             notificarSucesso("Nome", idUsuario);
             return true;
         } else {
@@ -98,7 +96,11 @@ public final class UsuarioAtualizacaoService {
         }
 
         if (usuarioCadastroService.isRegraEmailCumprida(novoEmail)) {
-            usuarioOpt.get().setEmail(novoEmail);
+            UsuarioModel usuario = usuarioOpt.get();
+            String emailAntigo = usuario.getEmail();
+            usuario.setEmail(novoEmail);
+            usuarioCadastroService.reindexarEmail(emailAntigo, usuario);
+            persistenciaService.registrarUsuario(usuario);
             notificarSucesso("Email", idUsuario);
             return true;
         } else {
@@ -120,6 +122,7 @@ public final class UsuarioAtualizacaoService {
         if (usuarioCadastroService.isRegraSenhaCumprida(novaSenha) != null &&
                 usuarioCadastroService.isRegraSenhaCumprida(novaSenha).values().stream().allMatch(Boolean::booleanValue)) {
             usuarioOpt.get().setSenha(novaSenha);
+            persistenciaService.registrarUsuario(usuarioOpt.get());
             notificarSucesso("Senha", idUsuario);
             return true;
         } else {
@@ -140,6 +143,7 @@ public final class UsuarioAtualizacaoService {
 
         if (usuarioCadastroService.isRegraCidadeCumprida(novaCidade)) {
             usuarioOpt.get().setCidade(novaCidade);
+            persistenciaService.registrarUsuario(usuarioOpt.get());
             notificarSucesso("Cidade", idUsuario);
             return true;
         } else {
@@ -160,6 +164,7 @@ public final class UsuarioAtualizacaoService {
 
         if (usuarioCadastroService.isRegraDataCumprida(novaData)) {
             usuarioOpt.get().setDataNascimento(novaData);
+            persistenciaService.registrarUsuario(usuarioOpt.get());
             notificarSucesso("Data de Nascimento", idUsuario);
             return true;
         } else {
@@ -178,7 +183,8 @@ public final class UsuarioAtualizacaoService {
         Optional<UsuarioModel> usuarioOpt = buscarUsuarioParaAtualizacao(idUsuario);
         if (usuarioOpt.isEmpty()) return false;
         else{
-            usuarioOpt.get().setFoto(novaFoto);
+            usuarioOpt.get().setHashFoto(ArmazemImagens.getInstancia().importar(novaFoto));
+            persistenciaService.registrarUsuario(usuarioOpt.get());
             notificarSucesso("Foto", idUsuario);
             return true;
         }
@@ -200,10 +206,11 @@ public final class UsuarioAtualizacaoService {
     }
 
     /**
-     * Exibe um alerta de sucesso e registra o log.
+     * Publica a alteração no {@link BarramentoEventos}, exibe um alerta de sucesso e registra o log.
      */
     private void notificarSucesso(String campo, int idUsuario) {
         sistemaDeLogger.info("{} do usuário com ID {} alterado(a) com sucesso.", campo, idUsuario);
+        BarramentoEventos.getInstancia().publicar(new EventoDominio.UsuarioAtualizado(idUsuario));
         alertaService.alertarInfo(campo + " alterado(a) com sucesso!");
     }
 
@@ -224,6 +231,7 @@ public final class UsuarioAtualizacaoService {
         try {
             UsuarioModel usuario = usuarioOpt.get();
             usuario.setComunidades(novosTemas);
+            persistenciaService.registrarUsuario(usuario);
 
             sistemaDeLogger.info("Temas do usuário com ID {} atualizados com sucesso.", idUsuario);
             notificarSucesso("Temas", idUsuario);
@@ -234,53 +242,4 @@ public final class UsuarioAtualizacaoService {
             return false;
         }
     }
-
-    public void atualizarEventoParticipado(String email, HomeView.EventoH eventoH) {
-        UsuarioModel usuario = usuarioSessaoService.procurarUsuario(email);
-
-        Optional<EventoModel> eventoOptional = eventoLeituraService.procurarEventoPorId(eventoH.id());
-
-        if (usuario != null && eventoOptional.isPresent()) {
-            EventoModel eventoReal = eventoOptional.get();
-            List<EventoModel> eventosInscritos = usuario.getEventosInscrito();
-
-            if (!eventosInscritos.contains(eventoReal)) {
-                eventosInscritos.add(eventoReal);
-                sistemaDeLogger.info("Evento '{}' adicionado à lista de inscrições do usuário '{}'.", eventoReal.getNome(), email);
-            } else {
-                sistemaDeLogger.warn("Usuário '{}' já estava inscrito no evento '{}'. Nenhuma ação necessária.", email, eventoReal.getNome());
-            }
-
-        } else {
-            if (usuario == null) {
-                sistemaDeLogger.error("Falha ao atualizar evento participado: usuário '{}' não encontrado.", email);
-            }
-            if (eventoOptional.isEmpty()) {
-                sistemaDeLogger.error("Falha ao atualizar evento participado: evento com ID '{}' não encontrado.", eventoH.id());
-            }
-        }
-    }
-
-    /**
-     * Remove a inscrição de um usuário em um evento específico.
-     * Este método atualiza a lista de eventos inscritos do próprio usuário.
-     * @param email o email do usuário cuja inscrição será removida.
-     * @param eventoH o evento (no formato record/DTO) do qual o usuário está se desinscrevendo.
-     */
-    public void removerInscricao(String email, HomeView.EventoH eventoH) {
-        UsuarioSessaoService sessaoService = UsuarioSessaoService.getInstancia();
-        UsuarioModel usuario = sessaoService.procurarUsuario(email);
-
-        if (usuario != null) {
-            List<EventoModel> eventosInscritos = usuario.getEventosInscrito();
-
-            boolean removido = eventosInscritos.removeIf(evento -> evento.getId() == eventoH.id());
-
-            if (removido) {
-                System.out.println("Evento ID " + eventoH.id() + " removido da lista de inscrições do usuário " + email);
-            }
-        } else {
-            System.out.println("Erro: Usuário com email " + email + " não encontrado para remover inscrição.");
-        }
-    }
-}
\ No newline at end of file
+}
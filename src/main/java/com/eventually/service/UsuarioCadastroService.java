@@ -9,6 +9,7 @@ import org.slf4j.LoggerFactory;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -23,15 +24,15 @@ import java.util.regex.Pattern;
 public final class UsuarioCadastroService {
     private static UsuarioCadastroService instancia;
     private EventoCriacaoService eventoCriacaoService;
-    private Set<UsuarioModel> listaUsuarios;
+    private final ArmazemEntidades<UsuarioModel> usuarios;
+    private final Map<String, UsuarioModel> indicePorEmail;
+    private final Set<String> emailsEmCadastro;
 
     private static final Pattern EMAIL_DOMAIN_PATTERN = Pattern.compile("^[a-zA-Z0-9._%+-]{2,}@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,6}$");
     private static final Pattern SPECIAL_CHAR_PATTERN = Pattern.compile("[^a-zA-Z0-9]");
     private static final Pattern DIGIT_PATTERN = Pattern.compile("[0-9]");
     private static final Pattern LETTER_PATTERN = Pattern.compile("[a-zA-Z]");
 
-    private static int proximoId = 1;
-
     private AlertaService alertaService = new AlertaService();
 
     private static final Logger sistemaDeLogger = LoggerFactory.getLogger(UsuarioCadastroService.class);
@@ -40,8 +41,10 @@ public final class UsuarioCadastroService {
      * Construtor que inicializa a lista com um objeto teste do tipo {@link UsuarioModel}.
      */
     private UsuarioCadastroService() {
-        listaUsuarios = new HashSet<>();
-        sistemaDeLogger.info("ServicoCadastroUsuario inicializado e lista de usuários criada. HashSet size: " + listaUsuarios.size());
+        usuarios = new ArmazemEntidades<>();
+        indicePorEmail = new ConcurrentHashMap<>();
+        emailsEmCadastro = ConcurrentHashMap.newKeySet();
+        sistemaDeLogger.info("ServicoCadastroUsuario inicializado e armazém de usuários criado.");
     }
 
     /**
@@ -49,7 +52,7 @@ public final class UsuarioCadastroService {
      * Este método deve ser chamado apenas uma vez no início da aplicação para popular o sistema.
      */
     public void inicializarDadosDeTeste() {
-        if (!listaUsuarios.isEmpty()) {
+        if (!usuarios.isVazio()) {
             sistemaDeLogger.info("Dados de teste já inicializados. Nenhuma ação foi tomada.");
             return;
         }
@@ -70,7 +73,7 @@ public final class UsuarioCadastroService {
 
         UsuarioModel usuarioTesteModel = new UsuarioModel(
                 "gab tav", "gab@gmail.com", "a1234$", "crz",
-                LocalDate.of(2003, 2, 1), null, new ArrayList<>(), new ArrayList<>(),
+                LocalDate.of(2003, 2, 1), null,
                 preferenciasDoUsuario, true
         );
         this.adicionarUsuario(usuarioTesteModel);
@@ -94,21 +97,21 @@ public final class UsuarioCadastroService {
                 usuarioTesteModel, "Conferência Tech Inovação", "Discussão sobre o futuro da tecnologia.",
                 FormatoSelecionado.PRESENCIAL, null, "Centro de Convenções, SP", null, 200,
                 dataDeHoje, horaEspecificaTeste1, amanha, horaEspecificaTeste2,
-                preferenciasEvento, new ArrayList<>(), true, false,  new ArrayList<>()
+                preferenciasEvento, true, false,  new ArrayList<>()
         );
 
         EventoModel evento2 = new EventoModel(
                 usuarioTesteModel, "Workshop de Design UX/UI", "Aprenda na prática os fundamentos de UX.",
                 FormatoSelecionado.ONLINE, "https://zoom.us/j/123456", "Online", null, 50,
                 amanha, LocalTime.of(17, 30), depoisAmanha, LocalTime.of(18, 30),
-                preferenciasEvento1, new ArrayList<>(), true, false,  new ArrayList<>()
+                preferenciasEvento1, true, false,  new ArrayList<>()
         );
 
         EventoModel evento3 = new EventoModel(
                 usuarioTesteModel, "Festival de Música Indie", "Bandas independentes em um evento único.",
                 FormatoSelecionado.HIBRIDO, null, "Parque Ibirapuera, SP", null, 1000,
                 antesOntem, horaEspecificaTeste1, antesOntem, horaEspecificaTeste2,
-                preferenciasEvento2, new ArrayList<>(), true, false,  new ArrayList<>()
+                preferenciasEvento2, true, false,  new ArrayList<>()
         );
 
         LocalTime horaEspecificaTeste3 = LocalTime.of(19, 0);
@@ -133,7 +136,6 @@ public final class UsuarioCadastroService {
                 amanha, // dataFinal
                 horaEspecificaTeste2, // horaFinal
                 preferenciasEventoCorporativo, // comunidades
-                new ArrayList<>(), // participantes (lista vazia)
                 true, // estado (ativo)
                 false, // isFinalizado (ainda não ocorreu)
                 new ArrayList<>() // comentarios (lista vazia)
@@ -157,7 +159,6 @@ public final class UsuarioCadastroService {
                 depoisAmanha, // dataFinal
                 horaEspecificaTeste4, // horaFinal
                 preferenciasEventoReligioso, // comunidades
-                new ArrayList<>(), // participantes
                 true, // estado
                 false, // isFinalizado
                 new ArrayList<>() // comentarios
@@ -181,29 +182,28 @@ public final class UsuarioCadastroService {
                 antesOntem, // dataFinal
                 horaEspecificaTeste3, // horaFinal
                 preferenciasEventoBeneficente, // comunidades
-                new ArrayList<>(), // participantes
                 true, // estado
                 true, // isFinalizado (marcado como finalizado pois a data já passou)
                 new ArrayList<>() // comentarios
         );
 
-        usuarioTesteModel.getEventosOrganizados().add(evento1);
         eventoCriacaoService.adicionarEvento(evento1);
+        usuarioTesteModel.adicionarEventoOrganizado(evento1.getId());
 
-        usuarioTesteModel.getEventosOrganizados().add(evento2);
         eventoCriacaoService.adicionarEvento(evento2);
+        usuarioTesteModel.adicionarEventoOrganizado(evento2.getId());
 
-        usuarioTesteModel.getEventosOrganizados().add(evento3);
         eventoCriacaoService.adicionarEvento(evento3);
+        usuarioTesteModel.adicionarEventoOrganizado(evento3.getId());
 
-        usuarioTesteModel.getEventosOrganizados().add(eventoCorporativo );
-        eventoCriacaoService.adicionarEvento(eventoCorporativo );
+        eventoCriacaoService.adicionarEvento(eventoCorporativo);
+        usuarioTesteModel.adicionarEventoOrganizado(eventoCorporativo.getId());
 
-        usuarioTesteModel.getEventosOrganizados().add(eventoReligioso  );
-        eventoCriacaoService.adicionarEvento(eventoReligioso  );
+        eventoCriacaoService.adicionarEvento(eventoReligioso);
+        usuarioTesteModel.adicionarEventoOrganizado(eventoReligioso.getId());
 
-        usuarioTesteModel.getEventosOrganizados().add(eventoBeneficente   );
-        eventoCriacaoService.adicionarEvento(eventoBeneficente   );
+        eventoCriacaoService.adicionarEvento(eventoBeneficente);
+        usuarioTesteModel.adicionarEventoOrganizado(eventoBeneficente.getId());
 
         sistemaDeLogger.info("Dados de teste criados com sucesso.");
     }
@@ -234,12 +234,7 @@ public final class UsuarioCadastroService {
     public void criarLista() {
         sistemaDeLogger.info("Método criarLista() chamado.");
         try{
-            if (listaUsuarios == null) {
-                listaUsuarios = new HashSet<>();
-                sistemaDeLogger.info("Método criarLista() inicializou a lista de usuários.");
-            } else {
-                sistemaDeLogger.info("Método criarLista() chamado, lista de usuários já está pronta. Tamanho atual: " + listaUsuarios.size());
-            }
+            sistemaDeLogger.info("Método criarLista() chamado, lista de usuários já está pronta. Tamanho atual: " + usuarios.tamanho());
         } catch (RuntimeException e) {
             sistemaDeLogger.error("Erro ao inicializar a lista: "+e.getMessage());
             e.printStackTrace();
@@ -477,8 +472,6 @@ public final class UsuarioCadastroService {
                     dto.localizacaoUsuario(),
                     dto.data(),
                     null,
-                    new ArrayList<>(),
-                    new ArrayList<>(),
                     temasPreferidos,
                     true
             );
@@ -493,33 +486,66 @@ public final class UsuarioCadastroService {
 
     /**
      * Adiciona um novo usuário à lista de usuários após validações e, em caso de falha, exibe uma mensagem no console.
+     * O email é reservado antes de tudo, de modo que um cadastro duplicado é recusado sem consumir um ID; o usuário é
+     * guardado no armazém antes de aparecer no índice de emails, então quem o encontra pelo email também o encontra
+     * pelo ID.
      * @param usuario o objeto {@code UsuarioModel} a ser adicionado.
      * @return {@code true} se o usuário foi adicionado com sucesso, {@code false} caso contrário.
      */
     public boolean adicionarUsuario(UsuarioModel usuario) {
         sistemaDeLogger.info("Método adicionarUsuario() na lista chamado.");
+        String email = null;
+        boolean reservado = false;
         try {
-            usuario.setId(proximoId++);
+            email = normalizarEmail(usuario.getEmail());
+            // a reserva vem antes da consulta ao índice: quem libera a reserva já publicou o usuário no índice
+            reservado = emailsEmCadastro.add(email);
+            if (!reservado) {
+                sistemaDeLogger.info("Usuário não adicionado (o email já está sendo cadastrado).");
+                return false;
+            }
+            if (indicePorEmail.containsKey(email)) {
+                sistemaDeLogger.info("Usuário não adicionado (o email já está cadastrado).");
+                return false;
+            }
 
-            int id = System.identityHashCode(usuario);
+            int id = usuarios.alocarId();
             usuario.setId(id);
-
-            boolean adicionado = listaUsuarios.add(usuario);
-            if (adicionado) {
-                sistemaDeLogger.info("Usuário adicionado com ID: " + id + " | HashSet size: " + listaUsuarios.size());
-            } else {
-                sistemaDeLogger.info("Usuário não adicionado (possivelmente já existe ou houve um problema).");
-            }
-            return adicionado;
+            usuarios.adicionar(id, usuario);
+            indicePorEmail.put(email, usuario);
+            PersistenciaService.getInstancia().registrarUsuario(usuario);
+            sistemaDeLogger.info("Usuário adicionado com ID: " + id + " | Total de usuários: " + usuarios.tamanho());
+            return true;
         } catch (Exception e) {
             sistemaDeLogger.error("Erro inesperado ao adicionar usuário: " + e.getMessage());
             e.printStackTrace();
             return false;
+        } finally {
+            if (reservado) {
+                emailsEmCadastro.remove(email);
+            }
         }
     }
 
     /**
-     * Busca um usuário na lista pelo seu ID e, em caso de falha, exibe uma mensagem no console.
+     * Recoloca na lista um usuário recuperado dos dados salvos, mantendo o ID original, e, em caso de falha, exibe
+     * uma mensagem no console.
+     * @param usuario o usuário restaurado pelo {@link PersistenciaService}.
+     */
+    void restaurarUsuario(UsuarioModel usuario) {
+        try {
+            usuarios.colocar(usuario.getId(), usuario);
+            usuarios.reservarAte(usuario.getId());
+            indicePorEmail.put(normalizarEmail(usuario.getEmail()), usuario);
+        } catch (Exception e) {
+            sistemaDeLogger.error("Erro ao restaurar usuário: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Busca um usuário pelo seu ID no armazém, sem percorrer a lista nem bloquear, e, em caso de falha, exibe uma
+     * mensagem no console.
      * @param id o ID do usuário a ser buscado.
      * @return um {@code Optional} contendo o {@code UsuarioModel} correspondente ao ID,
      * ou um {@code Optional} vazio se não encontrado.
@@ -527,9 +553,7 @@ public final class UsuarioCadastroService {
     public Optional<UsuarioModel> buscarUsuarioPorId(int id) {
         sistemaDeLogger.info("Método buscarUsuarioPorId() chamado.");
         try {
-            return listaUsuarios.stream().
-                    filter(u -> u.getId() == id).
-                    findFirst();
+            return Optional.ofNullable(usuarios.get(id));
         } catch (Exception e) {
             sistemaDeLogger.error("Erro ao retornar a busca de usuario por ID: "+e.getMessage());
             e.printStackTrace();
@@ -538,18 +562,35 @@ public final class UsuarioCadastroService {
     }
 
     /**
-     * Retorna a lista de todos os usuários armazenados e, em caso de falha, exibe uma mensagem no console.
-     * @return Um {@code Set} de objetos {@code UsuarioModel}.
+     * Resolve uma lista de IDs, como os participantes de um evento, nos usuários correspondentes, uma consulta ao
+     * armazém por ID; IDs de usuários que não existem mais são ignorados.
+     * @param ids os IDs dos usuários.
+     * @return uma lista com os usuários encontrados, na ordem dos IDs.
+     */
+    public List<UsuarioModel> buscarUsuariosPorIds(int[] ids) {
+        List<UsuarioModel> encontrados = new ArrayList<>(ids.length);
+        for (int id : ids) {
+            UsuarioModel usuario = usuarios.get(id);
+            if (usuario != null) {
+                encontrados.add(usuario);
+            }
+        }
+        return encontrados;
+    }
+
+    /**
+     * Retorna uma cópia de todos os usuários armazenados e, em caso de falha, exibe uma mensagem no console.
+     * @return Um {@code Set} imutável de objetos {@code UsuarioModel}.
      */
     public Set<UsuarioModel> getAllUsuarios() {
         sistemaDeLogger.info("Método getAllEventos() chamado.");
         try {
-            Set<UsuarioModel> usuarios = Collections.unmodifiableSet(listaUsuarios);
+            Set<UsuarioModel> todos = Collections.unmodifiableSet(new HashSet<>(usuarios.listar()));
             System.out.println("Usuários encontrados:");
-            for (UsuarioModel usuario : usuarios) {
+            for (UsuarioModel usuario : todos) {
                 System.out.println(usuario);
             }
-            return Collections.unmodifiableSet(listaUsuarios);
+            return todos;
         } catch (Exception e) {
             sistemaDeLogger.info("Erro retornar lista: "+e.getMessage());
             e.printStackTrace();
@@ -557,19 +598,49 @@ public final class UsuarioCadastroService {
         }
     }
 
+    /**
+     * Busca um usuário pelo email através do índice de emails normalizados, sem percorrer a lista de usuários.
+     * A comparação não diferencia maiúsculas de minúsculas nem considera espaços nas extremidades.
+     * @param email o email a ser procurado.
+     * @return um {@code Optional} contendo o {@code UsuarioModel} correspondente, ou vazio se não encontrado.
+     */
+    public Optional<UsuarioModel> buscarUsuarioPorEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(indicePorEmail.get(normalizarEmail(email)));
+    }
+
+    /**
+     * Atualiza a entrada do índice de emails depois que o email de um usuário já cadastrado foi alterado.
+     * @param emailAntigo o email anterior à alteração.
+     * @param usuario o usuário, já com o novo email definido.
+     */
+    public void reindexarEmail(String emailAntigo, UsuarioModel usuario) {
+        sistemaDeLogger.info("Método reindexarEmail() chamado.");
+        if (emailAntigo != null) {
+            indicePorEmail.remove(normalizarEmail(emailAntigo), usuario);
+        }
+        indicePorEmail.put(normalizarEmail(usuario.getEmail()), usuario);
+    }
+
+    /**
+     * Converte o email para a forma usada como chave do índice.
+     * @param email o email informado.
+     * @return o email sem espaços nas extremidades e em letras minúsculas.
+     */
+    static String normalizarEmail(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
     /**
      * Valida a regra de negócio que impede e-mails duplicados.
-     * Consulta o banco de dados para verificar a existência do e-mail.
+     * Consulta o índice de emails para verificar a existência do e-mail.
      * @param email O e-mail a ser consultado.
      * @return {@code true} se o e-mail JÁ EXISTE no banco, {@code false} caso contrário.
      */
     private boolean validaSeEmailJaExiste(String email) {
         sistemaDeLogger.info("Validando unicidade do e-mail: " + email);
-
-        Optional<UsuarioModel> usuarioOptional = getAllUsuarios()
-                .stream()
-                .filter(usuario -> usuario.getEmail().equalsIgnoreCase(email))
-                .findFirst();
-        return usuarioOptional.isPresent();
+        return buscarUsuarioPorEmail(email).isPresent();
     }
 }
\ No newline at end of file
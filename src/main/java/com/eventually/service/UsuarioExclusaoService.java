@@ -66,6 +66,7 @@ public final class UsuarioExclusaoService {
             if (usuarioOptional.isPresent()) {
                 UsuarioModel usuario = usuarioOptional.get();
                 usuario.setEstado(novoEstado);
+                PersistenciaService.getInstancia().registrarUsuario(usuario);
                 sistemaDeLogger.info("Estado do usuário com ID " + idUsuario + " alterado para " + (novoEstado ? "ATIVO" : "INATIVO") + ".");
                 alertaService.alertarInfo("Sucesso: Estado do usuário alterado!");
                 return true;
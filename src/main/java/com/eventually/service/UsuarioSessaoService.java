@@ -59,18 +59,17 @@ public final class UsuarioSessaoService {
     }
 
     /**
-     * Este método valida um usuário, criando um objeto para analisar o atributo email e senha fornecidos na interface,
-     * busca na lista de todos os usuários registrados aquele que possui o mesmo atributo e senha do objeto criado e, em
-     * caso de falha, é exibida uma mensagem no console.
+     * Este método valida um usuário, buscando pelo índice de emails aquele que possui o email fornecido na interface
+     * (sem diferenciar maiúsculas de minúsculas) e conferindo a senha e, em caso de falha, é exibida uma mensagem no
+     * console.
      * @return Um {@code Optional} contendo o {@code UsuarioModel} se um usuário com o email e senha fornecidos for
      * encontrado. Se nenhum usuário corresponder aos critérios, retorna um {@code Optional} vazio.
      */
     public ResultadoAutenticacao  validarUsuario(String email, String senha) {
         sistemaDeLogger.info("Método validarUsuario() chamado.");
         try {
-            Optional<UsuarioModel> usuarioAValidar = usuarioCadastroService.getAllUsuarios().stream()
-                    .filter(usuario -> usuario.getEmail().equals(email) && usuario.getSenha().equals(senha))
-                    .findFirst();
+            Optional<UsuarioModel> usuarioAValidar = usuarioCadastroService.buscarUsuarioPorEmail(email)
+                    .filter(usuario -> usuario.getSenha().equals(senha));
 
             if (usuarioAValidar.isEmpty()) {
                 return new ResultadoAutenticacao(StatusLogin.FALHA_CREDENCIAL_INVALIDA, Optional.empty());
@@ -96,10 +95,7 @@ public final class UsuarioSessaoService {
      */
     public UsuarioModel procurarUsuario(String email) {
         try{
-            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.getAllUsuarios()
-                    .stream()
-                    .filter(usuario -> usuario.getEmail().equalsIgnoreCase(email))
-                    .findFirst();
+            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.buscarUsuarioPorEmail(email);
             if (usuarioOptional.isPresent()) {
                 return usuarioOptional.get();
             }
@@ -124,10 +120,7 @@ public final class UsuarioSessaoService {
                 throw new IllegalArgumentException("ID não obtido");
             }
 
-            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.getAllUsuarios()
-                    .stream()
-                    .filter(usuario -> usuario.getEmail().equalsIgnoreCase(email))
-                    .findFirst();
+            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.buscarUsuarioPorEmail(email);
 
             if (usuarioOptional.isPresent()) {
                 return usuarioOptional.get().getId();
@@ -161,7 +154,7 @@ public final class UsuarioSessaoService {
             UsuarioModel usuario = procurarUsuario(email);
 
             if (usuario != null) {
-                return usuario.getEventosOrganizados();
+                return EventoCriacaoService.getInstancia().buscarEventosPorIds(usuario.getIdsEventosOrganizados());
             } else {
                 alertaService.alertarErro("Usuário com o email informado não foi encontrado ao buscar eventos.");
                 return new ArrayList<>();
@@ -192,7 +185,7 @@ public final class UsuarioSessaoService {
             UsuarioModel usuario = procurarUsuario(email);
 
             if (usuario != null) {
-                return usuario.getEventosInscrito();
+                return EventoCriacaoService.getInstancia().buscarEventosPorIds(usuario.getIdsEventosInscrito());
             } else {
                 alertaService.alertarErro("Usuário com o email informado não foi encontrado ao buscar eventos.");
                 return new ArrayList<>();
@@ -218,10 +211,7 @@ public final class UsuarioSessaoService {
                 return null;
             }
 
-            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.getAllUsuarios()
-                    .stream()
-                    .filter(usuario -> usuario.getEmail().equalsIgnoreCase(email))
-                    .findFirst();
+            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.buscarUsuarioPorEmail(email);
 
             if (usuarioOptional.isPresent()) {return usuarioOptional.get().isEstado();}
             else {
@@ -249,10 +239,7 @@ public final class UsuarioSessaoService {
                 return null;
             }
 
-            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.getAllUsuarios()
-                    .stream()
-                    .filter(usuario -> usuario.getEmail().equalsIgnoreCase(email))
-                    .findFirst();
+            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.buscarUsuarioPorEmail(email);
 
             if (usuarioOptional.isPresent()) {return usuarioOptional.get().getNome();}
             else {
@@ -268,15 +255,12 @@ public final class UsuarioSessaoService {
     }
 
     /**
-     * Busca um usuário pelo seu endereço de email.
+     * Busca um usuário pelo seu endereço de email, consultando o índice de emails do {@link UsuarioCadastroService}.
      * @param email o email a ser procurado.
      * @return um Optional contendo o UsuarioModel se encontrado, ou um Optional vazio caso contrário.
      */
     public Optional<UsuarioModel> buscarUsuarioPorEmail(String email) {
-        return usuarioCadastroService.getAllUsuarios()
-                .stream()
-                .filter(usuario -> usuario.getEmail().equalsIgnoreCase(email))
-                .findFirst();
+        return usuarioCadastroService.buscarUsuarioPorEmail(email);
     }
 
     /**
@@ -292,10 +276,7 @@ public final class UsuarioSessaoService {
                 return null;
             }
 
-            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.getAllUsuarios()
-                    .stream()
-                    .filter(usuario -> usuario.getEmail().equalsIgnoreCase(email))
-                    .findFirst();
+            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.buscarUsuarioPorEmail(email);
 
             if (usuarioOptional.isPresent()) {
                 return usuarioOptional.get().getSenha();
@@ -314,16 +295,14 @@ public final class UsuarioSessaoService {
     /**
      * Procura a imagem de uma pessoa dado o seu email e, em caso de falha, é exibida uma mensagem no console.
      * @param email o email do usuário a ser procurado.
+     * @param tamanho o lado, em pixels, do quadrado em que a imagem será exibida.
      * @return a imagem da pessoa ser encontrada, ou {@code null} se não for encontrada.
      */
-    public Image procurarImagem(String email) {
+    public Image procurarImagem(String email, double tamanho) {
         sistemaDeLogger.info("Método procurarImagem() chamado.");
         try{
-            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.getAllUsuarios()
-                    .stream()
-                    .filter(usuario -> usuario.getEmail().equalsIgnoreCase(email))
-                    .findFirst();
-            if (usuarioOptional.isPresent()) {return usuarioOptional.get().getFoto();
+            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.buscarUsuarioPorEmail(email);
+            if (usuarioOptional.isPresent()) {return ArmazemImagens.getInstancia().fotoDoUsuario(usuarioOptional.get(), tamanho);
             } else {
                 alertaService.alertarErro("Usuário com o email informado não foi encontrado.");
                 return null;
@@ -349,10 +328,7 @@ public final class UsuarioSessaoService {
                 return null;
             }
 
-            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.getAllUsuarios()
-                    .stream()
-                    .filter(usuario -> usuario.getEmail().equalsIgnoreCase(email))
-                    .findFirst();
+            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.buscarUsuarioPorEmail(email);
 
             if (usuarioOptional.isPresent()) {
                 return usuarioOptional.get().getCidade();
@@ -381,10 +357,7 @@ public final class UsuarioSessaoService {
                 return null;
             }
 
-            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.getAllUsuarios()
-                    .stream()
-                    .filter(usuario -> usuario.getEmail().equalsIgnoreCase(email))
-                    .findFirst();
+            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.buscarUsuarioPorEmail(email);
 
             if (usuarioOptional.isPresent()) {
                 return usuarioOptional.get().getDataNascimento().toString();
@@ -414,10 +387,7 @@ public final class UsuarioSessaoService {
                 return null;
             }
 
-            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.getAllUsuarios()
-                    .stream()
-                    .filter(usuario -> usuario.getEmail().equalsIgnoreCase(email))
-                    .findFirst();
+            Optional<UsuarioModel> usuarioOptional = usuarioCadastroService.buscarUsuarioPorEmail(email);
 
             if (usuarioOptional.isPresent()) {
                 return usuarioOptional.get().getComunidades();
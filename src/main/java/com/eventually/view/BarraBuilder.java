@@ -1,5 +1,6 @@
 package com.eventually.view;
 
+import com.eventually.service.RecursosCompartilhados;
 import com.eventually.service.TelaService;
 import javafx.beans.property.ReadOnlyDoubleWrapper;
 import javafx.geometry.Insets;
@@ -45,7 +46,7 @@ public class BarraBuilder {
         barraSuperior.setPrefWidth(telaService.medirWidth());
         barraSuperior.getStyleClass().add("topbar");
 
-        Image logoImagem = new Image(getClass().getResourceAsStream("/images/eventually-logo.png"));
+        Image logoImagem = RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.LOGO);
         ImageView logoView = new ImageView(logoImagem);
 
         logoView.setFitHeight(50);
@@ -24,7 +24,7 @@ import java.util.concurrent.Flow;
  */
 public class EventoHCartao extends VBox {
     private static final double CARD_WIDTH = 400;
-    private static final double CARD_HEIGHT = 280;
+    static final double CARD_HEIGHT = 280;
     private static final double IMAGE_HEIGHT = 200;
 
     private ImageView imagemEventoView;
@@ -119,8 +119,12 @@ public class EventoHCartao extends VBox {
             this.tagsPane.getChildren().add(tagLabel);
         }
     }
+    /**
+     * Define a imagem do card; {@code null} limpa a imagem anterior, já que o card pode ser reaproveitado para outro
+     * evento.
+     */
     public void setImagem(Image imagem) {
-        if(this.imagemEventoView != null &&  imagem != null ) {
+        if(this.imagemEventoView != null) {
             this.imagemEventoView.setImage(imagem);
         }
     }
@@ -1,10 +1,12 @@
 package com.eventually.view;
 
 import com.eventually.controller.HomeController;
-import com.eventually.model.UsuarioModel;
+import com.eventually.service.ArmazemImagens;
+import com.eventually.service.OrdenacaoEventosService;
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
-import javafx.scene.Cursor;
 import javafx.scene.control.*;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
@@ -12,6 +14,7 @@ import javafx.scene.layout.*;
 import javafx.scene.shape.Circle;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -31,17 +34,27 @@ public class HomeView extends BorderPane {
     private BarraBuilder barraBuilder;
 
     private Button btnCriarEvento, btnFiltros;
+    private TextField campoBusca;
+    private ComboBox<OrdenacaoEventosService.Ordenacao> cbOrdenacao;
+
+    private static final int LINHAS_DE_ANTECEDENCIA = 2;
+    private Runnable aoAproximarDoFim;
+    private boolean carregamentoPedido;
 
     private Label lbNomeUsuario, lbEmailUsuario;
     private ImageView avatarView;
 
     private Label lbSaudacao;
 
-    private ScrollPane scrollEventos;
-    private GridPane gridEventos;
+    private ListView<List<EventoH>> listaEventos;
 
     private FlowPane flowPaneTags;
 
+    /**
+     * Dados de um evento prontos para exibição nos cartões e nos modais. O registro é imutável e leve: guarda apenas a
+     * quantidade de inscritos e o hash da capa; a lista de participantes e a imagem decodificada são buscadas pelo ID
+     * do evento quando o modal que as exibe é aberto.
+     */
     public record EventoH(
             int id,
             String titulo,
@@ -49,13 +62,12 @@ public class HomeView extends BorderPane {
             String dataHoraInicio,
             String dataHoraFim,
             String categoria,
-            Image imagem,
+            String hashFoto,
             String descricao,
             int inscritos,
             int capacidade,
             String formato,
             Set<String> preferencias,
-            List<UsuarioModel> participantes,
             String linkAcesso,
             LocalDate dataI,
             LocalDate dataF,
@@ -107,8 +119,7 @@ public class HomeView extends BorderPane {
         lbEmailUsuario = new Label();
         lbEmailUsuario.getStyleClass().add("user-display-label");
 
-        Image avatarImage = new Image(getClass().getResourceAsStream("/images/icone-padrao-usuario.png"));
-        avatarView = new ImageView(avatarImage);
+        avatarView = new ImageView(ArmazemImagens.getInstancia().fotoDoUsuario(null, ArmazemImagens.TAMANHO_AVATAR));
         avatarView.setFitWidth(40);
         avatarView.setFitHeight(40);
         avatarView.setPreserveRatio(true);
@@ -140,100 +151,111 @@ public class HomeView extends BorderPane {
         btnFiltros = new Button("🔍 Filtros");
         btnFiltros.getStyleClass().add("filters-button");
 
+        campoBusca = new TextField();
+        campoBusca.setPromptText("Buscar eventos...");
+        campoBusca.getStyleClass().add("search-field");
+        campoBusca.setPrefWidth(260);
+
         flowPaneTags = new FlowPane(5, 10);
         flowPaneTags.setAlignment(Pos.CENTER_LEFT);
 
         Region spacer = new Region();
         HBox.setHgrow(spacer, Priority.ALWAYS);
 
+        cbOrdenacao = new ComboBox<>();
+        cbOrdenacao.getItems().addAll(OrdenacaoEventosService.Ordenacao.values());
+        cbOrdenacao.setValue(OrdenacaoEventosService.Ordenacao.DATA_INICIO);
+        cbOrdenacao.getStyleClass().add("sort-combo");
+
         btnCriarEvento = new Button("+ Criar evento");
         btnCriarEvento.getStyleClass().add("create-event-button");
 
         areaFiltros.getChildren().addAll(
                 btnFiltros,
+                campoBusca,
                 flowPaneTags,
                 spacer,
+                cbOrdenacao,
                 btnCriarEvento
         );
         return areaFiltros;
     }
 
     /**
-     * Este método cria o grid de eventoHS que será exibido na área principal.
-     * Os eventoHS são organizados em uma grade de 4 colunas.
-     * @return um componente ScrollPane contendo o grid de eventoHS
+     * Este método cria a grade de eventos exibida na área principal, com 3 colunas.
+     * A grade é uma {@code ListView} virtualizada em que cada item é uma linha de eventos: só existem células (e
+     * cartões) para as linhas visíveis, e elas são reaproveitadas durante a rolagem.
+     * @return a {@code ListView} com as linhas de eventos
      */
-    private ScrollPane criarGridEventos() {
-        gridEventos = new GridPane();
-        gridEventos.setPadding(new Insets(0, 10, 20, 10));
-        gridEventos.setHgap(30);
-        gridEventos.setVgap(25);
-        gridEventos.getStyleClass().add("events-grid");
-
-        gridEventos.getColumnConstraints().clear();
-
-        ColumnConstraints col1 = new ColumnConstraints();
-        col1.setMaxWidth(400);
-        ColumnConstraints col2 = new ColumnConstraints();
-        col2.setMaxWidth(400);
-        ColumnConstraints col3 = new ColumnConstraints();
-        col3.setMaxWidth(400);
-
-        gridEventos.getColumnConstraints().addAll(col1, col2, col3);
-
-        scrollEventos = new ScrollPane(gridEventos);
-        scrollEventos.setFitToWidth(true);
-        scrollEventos.getStyleClass().add("events-scroll-pane");
-        scrollEventos.setHbarPolicy(ScrollPane.ScrollBarPolicy.NEVER);
-        scrollEventos.setVbarPolicy(ScrollPane.ScrollBarPolicy.AS_NEEDED);
-
-        return scrollEventos;
+    private ListView<List<EventoH>> criarGridEventos() {
+        listaEventos = new ListView<>();
+        listaEventos.getStyleClass().addAll("events-list", "events-scroll-pane");
+        listaEventos.getStylesheets().add(getClass().getResource("/styles/event-h-card.css").toExternalForm());
+        listaEventos.setFixedCellSize(EventoHCartao.CARD_HEIGHT + LinhaEventosCelula.ESPACO_VERTICAL);
+        listaEventos.setFocusTraversable(false);
+        listaEventos.setCellFactory(lista -> new LinhaEventosCelula(eventoH -> homeController.abrir(eventoH), this::linhaExibida));
+
+        Label placeholder = new Label("Nenhum evento disponível no momento.");
+        placeholder.getStyleClass().add("placeholder-label");
+        listaEventos.setPlaceholder(placeholder);
+
+        return listaEventos;
     }
 
     /**
-     * Limpa o grid e exibe os eventoHS fornecidos.
-     * Este método é chamado pelo HomeController para popular a interface.
+     * Exibe os eventoHS fornecidos, agrupados em linhas de 3.
+     * Este método é chamado pelo HomeController para popular a interface. Em vez de substituir todas as linhas, a
+     * nova lista é comparada com a exibida: apenas as linhas cujo conteúdo mudou são trocadas e as linhas excedentes
+     * são removidas ou acrescentadas no final, o que preserva a posição da rolagem. Dentro de cada linha, a célula só
+     * revincula os cartões cujo evento mudou.
      * @param eventoHS A lista de eventoHS a serem exibidos.
      */
     public void setEventos(List<EventoH> eventoHS) {
-        gridEventos.getChildren().clear();
-
-        if (eventoHS == null || eventoHS.isEmpty()) {
-            Label placeholder = new Label("Nenhum evento disponível no momento.");
-            placeholder.getStyleClass().add("placeholder-label");
-            StackPane placeholderPane = new StackPane(placeholder);
-            placeholderPane.setAlignment(Pos.CENTER);
-            gridEventos.add(placeholderPane, 0, 0, 3, 1);
-            return;
+        ObservableList<List<EventoH>> linhasAtuais = listaEventos.getItems();
+        List<List<EventoH>> novasLinhas = agruparEmLinhas(eventoHS == null ? List.of() : eventoHS);
+
+        int emComum = Math.min(linhasAtuais.size(), novasLinhas.size());
+        for (int i = 0; i < emComum; i++) {
+            if (!linhasAtuais.get(i).equals(novasLinhas.get(i))) {
+                linhasAtuais.set(i, novasLinhas.get(i));
+            }
         }
+        if (linhasAtuais.size() > novasLinhas.size()) {
+            linhasAtuais.remove(novasLinhas.size(), linhasAtuais.size());
+        } else if (novasLinhas.size() > emComum) {
+            linhasAtuais.addAll(novasLinhas.subList(emComum, novasLinhas.size()));
+        }
+    }
 
-        for (int i = 0; i < eventoHS.size(); i++) {
-            EventoH eventoH = eventoHS.get(i);
-
-            EventoHCartao cardEvento = new EventoHCartao();
-            cardEvento.getStylesheets().add(getClass().getResource("/styles/event-h-card.css").toExternalForm());
-
-            cardEvento.setLblTitulo(eventoH.titulo());
-            cardEvento.setLblLocal(eventoH.local());
-
-            cardEvento.setLblDataHoraInicio(eventoH.dataHoraInicio());
-            cardEvento.setLblDataHoraFim(eventoH.dataHoraFim());
-
-            cardEvento.setTags(eventoH.preferencias());
-
-            cardEvento.setImagem(eventoH.imagem());
-
-            cardEvento.setCursor(Cursor.HAND);
+    /**
+     * Define a ação executada quando uma das últimas linhas da grade é exibida, para que o controlador carregue a
+     * próxima página de eventos.
+     */
+    public void setAoAproximarDoFim(Runnable aoAproximarDoFim) {this.aoAproximarDoFim = aoAproximarDoFim;}
 
-            HomeView.EventoH eventocartaodavez= eventoHS.get(i);
-            cardEvento.setOnMouseClicked(event -> {
-                homeController.abrir(eventocartaodavez);
-            });
+    /**
+     * Chamado pelas células ao exibir uma linha. O pedido de mais eventos é adiado para depois do layout atual (a
+     * lista não pode ser alterada enquanto as células são atualizadas) e pedidos repetidos até lá são ignorados.
+     */
+    void linhaExibida(int indice) {
+        if (aoAproximarDoFim == null || carregamentoPedido
+                || indice < listaEventos.getItems().size() - LINHAS_DE_ANTECEDENCIA) {
+            return;
+        }
+        carregamentoPedido = true;
+        Platform.runLater(() -> {
+            carregamentoPedido = false;
+            aoAproximarDoFim.run();
+        });
+    }
 
-            int row = i / 3;
-            int col = i % 3;
-            gridEventos.add(cardEvento, col, row);
+    private static List<List<EventoH>> agruparEmLinhas(List<EventoH> eventoHS) {
+        int colunas = LinhaEventosCelula.COLUNAS;
+        List<List<EventoH>> linhas = new ArrayList<>((eventoHS.size() + colunas - 1) / colunas);
+        for (int inicio = 0; inicio < eventoHS.size(); inicio += colunas) {
+            linhas.add(List.copyOf(eventoHS.subList(inicio, Math.min(inicio + colunas, eventoHS.size()))));
         }
+        return linhas;
     }
 
     /**
@@ -244,7 +266,7 @@ public class HomeView extends BorderPane {
     private VBox criarContainerCentral() {
         HBox cabecalhoPrincipal = criarCabecalhoPrincipal();
         HBox areaFiltros = criarAreaFiltros();
-        ScrollPane gridEventosPane = criarGridEventos();
+        ListView<List<EventoH>> gridEventosPane = criarGridEventos();
 
         VBox centerContent = new VBox(0);
         centerContent.getStyleClass().add("center-content-area");
@@ -267,6 +289,8 @@ public class HomeView extends BorderPane {
 
     public Button getBtnCriarEvento() { return btnCriarEvento; }
     public Button getBtnFiltros() { return btnFiltros; }
+    public TextField getCampoBusca() { return campoBusca; }
+    public ComboBox<OrdenacaoEventosService.Ordenacao> getCbOrdenacao() { return cbOrdenacao; }
 
     public void setAvatarImagem(Image avatarImagem) {if(this.avatarView != null && avatarImagem != null) {this.avatarView.setImage(avatarImagem);}}
 }
\ No newline at end of file
@@ -0,0 +1,132 @@
+package com.eventually.view;
+
+import com.eventually.service.ArmazemImagens;
+import com.eventually.service.RecursosCompartilhados;
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.Cursor;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ListCell;
+import javafx.scene.image.Image;
+import javafx.scene.layout.HBox;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * Célula da lista virtualizada da {@link HomeView}: cada célula é uma linha da grade com até
+ * {@link #COLUNAS} cartões de evento.
+ * Os {@link EventoHCartao} são criados uma única vez, junto da célula, e apenas revinculados aos dados da linha
+ * quando a {@code ListView} reaproveita a célula durante a rolagem; assim, o número de cartões existentes acompanha
+ * as linhas visíveis (mais uma pequena margem), e não a quantidade de eventos. Um cartão que já exibe o mesmo evento,
+ * com os mesmos dados, não é revinculado. As capas são lidas e decodificadas em segundo plano, com a capa padrão no
+ * lugar até a carga terminar, para que a rolagem não espere o disco.
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+final class LinhaEventosCelula extends ListCell<List<HomeView.EventoH>> {
+    static final int COLUNAS = 3;
+    static final double ESPACO_HORIZONTAL = 30;
+    static final double ESPACO_VERTICAL = 25;
+
+    private final EventoHCartao[] cartoes = new EventoHCartao[COLUNAS];
+    private final HomeView.EventoH[] vinculados = new HomeView.EventoH[COLUNAS];
+    private final HBox linha = new HBox(ESPACO_HORIZONTAL);
+    private final IntConsumer aoExibir;
+
+    /**
+     * @param aoAbrir ação executada ao clicar em um cartão, recebendo o evento vinculado a ele.
+     * @param aoExibir ação executada sempre que a célula passa a exibir uma linha, recebendo o índice dela; usada para
+     *                 carregar a próxima página quando as últimas linhas aparecem.
+     */
+    LinhaEventosCelula(Consumer<HomeView.EventoH> aoAbrir, IntConsumer aoExibir) {
+        this.aoExibir = aoExibir;
+        linha.setAlignment(Pos.TOP_CENTER);
+        linha.setPadding(new Insets(0, 0, ESPACO_VERTICAL, 0));
+        for (int i = 0; i < COLUNAS; i++) {
+            final int coluna = i;
+            EventoHCartao cartao = new EventoHCartao();
+            cartao.setCursor(Cursor.HAND);
+            cartao.setOnMouseClicked(event -> {
+                if (vinculados[coluna] != null) {
+                    aoAbrir.accept(vinculados[coluna]);
+                }
+            });
+            cartoes[i] = cartao;
+            linha.getChildren().add(cartao);
+        }
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+    }
+
+    /**
+     * Revincula os cartões da célula aos eventos da linha. Colunas sem evento (última linha incompleta) ficam
+     * invisíveis, mas continuam ocupando o espaço para manter o alinhamento da grade.
+     */
+    @Override
+    protected void updateItem(List<HomeView.EventoH> eventos, boolean vazio) {
+        super.updateItem(eventos, vazio);
+        if (vazio || eventos == null) {
+            for (int i = 0; i < COLUNAS; i++) {
+                vinculados[i] = null;
+            }
+            setGraphic(null);
+            return;
+        }
+        for (int i = 0; i < COLUNAS; i++) {
+            EventoHCartao cartao = cartoes[i];
+            HomeView.EventoH eventoH = i < eventos.size() ? eventos.get(i) : null;
+            if (eventoH != null && eventoH.equals(vinculados[i])) {
+                continue;
+            }
+            vinculados[i] = eventoH;
+            cartao.setVisible(eventoH != null);
+            if (eventoH == null) {
+                cartao.setImagem(null);
+                continue;
+            }
+            cartao.setLblTitulo(eventoH.titulo());
+            cartao.setLblLocal(eventoH.local());
+            cartao.setLblDataHoraInicio(eventoH.dataHoraInicio());
+            cartao.setLblDataHoraFim(eventoH.dataHoraFim());
+            cartao.setTags(eventoH.preferencias());
+            exibirCapa(i, eventoH);
+        }
+        setGraphic(linha);
+        aoExibir.accept(getIndex());
+    }
+
+    /**
+     * Mostra a capa padrão enquanto a capa do evento é lida e decodificada em segundo plano e a troca quando a carga
+     * termina, desde que o cartão ainda exiba o mesmo evento.
+     */
+    private void exibirCapa(int coluna, HomeView.EventoH eventoH) {
+        Image capa = ArmazemImagens.getInstancia().capaEmSegundoPlano(eventoH.hashFoto());
+        if (capa != null && capa.getProgress() >= 1 && !capa.isError()) {
+            cartoes[coluna].setImagem(capa);
+            return;
+        }
+        cartoes[coluna].setImagem(RecursosCompartilhados.getInstancia().getFotoPadraoEvento());
+        if (capa == null || capa.isError()) {
+            return;
+        }
+        InvalidationListener aoCarregar = new InvalidationListener() {
+            @Override
+            public void invalidated(Observable observado) {
+                if (!capa.isError() && capa.getProgress() < 1) {
+                    return;
+                }
+                capa.progressProperty().removeListener(this);
+                capa.errorProperty().removeListener(this);
+                if (!capa.isError() && eventoH.equals(vinculados[coluna])) {
+                    cartoes[coluna].setImagem(capa);
+                }
+            }
+        };
+        capa.progressProperty().addListener(aoCarregar);
+        capa.errorProperty().addListener(aoCarregar);
+    }
+}
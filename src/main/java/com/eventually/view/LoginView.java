@@ -1,5 +1,6 @@
 package com.eventually.view;
 
+import com.eventually.service.RecursosCompartilhados;
 import com.eventually.service.TelaService;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -78,7 +79,7 @@ public class LoginView extends BorderPane {
      */
     private void setupBackground() {
         try {
-            Image backgroundImage = new Image(getClass().getResource("/images/crowd-background.jpg").toExternalForm());
+            Image backgroundImage = RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.FUNDO);
             BackgroundImage background = new BackgroundImage(
                     backgroundImage,
                     BackgroundRepeat.NO_REPEAT,
@@ -132,7 +133,7 @@ public class LoginView extends BorderPane {
 
         ImageView logoImageView = new ImageView();
         try {
-            Image logoImage = new Image(getClass().getResource("/images/eventually-logo.png").toExternalForm());
+            Image logoImage = RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.LOGO);
             logoImageView.setImage(logoImage);
             logoImageView.setFitWidth(350);
             logoImageView.setPreserveRatio(true);
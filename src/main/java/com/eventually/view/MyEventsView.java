@@ -2,6 +2,7 @@ package com.eventually.view;
 
 import com.eventually.controller.MyEventsController;
 import com.eventually.model.UsuarioModel;
+import com.eventually.service.ArmazemImagens;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
@@ -127,9 +128,7 @@ public class MyEventsView extends BorderPane {
         userInfoText.setAlignment(Pos.CENTER_LEFT);
         userInfoText.getChildren().addAll(lbNomeUsuario, lbEmailUsuario);
 
-        Image avatarImage = new Image(getClass().getResourceAsStream("/images/icone-padrao-usuario.png"));
-        avatarView = new ImageView(avatarImage);
-        avatarView = new ImageView();
+        avatarView = new ImageView(ArmazemImagens.getInstancia().fotoDoUsuario(null, ArmazemImagens.TAMANHO_AVATAR));
         avatarView.setFitWidth(40);
         avatarView.setFitHeight(40);
         avatarView.setPreserveRatio(true);
@@ -229,6 +228,7 @@ public class MyEventsView extends BorderPane {
      */
     public BarraBuilder getBarraBuilder() {return barraBuilder;}
     public VBox getListaEventos() { return listaEventos; }
+    public ScrollPane getScrollEventos() { return scrollEventos; }
 
     public ToggleGroup getGroupFiltroEventos() {return groupFiltroEventos;}
 
@@ -1,6 +1,7 @@
 package com.eventually.view;
 
 import com.eventually.controller.RegisterController;
+import com.eventually.service.RecursosCompartilhados;
 import com.eventually.service.TelaService;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -97,7 +98,7 @@ public class RegisterView extends BorderPane {
      */
     private void setupBackgroundRegister() {
         try {
-            Image backgroundImage = new Image(getClass().getResource("/images/crowd-background.jpg").toExternalForm());
+            Image backgroundImage = RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.FUNDO);
             BackgroundImage background = new BackgroundImage(
                     backgroundImage,
                     BackgroundRepeat.NO_REPEAT,
@@ -0,0 +1,48 @@
+package com.eventually.view;
+
+import javafx.scene.control.ScrollPane;
+
+/**
+ * Carregamento incremental em um {@link ScrollPane}: quando a rolagem se aproxima do fim do conteúdo, a ação de
+ * carregar mais itens é executada, e a posição visível é mantida em pixels depois que o conteúdo cresce (o
+ * {@code ScrollPane} guarda a posição como fração da altura, o que faria a tela saltar para o fim dos itens novos).
+ * @author Gabriella Tavares Costa Corrêa
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class RolagemIncremental {
+    private static final double LIMIAR = 0.9;
+
+    private RolagemIncremental() {}
+
+    /**
+     * @param rolagem o painel de rolagem da listagem.
+     * @param carregarMais a ação que acrescenta a próxima página ao conteúdo do painel.
+     */
+    public static void instalar(ScrollPane rolagem, Runnable carregarMais) {
+        boolean[] carregando = {false};
+        rolagem.vvalueProperty().addListener((obs, anterior, atual) -> {
+            if (carregando[0] || rolagem.getContent() == null
+                    || atual.doubleValue() < rolagem.getVmin() + (rolagem.getVmax() - rolagem.getVmin()) * LIMIAR) {
+                return;
+            }
+            carregando[0] = true;
+            try {
+                double alturaVisivel = rolagem.getViewportBounds().getHeight();
+                double alturaAntes = rolagem.getContent().getBoundsInLocal().getHeight();
+                double deslocamento = atual.doubleValue() * Math.max(0, alturaAntes - alturaVisivel);
+
+                carregarMais.run();
+
+                rolagem.getContent().applyCss();
+                rolagem.layout();
+                double alturaDepois = rolagem.getContent().getBoundsInLocal().getHeight();
+                if (alturaDepois > alturaAntes && alturaDepois > alturaVisivel) {
+                    rolagem.setVvalue(deslocamento / (alturaDepois - alturaVisivel));
+                }
+            } finally {
+                carregando[0] = false;
+            }
+        });
+    }
+}
@@ -3,6 +3,7 @@ package com.eventually.view;
 
 import com.eventually.controller.UserScheduleController;
 import com.eventually.model.UsuarioModel;
+import com.eventually.service.ArmazemImagens;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Label;
@@ -120,8 +121,7 @@ public class UserScheduleView extends BorderPane {
         userInfoText.setAlignment(Pos.CENTER_LEFT);
         userInfoText.getChildren().addAll(lbNomeUsuario, lbEmailUsuario);
 
-        Image avatarImage = new Image(getClass().getResourceAsStream("/images/icone-padrao-usuario.png"));
-        avatarView = new ImageView(avatarImage);
+        avatarView = new ImageView(ArmazemImagens.getInstancia().fotoDoUsuario(null, ArmazemImagens.TAMANHO_AVATAR));
         avatarView.setFitWidth(40);
         avatarView.setFitHeight(40);
         avatarView.setPreserveRatio(true);
@@ -254,6 +254,7 @@ public class UserScheduleView extends BorderPane {
     public ToggleGroup getGrupoDatas() { return grupoDatas; }
     public HBox getSeletorDataContainer() { return seletorDataContainer; }
     public VBox getListaEventos() { return listaEventos; }
+    public ScrollPane getScrollEventos() { return scrollEventos; }
     public void setNomeUsuario(String nome) { if (nome != null) this.lbNomeUsuario.setText(nome); }
     public void setEmailUsuario(String email) { if (email != null) this.lbEmailUsuario.setText(email); }
 }
\ No newline at end of file
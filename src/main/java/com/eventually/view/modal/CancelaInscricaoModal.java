@@ -1,5 +1,6 @@
 package com.eventually.view.modal;
 
+import com.eventually.service.RecursosCompartilhados;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -36,7 +37,7 @@ public class CancelaInscricaoModal {
         modalStage.initModality(Modality.APPLICATION_MODAL);
         modalStage.initOwner(parentStage);
         modalStage.initStyle(StageStyle.TRANSPARENT);
-        modalStage.getIcons().add(new Image(getClass().getResource("/images/app-icon.png").toExternalForm()));
+        modalStage.getIcons().add(RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.ICONE_APP));
 
         final double MODAL_WIDTH = 400;
         final double MODAL_HEIGHT = 250;
@@ -3,11 +3,15 @@ package com.eventually.view.modal;
 import com.eventually.model.ComentarioModel;
 import com.eventually.model.EventoModel;
 import com.eventually.model.UsuarioModel;
+import com.eventually.service.ArmazemImagens;
+import com.eventually.service.BarramentoEventos;
 import com.eventually.service.ComentarioService;
+import com.eventually.service.EventoDominio;
 import com.eventually.service.UsuarioSessaoService;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
+import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.scene.shape.Circle;
@@ -37,6 +41,14 @@ public class ComentarioModal extends VBox {
         this.listaComentariosVBox = new VBox(15);
 
         setupUI();
+
+        BarramentoEventos.getInstancia().assinarPorPulso(mudancas -> {
+            boolean desteEvento = mudancas.stream().anyMatch(mudanca ->
+                    ((EventoDominio.ComentarioAdicionado) mudanca).idEvento() == evento.getId());
+            if (desteEvento) {
+                atualizarListaDeComentarios();
+            }
+        }, EventoDominio.ComentarioAdicionado.class).encerrarCom(this);
     }
 
     private void setupUI() {
@@ -110,8 +122,6 @@ public class ComentarioModal extends VBox {
 
         ComentarioModel novoComentario = new ComentarioModel(texto, autor, evento);
         comentarioService.adicionarComentario(evento, novoComentario);
-
-        atualizarListaDeComentarios();
     }
 
     private void excluirComentario(ComentarioModel comentario) {
@@ -137,7 +147,7 @@ public class ComentarioModal extends VBox {
     private VBox criarCardComentario(ComentarioModel comentario) {
         UsuarioModel usuarioLogado = sessaoService.procurarUsuario(email);
 
-        ImageView fotoAutorView = new ImageView(comentario.getAutor().getFoto());
+        ImageView fotoAutorView = new ImageView(ArmazemImagens.getInstancia().fotoDoUsuario(comentario.getAutor(), ArmazemImagens.TAMANHO_AVATAR));
         configurarFotoCircular(fotoAutorView, 40);
 
         Label lblNomeAutor = new Label(comentario.getAutor().getNome());
@@ -163,9 +173,9 @@ public class ComentarioModal extends VBox {
             if (usuarioLogado == null) return;
 
             if (btnCurtir.isSelected()) {
-                comentario.curtir(usuarioLogado);
+                comentarioService.curtirComentario(comentario, usuarioLogado);
             } else {
-                comentario.descurtir(usuarioLogado);
+                comentarioService.descurtirComentario(comentario, usuarioLogado);
             }
             lblContadorCurtidas.setText(String.valueOf(comentario.getCurtidas()));
         });
@@ -192,9 +202,10 @@ public class ComentarioModal extends VBox {
         lblTexto.getStyleClass().add("comment-text");
 
         VBox card = new VBox(8, autorInfo, lblTexto);
-        if (comentario.getFotoAnexada() != null) {
-            ImageView fotoAnexadaView = new ImageView(comentario.getFotoAnexada());
-            fotoAnexadaView.setFitWidth(380);
+        Image fotoAnexada = ArmazemImagens.getInstancia().fotoAnexadaDo(comentario);
+        if (fotoAnexada != null) {
+            ImageView fotoAnexadaView = new ImageView(fotoAnexada);
+            fotoAnexadaView.setFitWidth(ArmazemImagens.LARGURA_ANEXO);
             fotoAnexadaView.setPreserveRatio(true);
             card.getChildren().add(fotoAnexadaView);
         }
@@ -1,5 +1,6 @@
 package com.eventually.view.modal;
 
+import com.eventually.service.ArmazemImagens;
 import com.eventually.view.HomeView;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
@@ -129,7 +130,7 @@ public class CompartilharEventoModal extends Parent {
 
         Label lbImagemTitulo = new Label("Imagem do Evento");
         lbImagemTitulo.getStyleClass().add("subtitle-label-modal");
-        ImageView imgPreview = new ImageView(evento.imagem());
+        ImageView imgPreview = new ImageView(ArmazemImagens.getInstancia().fotoDoEvento(evento.hashFoto()));
         imgPreview.setFitWidth(320);
         imgPreview.setFitHeight(200);
         imgPreview.setPreserveRatio(true);
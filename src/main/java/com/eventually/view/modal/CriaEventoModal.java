@@ -2,6 +2,7 @@ package com.eventually.view.modal;
 
 import com.eventually.controller.CriaEventoController;
 import javafx.application.Platform;
+import com.eventually.service.RecursosCompartilhados;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Node;
@@ -52,16 +53,6 @@ public class CriaEventoModal extends Parent {
 
     private CriaEventoController eventController;
 
-    static {
-        try {
-            Font.loadFont(CriaEventoModal.class.getResource("/fonts/Poppins-Regular.ttf").toExternalForm(), 10);
-            Font.loadFont(CriaEventoModal.class.getResource("/fonts/Poppins-Bold.ttf").toExternalForm(), 10);
-        } catch (Exception e) {
-            System.err.println("Fonte Poppins não encontrada. Usando fontes padrão.");
-            e.printStackTrace();
-        }
-    }
-
     /**
      * Construtor padrão da classe.
      */
@@ -231,7 +222,7 @@ public class CriaEventoModal extends Parent {
 
         VBox vbPreview = new VBox();
         vbPreview.setAlignment(Pos.CENTER_LEFT);
-        Image provisoria = new Image(getClass().getResourceAsStream("/images/upload-icon.png"));
+        Image provisoria = RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.ICONE_UPLOAD);
         imgPreview = new ImageView(provisoria);
         imgPreview.setFitWidth(160);
         imgPreview.setFitHeight(100);
@@ -1,6 +1,7 @@
 package com.eventually.view.modal;
 import com.eventually.controller.EsqueceuSenhaController;
 import com.eventually.controller.LoginController;
+import com.eventually.service.RecursosCompartilhados;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Parent;
@@ -68,7 +69,7 @@ public class EsqueceuSenhaModal extends Parent {
         rect.setArcHeight(20);
         layout.setClip(rect);
 
-        Image cadeadoImg = new Image(getClass().getResource("/images/cadeado.png").toExternalForm());
+        Image cadeadoImg = RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.CADEADO);
         ImageView cadeadoView = new ImageView(cadeadoImg);
 
         cadeadoView.setFitWidth(100);
@@ -36,6 +36,8 @@ public class EventoModal extends Parent {
 
     private Button btnInscrever;
     private Button btnCancelarInscricao;
+    private Button btnListaEspera;
+    private Button btnSorteio;
     private Button btnVerParticipantes, btnComentarios, btnCompartilhar;
     private Button btnEditar;
     private Button btnExcluir;
@@ -149,6 +151,15 @@ public class EventoModal extends Parent {
         btnCancelarInscricao.getStyleClass().add("modal-close-button");
         btnCancelarInscricao.setMaxWidth(Double.MAX_VALUE);
 
+        btnListaEspera = new Button("Entrar na lista de espera");
+        btnListaEspera.setAlignment(Pos.CENTER);
+        btnListaEspera.getStyleClass().add("modal-interact-button");
+        btnListaEspera.setMaxWidth(Double.MAX_VALUE);
+
+        btnSorteio = new Button("Abrir inscrições por sorteio");
+        btnSorteio.getStyleClass().add("action-interact-button");
+        btnSorteio.setMaxWidth(Double.MAX_VALUE);
+
         FlowPane vbAcoes = new FlowPane(10, 10);
         vbAcoes.setPadding(new Insets(5,0,0,0));
         vbAcoes.setAlignment(Pos.CENTER);
@@ -233,6 +244,8 @@ public class EventoModal extends Parent {
 
     public Button getBtnInscrever() {return btnInscrever;}
     public Button getBtnCancelarInscricao() { return btnCancelarInscricao; }
+    public Button getBtnListaEspera() { return btnListaEspera; }
+    public Button getBtnSorteio() { return btnSorteio; }
 
     public Button getBtnComentarios() {return btnComentarios;}
     public Button getBtnCompartilhar() {return btnCompartilhar;}
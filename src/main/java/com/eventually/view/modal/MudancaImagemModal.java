@@ -1,6 +1,7 @@
 package com.eventually.view.modal;
 
 import com.eventually.controller.MudancaImagemController;
+import com.eventually.service.RecursosCompartilhados;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Parent;
@@ -76,7 +77,7 @@ public class MudancaImagemModal extends Parent {
         lbMensagem = new Label("Selecione uma nova imagem");
         lbMensagem.getStyleClass().add("title-label-modal");
 
-        Image provisoria = new Image(getClass().getResourceAsStream("/images/upload-icon.png"));
+        Image provisoria = RecursosCompartilhados.getInstancia().getImagem(RecursosCompartilhados.Imagem.ICONE_UPLOAD);
         imgPreview = new ImageView(provisoria);
         imgPreview.setFitWidth(200);
         imgPreview.setFitHeight(200);
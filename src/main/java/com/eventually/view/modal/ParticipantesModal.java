@@ -1,7 +1,7 @@
 package com.eventually.view.modal;
 
 import com.eventually.model.UsuarioModel;
-import com.eventually.view.HomeView;
+import com.eventually.service.ArmazemImagens;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
@@ -12,30 +12,34 @@ import javafx.scene.layout.*;
 import javafx.scene.shape.Circle;
 import javafx.stage.Stage;
 
+import java.util.List;
+
 /**
  * Modal que exibe a lista de participantes de um evento.
  * Este modal é um VBox projetado para ser adicionado sobre outra tela,
  * geralmente dentro de um StackPane.
+ * O modal é exibido com uma mensagem de carregamento; a lista é preenchida por
+ * {@link #exibirParticipantes(List)} quando a consulta pelo ID do evento termina.
  * @author Gabriella Tavares Costa Corrêa
  * @version 1.0
  * @since 2025-07-02
  */
 public class ParticipantesModal extends VBox {
 
+    private final VBox listaParticipantesVBox = new VBox(10);
+
     /**
-     * Construtor que cria e configura o modal com os participantes do evento.
-     * @param evento O record do evento contendo a lista de participantes.
+     * Construtor que cria e configura o modal, ainda sem os participantes.
      */
-    public ParticipantesModal(HomeView.EventoH evento) {
+    public ParticipantesModal() {
         super(15);
-        this.setupUI(evento);
+        this.setupUI();
     }
 
     /**
      * Configura a interface gráfica do modal.
-     * @param evento O evento cujos participantes serão exibidos.
      */
-    private void setupUI(HomeView.EventoH evento) {
+    private void setupUI() {
         this.getStyleClass().add("participantes-modal-pane");
         this.setMaxSize(350, 450);
         this.setPadding(new Insets(15));
@@ -53,19 +57,8 @@ public class ParticipantesModal extends VBox {
         HBox headerPane = new HBox(lblTitulo, spacer, btnCloseX);
         headerPane.setAlignment(Pos.CENTER_LEFT);
 
-        VBox listaParticipantesVBox = new VBox(10);
         listaParticipantesVBox.setPadding(new Insets(5));
-
-        if (evento.participantes().isEmpty()) {
-            Label infoLabel = new Label("Ainda não há participantes inscritos.");
-            infoLabel.getStyleClass().add("info-label");
-            listaParticipantesVBox.getChildren().add(infoLabel);
-        } else {
-            for (UsuarioModel participante : evento.participantes()) {
-                HBox linhaParticipante = criarLinhaParticipante(participante);
-                listaParticipantesVBox.getChildren().add(linhaParticipante);
-            }
-        }
+        exibirMensagem("Carregando participantes...");
 
         ScrollPane scrollPane = new ScrollPane(listaParticipantesVBox);
         scrollPane.setFitToWidth(true);
@@ -75,6 +68,28 @@ public class ParticipantesModal extends VBox {
         this.getChildren().addAll(headerPane, scrollPane);
     }
 
+    /**
+     * Preenche a lista com os participantes do evento.
+     * @param participantes os participantes, ou {@code null} se o evento não foi encontrado.
+     */
+    public void exibirParticipantes(List<UsuarioModel> participantes) {
+        if (participantes == null || participantes.isEmpty()) {
+            exibirMensagem("Ainda não há participantes inscritos.");
+            return;
+        }
+        listaParticipantesVBox.getChildren().clear();
+        for (UsuarioModel participante : participantes) {
+            HBox linhaParticipante = criarLinhaParticipante(participante);
+            listaParticipantesVBox.getChildren().add(linhaParticipante);
+        }
+    }
+
+    private void exibirMensagem(String mensagem) {
+        Label infoLabel = new Label(mensagem);
+        infoLabel.getStyleClass().add("info-label");
+        listaParticipantesVBox.getChildren().setAll(infoLabel);
+    }
+
     /**
      * Cria uma linha (HBox) para um único participante.
      * @param participante O modelo de usuário do participante.
@@ -82,8 +97,8 @@ public class ParticipantesModal extends VBox {
      */
 
     private HBox criarLinhaParticipante(UsuarioModel participante) {
-        ImageView fotoView = new ImageView(participante.getFoto());
-        double tamanhoFoto = 40;
+        double tamanhoFoto = ArmazemImagens.TAMANHO_AVATAR;
+        ImageView fotoView = new ImageView(ArmazemImagens.getInstancia().fotoDoUsuario(participante, tamanhoFoto));
         fotoView.setFitWidth(tamanhoFoto);
         fotoView.setFitHeight(tamanhoFoto);
 